@@ -0,0 +1,112 @@
+package io.werescuecats.backend.client;
+
+import io.werescuecats.backend.dto.UpstreamCallStatsDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation counters and a fixed-bucket latency histogram for outbound calls
+ */
+public class CallMetrics {
+
+    // Upper bounds of the latency buckets in millis; the last bucket is open-ended
+    static final long[] BUCKET_BOUNDS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private static class Stats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder shortCircuited = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder totalMillis = new LongAdder();
+        final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+    }
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * One attempt that reached the upstream, successful or not
+     */
+    public void recordAttempt(String operation, long millis, boolean failed) {
+        Stats s = stats(operation);
+        s.calls.increment();
+        if (failed) {
+            s.failures.increment();
+        }
+        s.totalMillis.add(millis);
+        s.maxMillis.accumulate(millis);
+        s.buckets.incrementAndGet(bucketOf(millis));
+    }
+
+    public void recordRetry(String operation) {
+        stats(operation).retries.increment();
+    }
+
+    public void recordShortCircuited(String operation) {
+        stats(operation).shortCircuited.increment();
+    }
+
+    public void recordThrottled(String operation) {
+        stats(operation).throttled.increment();
+    }
+
+    public List<UpstreamCallStatsDto> snapshot(String circuitState) {
+        return new TreeMap<>(stats).entrySet().stream()
+            .map(entry -> toDto(entry.getKey(), entry.getValue(), circuitState))
+            .toList();
+    }
+
+    private Stats stats(String operation) {
+        return stats.computeIfAbsent(operation, key -> new Stats());
+    }
+
+    private static UpstreamCallStatsDto toDto(String operation, Stats s, String circuitState) {
+        long calls = s.calls.sum();
+        long failures = s.failures.sum();
+        return UpstreamCallStatsDto.builder()
+            .operation(operation)
+            .calls(calls)
+            .failures(failures)
+            .retries(s.retries.sum())
+            .shortCircuited(s.shortCircuited.sum())
+            .throttled(s.throttled.sum())
+            .errorRate(calls == 0 ? 0.0 : (double) failures / calls)
+            .avgMillis(calls == 0 ? 0.0 : (double) s.totalMillis.sum() / calls)
+            .p95Millis(percentile(s, calls, 0.95))
+            .maxMillis(s.maxMillis.get())
+            .circuitState(circuitState)
+            .build();
+    }
+
+    // Upper bound of the bucket holding the percentile, never more than the slowest call seen
+    private static long percentile(Stats s, long calls, double percentile) {
+        if (calls == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * calls);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += s.buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(BUCKET_BOUNDS_MS[i], s.maxMillis.get());
+            }
+        }
+        return s.maxMillis.get();
+    }
+
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            if (millis <= BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+}
@@ -0,0 +1,187 @@
+package io.werescuecats.backend.client;
+
+import io.werescuecats.backend.dto.UpstreamCallStatsDto;
+import io.werescuecats.backend.exception.UpstreamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Guards every call to TheCatAPI: a client-side rate limit, a circuit breaker, retries of idempotent
+ * calls with jittered exponential backoff, and latency/error metrics per operation.
+ */
+@Component
+@Slf4j
+public class CatApiResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxRateLimitWait;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final CallMetrics metrics = new CallMetrics();
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+    // Picks the jittered delay in [0, cap]
+    private final LongUnaryOperator jitter;
+
+    @Autowired
+    public CatApiResilienceInterceptor(@Value("${catapi.client.max-attempts:3}") int maxAttempts,
+                                       @Value("${catapi.client.initial-backoff:200ms}") Duration initialBackoff,
+                                       @Value("${catapi.client.max-backoff:5s}") Duration maxBackoff,
+                                       @Value("${catapi.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                       @Value("${catapi.client.circuit-breaker.open-duration:30s}") Duration openDuration,
+                                       @Value("${catapi.client.rate-limit.permits-per-second:10}") double permitsPerSecond,
+                                       @Value("${catapi.client.rate-limit.burst:10}") int burst,
+                                       @Value("${catapi.client.rate-limit.max-wait:2s}") Duration maxRateLimitWait) {
+        this(maxAttempts, initialBackoff, maxBackoff, maxRateLimitWait,
+            new CircuitBreaker(failureThreshold, openDuration, System::nanoTime),
+            new RateLimiter(permitsPerSecond, burst, System::nanoTime),
+            System::nanoTime, TimeUnit.NANOSECONDS::sleep, cap -> ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    CatApiResilienceInterceptor(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration maxRateLimitWait,
+                                CircuitBreaker circuitBreaker, RateLimiter rateLimiter,
+                                LongSupplier nanoClock, Sleeper sleeper, LongUnaryOperator jitter) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxRateLimitWait = maxRateLimitWait;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String operation = request.getMethod() + " " + request.getURI().getPath();
+        boolean idempotent = request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.HEAD;
+        int attempts = idempotent ? maxAttempts : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            acquirePermits(operation);
+            long start = nanoClock.getAsLong();
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                metrics.recordAttempt(operation, elapsedMillis(start), true);
+                circuitBreaker.onFailure();
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                log.warn("{} failed (attempt {}/{}): {}", operation, attempt, attempts, e.getMessage());
+                backOff(operation, attempt, null);
+                continue;
+            } catch (RuntimeException e) {
+                // Not retried, but still reported, or a half-open trial would stay in flight forever
+                metrics.recordAttempt(operation, elapsedMillis(start), true);
+                circuitBreaker.onFailure();
+                throw e;
+            }
+
+            boolean failed = isUpstreamFailure(response.getStatusCode());
+            metrics.recordAttempt(operation, elapsedMillis(start), failed);
+            if (!failed) {
+                circuitBreaker.onSuccess();
+                return response;
+            }
+            circuitBreaker.onFailure();
+            if (attempt >= attempts) {
+                return response;
+            }
+            log.warn("{} returned {} (attempt {}/{})", operation, response.getStatusCode().value(), attempt, attempts);
+            Duration retryAfter = retryAfter(response);
+            response.close();
+            backOff(operation, attempt, retryAfter);
+        }
+    }
+
+    public List<UpstreamCallStatsDto> getStats() {
+        return metrics.snapshot(circuitBreaker.getState().name());
+    }
+
+    // Rate limit first: a call that is throttled never holds the breaker's half-open trial slot
+    private void acquirePermits(String operation) throws IOException {
+        long waitNanos = rateLimiter.reserve(maxRateLimitWait);
+        if (waitNanos < 0) {
+            metrics.recordThrottled(operation);
+            throw new UpstreamUnavailableException("TheCatAPI client rate limit reached");
+        }
+        if (waitNanos > 0) {
+            sleep(waitNanos);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordShortCircuited(operation);
+            throw new UpstreamUnavailableException("TheCatAPI circuit breaker is open");
+        }
+    }
+
+    private void backOff(String operation, int attempt, Duration retryAfter) throws IOException {
+        metrics.recordRetry(operation);
+        sleep(backoffNanos(attempt, retryAfter));
+    }
+
+    // Full jitter over an exponentially growing cap; an upstream Retry-After is honoured up to maxBackoff
+    long backoffNanos(int attempt, Duration retryAfter) {
+        long cap = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempt - 1, 20));
+        long delay = jitter.applyAsLong(cap);
+        if (retryAfter != null) {
+            delay = Math.max(delay, Math.min(retryAfter.toNanos(), maxBackoff.toNanos()));
+        }
+        return delay;
+    }
+
+    private void sleep(long nanos) throws IOException {
+        try {
+            sleeper.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to call TheCatAPI");
+        }
+    }
+
+    private long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - start);
+    }
+
+    private static boolean isUpstreamFailure(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static Duration retryAfter(ClientHttpResponse response) {
+        String value = response.getHeaders().getFirst("Retry-After");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
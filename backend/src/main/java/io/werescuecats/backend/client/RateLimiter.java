@@ -0,0 +1,46 @@
+package io.werescuecats.backend.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that keeps outbound calls under the upstream quota.
+ * Callers reserve a token and sleep until it is due, but give up instead of waiting longer than maxWait.
+ */
+public class RateLimiter {
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public RateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Nanoseconds the caller has to wait for its permit, or -1 if that would exceed maxWait (no permit is taken then)
+     */
+    public synchronized long reserve(Duration maxWait) {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / permitsPerNano);
+        if (waitNanos > maxWait.toNanos()) {
+            return -1;
+        }
+        // Borrow the token; later callers queue up behind it
+        tokens -= 1;
+        return waitNanos;
+    }
+}
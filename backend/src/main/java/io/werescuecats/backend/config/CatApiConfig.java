@@ -1,10 +1,15 @@
 package io.werescuecats.backend.config;
 
+import io.werescuecats.backend.client.CatApiResilienceInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 import lombok.Getter;
 
 @Configuration
@@ -21,9 +26,28 @@ public class CatApiConfig {
     @Value("${catapi.fetch-on-startup:true}")
     private boolean fetchOnStartup;
     
+    @Value("${catapi.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${catapi.client.read-timeout:5s}")
+    private Duration readTimeout;
+    
+    /**
+     * Shared client for TheCatAPI. The JDK HttpClient keeps idle connections alive and reuses them,
+     * and every call passes through the rate limiter, circuit breaker and retry interceptor.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CatApiResilienceInterceptor resilienceInterceptor) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(resilienceInterceptor);
+        return restTemplate;
     }
     
     public boolean isFetchOnStartup() {
@@ -6,7 +6,12 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import io.werescuecats.backend.exception.CatNotAvailableException;
+import io.werescuecats.backend.exception.CatReservationConflictException;
+import io.werescuecats.backend.exception.InvalidAdoptionTransitionException;
+import io.werescuecats.backend.exception.InvalidCursorException;
+import io.werescuecats.backend.exception.InvalidImageUrlException;
 import io.werescuecats.backend.exception.ResourceNotFoundException;
+import io.werescuecats.backend.exception.UpstreamUnavailableException;
 import io.werescuecats.backend.exception.UserNotFoundException;
 
 @RestControllerAdvice
@@ -24,6 +29,36 @@ public class GlobalExceptionHandler {
         return ex.getMessage();
     }
 
+    @ExceptionHandler(CatReservationConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleCatReservationConflict(CatReservationConflictException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(InvalidAdoptionTransitionException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleInvalidAdoptionTransition(InvalidAdoptionTransitionException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleUpstreamUnavailable(UpstreamUnavailableException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidCursor(InvalidCursorException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(InvalidImageUrlException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidImageUrl(InvalidImageUrlException ex) {
+        return ex.getMessage();
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public String handleUserNotFound(UserNotFoundException ex) {
@@ -34,12 +34,18 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/startup").permitAll()
                         .requestMatchers("/api/breeds/**").permitAll()
+                        .requestMatchers("/api/images").permitAll()
                         .requestMatchers("/api/cats/available").permitAll()
+                        .requestMatchers("/api/cats/available/page").permitAll()
+                        // Pages through cats in every status, like GET /api/cats; must precede the wildcard below
+                        .requestMatchers("/api/cats/page").authenticated()
                         .requestMatchers("/api/cats/*").permitAll()
                         .requestMatchers("/api/health-data/**").permitAll() 
                         .requestMatchers("/api/adoptions").authenticated()
                         .requestMatchers("/api/adoptions/user/**").authenticated()
+                        .requestMatchers("/api/adoptions/*/cancel").authenticated()
                         .requestMatchers("/api/adoptions/**").hasRole("ADMIN")
                         .requestMatchers("/api/cats/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/users/**").hasRole("ADMIN")
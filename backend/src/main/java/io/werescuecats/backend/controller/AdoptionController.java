@@ -1,15 +1,21 @@
 package io.werescuecats.backend.controller;
 
+import io.werescuecats.backend.dto.AdoptionDecisionDto;
+import io.werescuecats.backend.dto.AdoptionDecisionResultDto;
 import io.werescuecats.backend.dto.AdoptionDto;
 import io.werescuecats.backend.dto.AdoptionRequestDto;
 import io.werescuecats.backend.dto.AdoptionStatsDto;
 import io.werescuecats.backend.dto.AdoptionCatDto;
+import io.werescuecats.backend.dto.CursorPageDto;
+import io.werescuecats.backend.dto.DateIdCursor;
 import io.werescuecats.backend.dto.RejectAdoptionRequestDto;
+import io.werescuecats.backend.dto.ReviewQueueItemDto;
 import io.werescuecats.backend.dto.AdoptionUserDto;
 import io.werescuecats.backend.entity.Adoption;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.User;
 import io.werescuecats.backend.security.CustomUserDetails;
+import io.werescuecats.backend.service.AdoptionDecisionService;
 import io.werescuecats.backend.service.AdoptionService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +24,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -29,9 +36,11 @@ import java.util.stream.Collectors;
 public class AdoptionController {
     
     private final AdoptionService adoptionService;
+    private final AdoptionDecisionService adoptionDecisionService;
 
-    public AdoptionController(AdoptionService adoptionService){
+    public AdoptionController(AdoptionService adoptionService, AdoptionDecisionService adoptionDecisionService){
         this.adoptionService = adoptionService;
+        this.adoptionDecisionService = adoptionDecisionService;
     }
     
     @PostMapping
@@ -78,6 +87,34 @@ public class AdoptionController {
         return ResponseEntity.ok(dtos);
     }
     
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<AdoptionDto>> getAdoptionsPage(@RequestParam(required = false) String cursor,
+                                                                        @RequestParam(required = false) Integer limit) {
+        log.info("Fetching adoptions page after cursor {}", cursor);
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<Adoption> adoptions = adoptionService.getAdoptionsAfter(CursorPageDto.decodeCursor(cursor), pageSize + 1);
+        return ResponseEntity.ok(CursorPageDto.of(adoptions, pageSize, Adoption::getId, this::toAdoptionDto));
+    }
+    
+    /**
+     * Pending adoptions for review, highest priority first
+     * GET /api/adoptions/review-queue?cursor={nextCursor}&limit=50
+     */
+    @GetMapping("/review-queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<ReviewQueueItemDto>> getReviewQueue(@RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Integer limit) {
+        log.info("Fetching review queue after cursor {}", cursor);
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<Adoption> adoptions = adoptionService.getReviewQueue(DateIdCursor.decode(cursor, DateIdCursor.REVIEW_QUEUE), pageSize + 1);
+        LocalDateTime now = LocalDateTime.now();
+        return ResponseEntity.ok(CursorPageDto.ofKeyset(adoptions, pageSize,
+            adoption -> new DateIdCursor(adoption.getReviewPriorityDate(), adoption.getId()).encode(DateIdCursor.REVIEW_QUEUE),
+            adoption -> new ReviewQueueItemDto(toAdoptionDto(adoption), AdoptionService.priorityScore(adoption, now),
+                adoption.getDaysFromApplication())));
+    }
+    
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AdoptionDto> getAdoptionById(@PathVariable Long id) {
@@ -96,14 +133,9 @@ public class AdoptionController {
     public ResponseEntity<AdoptionDto> approveAdoption(@PathVariable Long id, 
                                                        @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         log.info("Approving adoption {} by admin {}", id, customUserDetails.getUser().getFullName());
-        try {
-            User admin = customUserDetails.getUser();
-            Adoption adoption = adoptionService.approveAdoption(id, admin);
-            return ResponseEntity.ok(toAdoptionDto(adoption));
-        } catch (Exception e) {
-            log.error("Error approving adoption", e);
-            return ResponseEntity.badRequest().build();
-        }
+        User admin = customUserDetails.getUser();
+        Adoption adoption = adoptionService.approveAdoption(id, admin);
+        return ResponseEntity.ok(toAdoptionDto(adoption));
     }
     
     @PutMapping("/{id}/complete")
@@ -111,14 +143,9 @@ public class AdoptionController {
     public ResponseEntity<AdoptionDto> completeAdoption(@PathVariable Long id, 
                                                         @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         log.info("Completing adoption {} by admin {}", id, customUserDetails.getUser().getFullName());
-        try {
-            User admin = customUserDetails.getUser();
-            Adoption adoption = adoptionService.completeAdoption(id, admin);
-            return ResponseEntity.ok(toAdoptionDto(adoption));
-        } catch (Exception e) {
-            log.error("Error completing adoption", e);
-            return ResponseEntity.badRequest().build();
-        }
+        User admin = customUserDetails.getUser();
+        Adoption adoption = adoptionService.completeAdoption(id, admin);
+        return ResponseEntity.ok(toAdoptionDto(adoption));
     }
     
     @PutMapping("/{id}/reject")
@@ -128,14 +155,29 @@ public class AdoptionController {
                                                       @Valid @RequestBody RejectAdoptionRequestDto request) {
         log.info("Rejecting adoption {} by admin {} with reason: {}", 
                 id, customUserDetails.getUser().getFullName(), request.getReason());
-        try {
-            User admin = customUserDetails.getUser();
-            Adoption adoption = adoptionService.rejectAdoption(id, admin, request.getReason());
-            return ResponseEntity.ok(toAdoptionDto(adoption));
-        } catch (Exception e) {
-            log.error("Error rejecting adoption", e);
-            return ResponseEntity.badRequest().build();
-        }
+        User admin = customUserDetails.getUser();
+        Adoption adoption = adoptionService.rejectAdoption(id, admin, request.getReason());
+        return ResponseEntity.ok(toAdoptionDto(adoption));
+    }
+    
+    /**
+     * Approve or reject many adoptions at once, with a result per entry
+     * PUT /api/adoptions/bulk-decisions  [{"adoptionId": 1, "action": "APPROVE"}, {"adoptionId": 2, "action": "REJECT", "reason": "..."}]
+     */
+    @PutMapping("/bulk-decisions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdoptionDecisionResultDto> decideAdoptions(@RequestBody List<AdoptionDecisionDto> decisions,
+                                                                     @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        log.info("Bulk decision on {} adoptions by admin {}", decisions.size(), customUserDetails.getUser().getFullName());
+        return ResponseEntity.ok(adoptionDecisionService.decide(decisions, customUserDetails.getUser()));
+    }
+    
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<AdoptionDto> cancelAdoption(@PathVariable Long id,
+                                                      @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        log.info("Cancelling adoption {} by {}", id, customUserDetails.getUser().getFullName());
+        Adoption adoption = adoptionService.cancelAdoption(id, customUserDetails.getUser());
+        return ResponseEntity.ok(toAdoptionDto(adoption));
     }
     
     @GetMapping("/user/{userId}/stats")
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,25 +26,29 @@ public class BreedController {
     }
     
     @GetMapping
-    public ResponseEntity<List<BreedDto>> getAllBreeds() {
+    public ResponseEntity<List<BreedDto>> getAllBreeds(WebRequest request) {
         log.info("Fetching breeds");
-        List<Breed> breedPage = breedService.getAllBreeds();
-        List<BreedDto> dtoPage = breedPage.stream()
-                                          .map(this::toDto)
-                                          .collect(Collectors.toList());
-        return ResponseEntity.ok(dtoPage);
+        return ConditionalGet.respond(request, breedService.getBreedsETag(), breedService.getBreedsLastModified(), () -> {
+            List<Breed> breedPage = breedService.getAllBreeds();
+            List<BreedDto> dtoPage = breedPage.stream()
+                                              .map(this::toDto)
+                                              .collect(Collectors.toList());
+            return ResponseEntity.ok(dtoPage);
+        });
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<BreedDto> getBreedById(@PathVariable String id) {
+    public ResponseEntity<BreedDto> getBreedById(@PathVariable String id, WebRequest request) {
         log.info("Fetching breed with ID: {}", id);
-        Optional<Breed> breed = breedService.getBreedById(id);
-        
-        if (breed.isPresent()) {
-            return ResponseEntity.ok(toDto(breed.get()));
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+        return ConditionalGet.respond(request, breedService.getBreedsETag(), breedService.getBreedsLastModified(), () -> {
+            Optional<Breed> breed = breedService.getBreedById(id);
+            
+            if (breed.isPresent()) {
+                return ResponseEntity.ok(toDto(breed.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        });
     }
     
     /**
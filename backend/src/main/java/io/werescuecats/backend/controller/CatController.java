@@ -1,53 +1,154 @@
 package io.werescuecats.backend.controller;
 
+import io.werescuecats.backend.dto.BulkResultDto;
+import io.werescuecats.backend.dto.BulkStatusChangeDto;
 import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.CatalogCacheStatsDto;
+import io.werescuecats.backend.dto.CursorPageDto;
+import io.werescuecats.backend.dto.FacetSearchResultDto;
 import io.werescuecats.backend.dto.StatusUpdateRequestDto;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.security.CustomUserDetails;
 import io.werescuecats.backend.service.BreedService;
+import io.werescuecats.backend.service.CatBulkService;
+import io.werescuecats.backend.service.CatFacetIndex;
+import io.werescuecats.backend.service.CatRecommender;
 import io.werescuecats.backend.service.CatService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/cats")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = CatController.SEARCH_TRUNCATED_HEADER)
 @Slf4j
 @AllArgsConstructor
 public class CatController {
+
+    private static final int MAX_NEAREST = 100;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_FACET_PAGE_SIZE = 100;
+    private static final int MAX_RECOMMENDED = 100;
+    static final String SEARCH_TRUNCATED_HEADER = "X-Search-Truncated";
     
     private final CatService catService;
     private final BreedService breedService;
+    private final CatBulkService catBulkService;
         
         @GetMapping("/available")
-        public ResponseEntity<List<CatDto>> getAvailableCats() {
+        public ResponseEntity<List<CatDto>> getAvailableCats(WebRequest request) {
             log.info("Fetching available cats");
-            List<Cat> cats = catService.getAvailableCats();
-            List<CatDto> catDtos = cats.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(catDtos);
+            return ConditionalGet.respond(request, catService.getCatalogETag(), catService.getCatalogLastModified(),
+                () -> ResponseEntity.ok(catService.getAvailableCatDtos()));
+        }
+        
+        /**
+         * Keyset-paginated available cats
+         * GET /api/cats/available/page?cursor={value}&limit={value}
+         */
+        @GetMapping("/available/page")
+        public ResponseEntity<CursorPageDto<CatDto>> getAvailableCatsPage(
+                @RequestParam(required = false) String cursor,
+                @RequestParam(required = false) Integer limit) {
+            int pageSize = CursorPageDto.clampLimit(limit);
+            List<CatDto> cats = catService.getAvailableCatsAfter(CursorPageDto.decodeCursor(cursor), pageSize + 1);
+            return ResponseEntity.ok(CursorPageDto.of(cats, pageSize, CatDto::getId, Function.identity()));
+        }
+        
+        /**
+         * Search cats by name, breed, address and description, best match first.
+         * Anonymous callers only ever see available cats, whatever status they ask for.
+         * Sets X-Search-Truncated when the last word matched too many terms to expand them all.
+         * GET /api/cats/search?q={value}&status={value}&limit={value}
+         */
+        @GetMapping("/search")
+        public ResponseEntity<List<CatDto>> searchCats(
+                @RequestParam String q,
+                @RequestParam(required = false) CatStatus status,
+                @RequestParam(defaultValue = "20") Integer limit,
+                @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+            if (customUserDetails == null) {
+                status = CatStatus.AVAILABLE;
+            }
+            log.info("Searching cats: q={}, status={}", q, status);
+            CatService.SearchResult result = catService.searchCats(q, status, Math.max(0, Math.min(limit, MAX_SEARCH_RESULTS)));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (result.truncated()) {
+                response.header(SEARCH_TRUNCATED_HEADER, "true");
+            }
+            return response.body(result.cats());
+        }
+        
+        /**
+         * Available cats ranked by how well they match the adopter; trait levels are 1-5, every parameter is optional
+         * GET /api/cats/recommended?childFriendly={val}&dogFriendly={val}&energyLevel={val}&grooming={val}&affectionLevel={val}&ageGroup={val}&gender={val}&lat={val}&lon={val}&maxDistanceKm={val}&limit={val}
+         */
+        @GetMapping("/recommended")
+        public ResponseEntity<List<CatDto>> getRecommendedCats(
+                @RequestParam(required = false) Integer childFriendly,
+                @RequestParam(required = false) Integer dogFriendly,
+                @RequestParam(required = false) Integer energyLevel,
+                @RequestParam(required = false) Integer grooming,
+                @RequestParam(required = false) Integer affectionLevel,
+                @RequestParam(required = false) String ageGroup,
+                @RequestParam(required = false) String gender,
+                @RequestParam(required = false) Double lat,
+                @RequestParam(required = false) Double lon,
+                @RequestParam(required = false) Double maxDistanceKm,
+                @RequestParam(defaultValue = "20") Integer limit) {
+            CatRecommender.Preferences preferences = new CatRecommender.Preferences(childFriendly, dogFriendly, energyLevel,
+                    grooming, affectionLevel, ageGroup, gender, lat, lon, maxDistanceKm);
+            return ResponseEntity.ok(catService.getRecommendedCats(preferences, Math.max(0, Math.min(limit, MAX_RECOMMENDED))));
+        }
+
+        /**
+         * Faceted search; repeat a parameter to select several values (breed traits must all hold).
+         * Anonymous callers only see available cats, in the results and in the counts.
+         * GET /api/cats/facets?status={value}&gender={value}&ageGroup={value}&breed={value}&traits={value}&page={value}&size={value}
+         */
+        @GetMapping("/facets")
+        public ResponseEntity<FacetSearchResultDto> facetSearch(
+                @RequestParam(required = false) List<String> status,
+                @RequestParam(required = false) List<String> gender,
+                @RequestParam(required = false) List<String> ageGroup,
+                @RequestParam(required = false) List<String> breed,
+                @RequestParam(required = false) List<String> traits,
+                @RequestParam(defaultValue = "0") Integer page,
+                @RequestParam(defaultValue = "20") Integer size,
+                @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+            Map<String, Set<String>> filters = new HashMap<>();
+            addFilter(filters, CatFacetIndex.STATUS, status);
+            addFilter(filters, CatFacetIndex.GENDER, gender);
+            addFilter(filters, CatFacetIndex.AGE_GROUP, ageGroup);
+            addFilter(filters, CatFacetIndex.BREED, breed);
+            addFilter(filters, CatFacetIndex.TRAITS, traits);
+            int pageSize = Math.max(1, Math.min(size, MAX_FACET_PAGE_SIZE));
+            return ResponseEntity.ok(catService.facetSearch(filters, customUserDetails == null, Math.max(0, page), pageSize));
         }
         
         @GetMapping("/breed/{breedId}")
-        public ResponseEntity<List<CatDto>> getCatsByBreed(@PathVariable String breedId) {
+        public ResponseEntity<List<CatDto>> getCatsByBreed(@PathVariable String breedId, WebRequest request) {
             log.info("Fetching cats for breed: {}", breedId);
-            List<Cat> cats = catService.getCatsByBreed(breedId);
-            List<CatDto> catDtos = cats.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(catDtos);
+            return ConditionalGet.respond(request, catService.getCatalogETag(), catService.getCatalogLastModified(),
+                () -> ResponseEntity.ok(catService.getCatDtosByBreed(breedId)));
         }
         
         /**
-         * Get cats in geographical area
+         * Get available cats within a radius (km), nearest first
          * GET /api/cats/area?lat={value}&lon={value}&radius={value}
          */
         @GetMapping("/area")
@@ -57,54 +158,70 @@ public class CatController {
                 @RequestParam(defaultValue = "10.0") Double radius) {
             
             log.info("Fetching cats in area: lat={}, lon={}, radius={}", lat, lon, radius);
-            List<Cat> cats = catService.getCatsInArea(lat, lon, radius);
-            List<CatDto> catDtos = cats.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(catDtos);
+            return ResponseEntity.ok(catService.getCatsInArea(lat, lon, radius));
+        }
+
+        /**
+         * Get the k available cats closest to a point, nearest first
+         * GET /api/cats/nearest?lat={value}&lon={value}&k={value}
+         */
+        @GetMapping("/nearest")
+        public ResponseEntity<List<CatDto>> getNearestCats(
+                @RequestParam Double lat,
+                @RequestParam Double lon,
+                @RequestParam(defaultValue = "10") Integer k) {
+
+            log.info("Fetching {} nearest cats to lat={}, lon={}", k, lat, lon);
+            return ResponseEntity.ok(catService.getNearestCats(lat, lon, Math.min(k, MAX_NEAREST)));
         }
     
         @GetMapping("/admin/pending")
         @PreAuthorize("hasRole('ADMIN')")
         public ResponseEntity<List<CatDto>> getPendingCats() {
             log.info("Fetching pending cats");
-            List<Cat> cats = catService.getPendingCats();
-            List<CatDto> catDtos = cats.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(catDtos);
+            return ResponseEntity.ok(catService.getPendingCats());
         }
     
         @GetMapping("/admin/adopted")
         @PreAuthorize("hasRole('ADMIN')")
         public ResponseEntity<List<CatDto>> getAdoptedCats() {
-            log.info("Fetching available cats");
-            List<Cat> cats = catService.getAdoptedCats();
-            List<CatDto> catDtos = cats.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-            return ResponseEntity.ok(catDtos);
+            log.info("Fetching adopted cats");
+            return ResponseEntity.ok(catService.getAdoptedCats());
         }
         
         @GetMapping("/{id}")
-        public ResponseEntity<CatDto> getCatById(@PathVariable Long id) {
+        public ResponseEntity<CatDto> getCatById(@PathVariable Long id, WebRequest request) {
             log.info("Fetching cat with ID: {}", id);
-            Optional<Cat> cat = catService.getCatById(id);
-    
-            Optional<CatDto> catDto = cat.map(this::toDto);
-            
-            return catDto.map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            return ConditionalGet.respond(request, catService.getCatalogETag(), catService.getCatalogLastModified(), () -> {
+                Optional<CatDto> catDto = catService.getCatDtoById(id);
+                return catDto.map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+            });
         }
     
         @GetMapping
         public ResponseEntity<List<CatDto>> getAllCats() {
             log.info("Fetching all cats");
-            List<Cat> cats = catService.getAllCats();
-            List<CatDto> catDtos = cats.stream()
-                                       .map(this::toDto)
-                                       .collect(Collectors.toList());
-            return ResponseEntity.ok(catDtos);
+            return ResponseEntity.ok(catService.getAllCatDtos());
+        }
+        
+        /**
+         * Keyset-paginated listing of all cats
+         * GET /api/cats/page?cursor={value}&limit={value}
+         */
+        @GetMapping("/page")
+        public ResponseEntity<CursorPageDto<CatDto>> getCatsPage(
+                @RequestParam(required = false) String cursor,
+                @RequestParam(required = false) Integer limit) {
+            int pageSize = CursorPageDto.clampLimit(limit);
+            List<CatDto> cats = catService.getCatsAfter(CursorPageDto.decodeCursor(cursor), pageSize + 1);
+            return ResponseEntity.ok(CursorPageDto.of(cats, pageSize, CatDto::getId, Function.identity()));
+        }
+        
+        @GetMapping("/admin/catalog-stats")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<CatalogCacheStatsDto> getCatalogCacheStats() {
+            return ResponseEntity.ok(catService.getCatalogCacheStats());
         }
         
         @PostMapping("/admin/create")
@@ -125,6 +242,40 @@ public class CatController {
             }
         }
         
+        /**
+         * Bulk import from CSV (header row required) or NDJSON, with a result per row
+         * POST /api/cats/admin/import  Content-Type: text/csv | application/x-ndjson
+         */
+        @PostMapping(value = "/admin/import", consumes = "text/csv")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<BulkResultDto> importCatsCsv(InputStream body) {
+            log.info("Importing cats from CSV");
+            try {
+                return ResponseEntity.ok(catBulkService.importCsv(body));
+            } catch (IllegalArgumentException e) {
+                log.error("Rejected CSV import: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        
+        @PostMapping(value = "/admin/import", consumes = "application/x-ndjson")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<BulkResultDto> importCatsNdjson(InputStream body) {
+            log.info("Importing cats from NDJSON");
+            return ResponseEntity.ok(catBulkService.importNdjson(body));
+        }
+        
+        /**
+         * Change the status of many cats at once, with a result per entry
+         * PUT /api/cats/admin/bulk-status  [{"catId": 1, "status": "ADOPTED"}, ...]
+         */
+        @PutMapping("/admin/bulk-status")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<BulkResultDto> updateCatStatuses(@RequestBody List<BulkStatusChangeDto> changes) {
+            log.info("Bulk status update for {} cats", changes.size());
+            return ResponseEntity.ok(catBulkService.updateStatuses(changes));
+        }
+        
         @PutMapping("/admin/{id}/status")
         @PreAuthorize("hasRole('ADMIN')")
         public ResponseEntity<CatDto> updateCatStatus(@PathVariable Long id, 
@@ -140,28 +291,19 @@ public class CatController {
             }
         }
     
+        private static void addFilter(Map<String, Set<String>> filters, String facet, List<String> values) {
+            if (values != null && !values.isEmpty()) {
+                filters.put(facet, new LinkedHashSet<>(values));
+            }
+        }
+    
         //Map Entity to DTO
         public CatDto toDto(Cat cat) {
             if (cat == null) {
                 return null;
             }
             
-            return CatDto.builder()
-                .id(cat.getId())
-                .name(cat.getName())
-                .age(cat.getAge())
-                .gender(cat.getGender())
-                .description(cat.getDescription())
-                .breedId(cat.getBreed() != null ? cat.getBreed().getId() : null)
-                .breedName(cat.getBreed() != null ? cat.getBreed().getName() : null)
-                .imageUrl(cat.getImageUrl())
-                .latitude(cat.getLatitude())
-                .longitude(cat.getLongitude())
-                .address(cat.getAddress())
-                .status(cat.getStatus())
-                .createdAt(cat.getCreatedAt())
-                .updatedAt(cat.getUpdatedAt())
-                .build();
+            return CatDto.fromEntity(cat);
         }
     
         public Cat toCatEntity(CatDto catDto){
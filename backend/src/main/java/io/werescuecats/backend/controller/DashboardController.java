@@ -1,6 +1,8 @@
 package io.werescuecats.backend.controller;
 
+import io.werescuecats.backend.client.CatApiResilienceInterceptor;
 import io.werescuecats.backend.dto.DashboardStatsDto;
+import io.werescuecats.backend.dto.UpstreamCallStatsDto;
 import io.werescuecats.backend.entity.AdoptionStatus;
 import io.werescuecats.backend.entity.CatStatus;
 import io.werescuecats.backend.service.AdoptionService;
@@ -9,8 +11,11 @@ import io.werescuecats.backend.service.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/dashboard")
 @CrossOrigin(origins = "*")
@@ -25,6 +30,9 @@ public class DashboardController {
     
     @Autowired
     private AdoptionService adoptionService;
+
+    @Autowired
+    private CatApiResilienceInterceptor catApiInterceptor;
     
     @GetMapping("/stats")
     public ResponseEntity<DashboardStatsDto> getDashboardStats() {
@@ -51,4 +59,14 @@ public class DashboardController {
         
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Latency, error and retry counts for calls to TheCatAPI, plus the circuit breaker state
+     * GET /api/dashboard/upstream
+     */
+    @GetMapping("/upstream")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<UpstreamCallStatsDto>> getUpstreamStats() {
+        return ResponseEntity.ok(catApiInterceptor.getStats());
+    }
 }
@@ -1,37 +1,109 @@
 package io.werescuecats.backend.controller;
 
-import io.werescuecats.backend.dto.AnonymousAdoptionData;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.werescuecats.backend.dto.DateIdCursor;
+import io.werescuecats.backend.exception.InvalidCursorException;
 import io.werescuecats.backend.service.AdoptionService;
 import io.werescuecats.backend.service.ApiTokenService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/health-data")
-@CrossOrigin(origins = "*")
-@RequiredArgsConstructor
+@CrossOrigin(origins = "*", exposedHeaders = HealthDataController.NEXT_CURSOR_HEADER)
 @Slf4j
 public class HealthDataController {
-    
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final AdoptionService adoptionService;
     private final ApiTokenService apiTokenService;
-    
+    // Rows are written one by one into the generator's buffer; flushing after each would mean a socket write per row
+    private final ObjectWriter rowWriter;
+
+    public HealthDataController(AdoptionService adoptionService, ApiTokenService apiTokenService,
+                                ObjectMapper objectMapper) {
+        this.adoptionService = adoptionService;
+        this.apiTokenService = apiTokenService;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Completed adoptions, anonymised, in completion order, streamed as they are read from the database.
+     * A JSON array by default; one object per line with Accept: application/x-ndjson.
+     * Without since or cursor this is the full history. X-Next-Cursor names where the export ended; pass it back
+     * as cursor to get only the adoptions completed after it.
+     */
     @GetMapping("/anonymous-adoptions")
-    public ResponseEntity<List<AnonymousAdoptionData>> getAnonymousData(
-            @RequestHeader("X-API-Token") String apiToken) {
-        
+    public ResponseEntity<StreamingResponseBody> getAnonymousData(
+            @RequestHeader("X-API-Token") String apiToken,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor) {
+
         if (!apiTokenService.isValidToken(apiToken)) {
             log.warn("Invalid API token attempted: {}", apiToken);
             return ResponseEntity.status(401).build();
         }
-        
+        if (since != null && cursor != null) {
+            throw new InvalidCursorException("Pass either since or cursor, not both");
+        }
+
         log.info("Anonymous data accessed with token: {}", apiToken);
-        List<AnonymousAdoptionData> data = adoptionService.getAnonymousAdoptionData();
-        
-        return ResponseEntity.ok(data);
+        // Completed at since exactly counts as already seen, whatever the id
+        DateIdCursor after = since != null
+            ? new DateIdCursor(since, Long.MAX_VALUE)
+            : DateIdCursor.decode(cursor, DateIdCursor.COMPLETED_ADOPTIONS);
+        DateIdCursor end = adoptionService.getAnonymousExportEnd()
+            .filter(candidate -> after == null || candidate.compareTo(after) > 0)
+            .orElse(null);
+        // With nothing new the partner keeps its position
+        DateIdCursor next = end != null ? end : after;
+
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = rowWriter.createGenerator(out)) {
+                // Lines are ended explicitly below; the default separator would put a space between root values
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+                if (end != null) {
+                    adoptionService.streamAnonymousAdoptionData(after, end, row -> {
+                        try {
+                            rowWriter.writeValue(generator, row);
+                            if (ndjson) {
+                                generator.writeRaw('\n');
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON);
+        if (next != null) {
+            response.header(NEXT_CURSOR_HEADER, next.encode(DateIdCursor.COMPLETED_ADOPTIONS));
+        }
+        return response.body(body);
     }
-}
\ No newline at end of file
+}
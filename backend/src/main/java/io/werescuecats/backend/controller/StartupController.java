@@ -0,0 +1,29 @@
+package io.werescuecats.backend.controller;
+
+import io.werescuecats.backend.dto.StartupReportDto;
+import io.werescuecats.backend.service.StartupOrchestrator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/startup")
+@CrossOrigin(origins = "*")
+public class StartupController {
+
+    private final StartupOrchestrator startupOrchestrator;
+
+    public StartupController(StartupOrchestrator startupOrchestrator) {
+        this.startupOrchestrator = startupOrchestrator;
+    }
+
+    /**
+     * Readiness and per-stage timings of the startup pipeline; 503 until the critical stages are done
+     * GET /api/startup
+     */
+    @GetMapping
+    public ResponseEntity<StartupReportDto> getStartupReport() {
+        StartupReportDto report = startupOrchestrator.getReport();
+        return ResponseEntity.status(report.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(report);
+    }
+}
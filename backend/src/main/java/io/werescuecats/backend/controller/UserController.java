@@ -1,5 +1,6 @@
 package io.werescuecats.backend.controller;
 
+import io.werescuecats.backend.dto.CursorPageDto;
 import io.werescuecats.backend.dto.RegisterRequestDto;
 import io.werescuecats.backend.dto.UserDto;
 import io.werescuecats.backend.entity.User;
@@ -87,6 +88,16 @@ public class UserController {
         }
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<UserDto>> getUsersPage(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit) {
+        log.info("Fetching users page after cursor {}", cursor);
+        int pageSize = CursorPageDto.clampLimit(limit);
+        List<User> users = userService.getUsersAfter(CursorPageDto.decodeCursor(cursor), pageSize + 1);
+        return ResponseEntity.ok(CursorPageDto.of(users, pageSize, User::getId, this::createSafeUserDto));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
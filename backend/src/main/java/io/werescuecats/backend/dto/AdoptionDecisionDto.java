@@ -0,0 +1,20 @@
+package io.werescuecats.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionDecisionDto {
+
+    public enum Action { APPROVE, REJECT }
+
+    private Long adoptionId;
+    private Action action;
+    // Required to reject
+    private String reason;
+}
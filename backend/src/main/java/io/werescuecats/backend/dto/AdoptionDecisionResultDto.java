@@ -0,0 +1,25 @@
+package io.werescuecats.backend.dto;
+
+import io.werescuecats.backend.dto.AdoptionDecisionRowDto.Outcome;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class AdoptionDecisionResultDto {
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private List<AdoptionDecisionRowDto> rows = new ArrayList<>();
+
+    public void add(AdoptionDecisionRowDto row) {
+        rows.add(row);
+        processed++;
+        if (row.getOutcome() == Outcome.UPDATED) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.werescuecats.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AdoptionDecisionRowDto {
+
+    // INVALID: the entry itself is incomplete; INVALID_STATE: the adoption's status does not allow the decision
+    public enum Outcome { UPDATED, INVALID, INVALID_STATE, NOT_FOUND, FAILED }
+
+    // Position in the request list
+    private int row;
+    private Long adoptionId;
+    private Outcome outcome;
+    // Adoption status after the decision, if the adoption exists
+    private String status;
+    private String error;
+}
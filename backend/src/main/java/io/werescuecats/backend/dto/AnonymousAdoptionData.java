@@ -11,6 +11,7 @@ public class AnonymousAdoptionData {
     private LocalDateTime adoptionDate;
     private String catBreed;
     private Integer catAge;
+    private String ageGroup;
     private String locationRegion;
     private String status;
     private String tenantId;
@@ -0,0 +1,24 @@
+package io.werescuecats.backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkResultDto {
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private List<BulkRowResultDto> rows = new ArrayList<>();
+
+    public void add(BulkRowResultDto row) {
+        rows.add(row);
+        processed++;
+        if (row.getOutcome() == BulkRowResultDto.Outcome.CREATED || row.getOutcome() == BulkRowResultDto.Outcome.UPDATED) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.werescuecats.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkRowResultDto {
+
+    public enum Outcome { CREATED, UPDATED, NOT_FOUND, REJECTED, FAILED }
+
+    // Line number in the upload, or position in the request list
+    private int row;
+    private Long catId;
+    private Outcome outcome;
+    private String error;
+}
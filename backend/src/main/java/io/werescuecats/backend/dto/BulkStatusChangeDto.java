@@ -0,0 +1,16 @@
+package io.werescuecats.backend.dto;
+
+import io.werescuecats.backend.entity.CatStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeDto {
+    private Long catId;
+    private CatStatus status;
+}
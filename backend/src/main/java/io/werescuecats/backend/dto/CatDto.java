@@ -1,13 +1,21 @@
 package io.werescuecats.backend.dto;
 
+import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Builder;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * Field order is part of the contract: CatRepository builds this with JPQL constructor expressions.
+ */
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class CatDto {
     private Long id;
     private String name;
@@ -23,4 +31,30 @@ public class CatDto {
     private CatStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static CatDto fromEntity(Cat cat) {
+        return fromEntity(cat, cat.getBreed() != null ? cat.getBreed().getName() : null);
+    }
+
+    /**
+     * Map with a breed name the caller already knows, without touching a lazy breed proxy
+     */
+    public static CatDto fromEntity(Cat cat, String breedName) {
+        return CatDto.builder()
+            .id(cat.getId())
+            .name(cat.getName())
+            .age(cat.getAge())
+            .gender(cat.getGender())
+            .description(cat.getDescription())
+            .breedId(cat.getBreed() != null ? cat.getBreed().getId() : null)
+            .breedName(breedName)
+            .imageUrl(cat.getImageUrl())
+            .latitude(cat.getLatitude())
+            .longitude(cat.getLongitude())
+            .address(cat.getAddress())
+            .status(cat.getStatus())
+            .createdAt(cat.getCreatedAt())
+            .updatedAt(cat.getUpdatedAt())
+            .build();
+    }
 }
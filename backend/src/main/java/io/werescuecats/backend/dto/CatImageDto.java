@@ -0,0 +1,17 @@
+package io.werescuecats.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of TheCatAPI's /images/search response; other fields are ignored
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatImageDto {
+
+    private String id;
+    private String url;
+}
@@ -0,0 +1,16 @@
+package io.werescuecats.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CatalogCacheStatsDto {
+    private long version;
+    private int size;
+    private int availableCount;
+    private long hits;
+    private long misses;
+    private long loads;
+    private double hitRatio;
+}
@@ -0,0 +1,80 @@
+package io.werescuecats.backend.dto;
+
+import io.werescuecats.backend.exception.InvalidCursorException;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. The cursor is an opaque token for the
+ * last id on the page; pass it back to get the rows that follow.
+ */
+@Data
+public class CursorPageDto<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+
+    /**
+     * Build a page from rows fetched with limit + 1, so the extra row tells us whether more exist
+     */
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int limit, Function<E, Long> idOf, Function<E, T> mapper) {
+        return ofKeyset(rows, limit, row -> encodeCursor(idOf.apply(row)), mapper);
+    }
+
+    /**
+     * Same as of, for listings whose cursor carries more than the last id
+     */
+    public static <E, T> CursorPageDto<T> ofKeyset(List<E> rows, int limit, Function<E, String> cursorOf,
+                                                   Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        CursorPageDto<T> page = new CursorPageDto<>();
+        page.setContent(pageRows.stream().map(mapper).toList());
+        page.setHasMore(hasMore);
+        page.setLimit(limit);
+        page.setNextCursor(hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null);
+        return page;
+    }
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Id to continue after; 0 when no cursor was given
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
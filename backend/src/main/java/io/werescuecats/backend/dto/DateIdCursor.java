@@ -0,0 +1,53 @@
+package io.werescuecats.backend.dto;
+
+import io.werescuecats.backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Keyset position over a (timestamp, id) ordering, encoded as an opaque token. The kind is part of the
+ * token, so a cursor from one listing is rejected by another.
+ */
+public record DateIdCursor(LocalDateTime date, long id) implements Comparable<DateIdCursor> {
+
+    public static final String REVIEW_QUEUE = "review";
+    public static final String COMPLETED_ADOPTIONS = "completed";
+
+    private static final Comparator<DateIdCursor> ORDER =
+        Comparator.comparing(DateIdCursor::date).thenComparingLong(DateIdCursor::id);
+
+    public String encode(String kind) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((kind + ":" + date + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The cursor to continue after, or null for the first page
+     */
+    public static DateIdCursor decode(String cursor, String kind) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String prefix = kind + ":";
+            int separator = decoded.lastIndexOf('|');
+            if (!decoded.startsWith(prefix) || separator < prefix.length()) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return new DateIdCursor(LocalDateTime.parse(decoded.substring(prefix.length(), separator)),
+                Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    @Override
+    public int compareTo(DateIdCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
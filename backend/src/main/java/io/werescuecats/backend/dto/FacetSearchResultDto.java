@@ -0,0 +1,18 @@
+package io.werescuecats.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class FacetSearchResultDto {
+    private List<CatDto> content;
+    private int total;
+    private int page;
+    private int size;
+    // facet -> value -> number of matching cats
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,13 @@
+package io.werescuecats.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReviewQueueItemDto {
+    private AdoptionDto adoption;
+    // Days since the review priority date: waiting time plus the adopter history and cat demand boost
+    private double priorityScore;
+    private long daysWaiting;
+}
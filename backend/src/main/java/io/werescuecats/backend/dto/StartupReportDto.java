@@ -0,0 +1,13 @@
+package io.werescuecats.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class StartupReportDto {
+    private boolean ready;
+    private List<StartupStageDto> stages;
+}
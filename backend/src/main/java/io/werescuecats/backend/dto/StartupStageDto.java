@@ -0,0 +1,17 @@
+package io.werescuecats.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class StartupStageDto {
+    private String name;
+    private List<String> dependsOn;
+    private boolean critical;
+    private String status;
+    private long durationMillis;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package io.werescuecats.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UpstreamCallStatsDto {
+    private String operation;
+    private long calls;
+    private long failures;
+    private long retries;
+    private long shortCircuited;
+    private long throttled;
+    private double errorRate;
+    private double avgMillis;
+    private long p95Millis;
+    private long maxMillis;
+    private String circuitState;
+}
@@ -8,7 +8,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "adoptions")
+@Table(name = "adoptions", indexes = {
+    @Index(name = "idx_adoptions_review_queue", columnList = "status, review_priority_date, adoption_id")
+})
 public class Adoption {
     
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,6 +39,11 @@ public class Adoption {
     @Column(name = "adoption_date", nullable = false)
     private LocalDateTime adoptionDate;
     
+    // Adoption date moved earlier by the review priority boost; the admin review queue is ordered by it
+    @Getter @Setter
+    @Column(name = "review_priority_date")
+    private LocalDateTime reviewPriorityDate;
+    
     @Getter @Setter
     @Column(name = "approved_date")
     private LocalDateTime approvedDate;
@@ -99,6 +106,9 @@ public class Adoption {
         if (adoptionDate == null) {
             adoptionDate = LocalDateTime.now();
         }
+        if (reviewPriorityDate == null) {
+            reviewPriorityDate = adoptionDate;
+        }
     }
     
     @PreUpdate
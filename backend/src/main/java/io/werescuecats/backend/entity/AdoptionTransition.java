@@ -0,0 +1,55 @@
+package io.werescuecats.backend.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The adoption state machine. Each transition names the statuses it may start from, the status it leads to
+ * and, if it moves the reserved cat, the cat statuses it expects and the one it leaves the cat in. A transition
+ * that requires the cat status fails when the cat is elsewhere; the others then leave the cat alone.
+ */
+public enum AdoptionTransition {
+    APPROVE(EnumSet.of(AdoptionStatus.PENDING), AdoptionStatus.APPROVED, null, null, false),
+    COMPLETE(EnumSet.of(AdoptionStatus.APPROVED), AdoptionStatus.COMPLETED, EnumSet.of(CatStatus.PENDING), CatStatus.ADOPTED, true),
+    REJECT(EnumSet.of(AdoptionStatus.PENDING), AdoptionStatus.REJECTED, EnumSet.of(CatStatus.PENDING), CatStatus.AVAILABLE, false),
+    CANCEL(EnumSet.of(AdoptionStatus.PENDING, AdoptionStatus.APPROVED), AdoptionStatus.CANCELLED, EnumSet.of(CatStatus.PENDING), CatStatus.AVAILABLE, false);
+
+    private final Set<AdoptionStatus> from;
+    private final AdoptionStatus to;
+    private final Set<CatStatus> catFrom;
+    private final CatStatus catTo;
+    private final boolean requiresCat;
+
+    AdoptionTransition(Set<AdoptionStatus> from, AdoptionStatus to, Set<CatStatus> catFrom, CatStatus catTo,
+                       boolean requiresCat) {
+        this.from = from;
+        this.to = to;
+        this.catFrom = catFrom;
+        this.catTo = catTo;
+        this.requiresCat = requiresCat;
+    }
+
+    public Set<AdoptionStatus> getFrom() {
+        return from;
+    }
+
+    public AdoptionStatus getTo() {
+        return to;
+    }
+
+    public Set<CatStatus> getCatFrom() {
+        return catFrom;
+    }
+
+    public CatStatus getCatTo() {
+        return catTo;
+    }
+
+    public boolean movesCat() {
+        return catTo != null;
+    }
+
+    public boolean requiresCat() {
+        return requiresCat;
+    }
+}
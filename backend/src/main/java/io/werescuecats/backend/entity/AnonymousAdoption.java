@@ -0,0 +1,49 @@
+package io.werescuecats.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Anonymised copy of a completed adoption, written when the adoption completes, for the health-data export.
+ * Holds only what the export hands out, already derived, so reading it needs no joins. Written with JDBC by
+ * AnonymousAdoptionRepository; mapped here so the table and its index are part of the schema.
+ */
+@Entity
+@Table(name = "anonymous_adoptions", indexes = {
+    @Index(name = "idx_anonymous_adoptions_completed", columnList = "completed_date, adoption_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnonymousAdoption {
+
+    // Same id as the source adoption, which keeps the copy unique per adoption
+    @Id
+    @Column(name = "adoption_id")
+    private Long adoptionId;
+
+    @Column(name = "adoption_date", nullable = false)
+    private LocalDateTime adoptionDate;
+
+    @Column(name = "completed_date", nullable = false)
+    private LocalDateTime completedDate;
+
+    @Column(name = "breed_name", nullable = false, length = 100)
+    private String breedName;
+
+    @Column(name = "cat_age")
+    private Integer catAge;
+
+    @Column(name = "age_group", length = 20)
+    private String ageGroup;
+
+    @Column(name = "location_region", nullable = false)
+    private String locationRegion;
+
+    @Column(name = "tenant_id", length = 50)
+    private String tenantId;
+}
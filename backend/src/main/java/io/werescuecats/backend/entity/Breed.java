@@ -111,6 +111,13 @@ public class Breed {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
     
+    // SHA-256 of the TheCatAPI fields last written, used by the breed sync to skip unchanged breeds
+    @Getter
+    @Setter
+    @JsonIgnore
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
     @Getter
     @Setter
     @OneToMany(mappedBy = "breed", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -16,7 +16,9 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @Getter
 @Setter
 @AllArgsConstructor
-@Table(name = "cats")
+@Table(name = "cats", indexes = {
+    @Index(name = "idx_cats_status_id", columnList = "status, cat_id")
+})
 public class Cat {
     
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,53 @@
+package io.werescuecats.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Queued lookup of a breed image for a cat that was saved without one.
+ * Rows are deleted once the image is resolved.
+ */
+@Entity
+@Table(name = "image_resolution_tasks", indexes = {
+    @Index(name = "idx_image_tasks_status_due", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+public class ImageResolutionTask {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "task_id")
+    private Long id;
+
+    @Column(name = "cat_id", nullable = false, unique = true)
+    private Long catId;
+
+    @Column(name = "breed_id", nullable = false)
+    private String breedId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImageTaskStatus status = ImageTaskStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ImageResolutionTask(Long catId, String breedId) {
+        this.catId = catId;
+        this.breedId = breedId;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
@@ -0,0 +1,16 @@
+package io.werescuecats.backend.entity;
+
+public enum ImageTaskStatus {
+    PENDING("Waiting for the next attempt"),
+    FAILED("Gave up after the maximum number of attempts");
+    
+    private final String description;
+    
+    ImageTaskStatus(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
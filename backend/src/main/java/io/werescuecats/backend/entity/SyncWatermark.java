@@ -0,0 +1,38 @@
+package io.werescuecats.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last successful sync of an external data source, one row per source
+ */
+@Entity
+@Table(name = "sync_watermarks")
+@Data
+@NoArgsConstructor
+public class SyncWatermark {
+
+    @Id
+    @Column(name = "source", length = 50)
+    private String source;
+
+    @Column(name = "last_synced_at", nullable = false)
+    private LocalDateTime lastSyncedAt;
+
+    // Last sync that actually wrote something
+    @Column(name = "last_changed_at")
+    private LocalDateTime lastChangedAt;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount = 0;
+
+    @Column(name = "changed_count", nullable = false)
+    private Integer changedCount = 0;
+
+    public SyncWatermark(String source) {
+        this.source = source;
+    }
+}
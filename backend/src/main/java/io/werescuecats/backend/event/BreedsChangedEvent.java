@@ -0,0 +1,17 @@
+package io.werescuecats.backend.event;
+
+import io.werescuecats.backend.entity.Breed;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published when a breed sync wrote breeds, carrying the new state of only those breeds
+ */
+@Getter
+@AllArgsConstructor
+public class BreedsChangedEvent {
+
+    private final List<Breed> breeds;
+}
@@ -0,0 +1,32 @@
+package io.werescuecats.backend.event;
+
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published whenever a cat is written so in-memory read models can apply the change.
+ * Carries the full entity when the write went through it, otherwise only id and status.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CatChangedEvent {
+
+    private final Long catId;
+    private final CatStatus status;
+    private final Cat cat;
+
+    public static CatChangedEvent saved(Cat cat) {
+        return new CatChangedEvent(cat.getId(), cat.getStatus(), cat);
+    }
+
+    public static CatChangedEvent statusChanged(Long catId, CatStatus status) {
+        return new CatChangedEvent(catId, status, null);
+    }
+
+    public boolean hasEntity() {
+        return cat != null;
+    }
+}
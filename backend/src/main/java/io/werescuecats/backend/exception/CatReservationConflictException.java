@@ -0,0 +1,10 @@
+package io.werescuecats.backend.exception;
+
+/**
+ * The cat looked available but another request reserved it first
+ */
+public class CatReservationConflictException extends CatNotAvailableException {
+    public CatReservationConflictException(String message) {
+        super(message);
+    }
+}
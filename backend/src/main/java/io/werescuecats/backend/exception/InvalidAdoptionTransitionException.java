@@ -0,0 +1,10 @@
+package io.werescuecats.backend.exception;
+
+/**
+ * The adoption, or the cat it reserves, is not in a status the requested transition can start from
+ */
+public class InvalidAdoptionTransitionException extends RuntimeException {
+    public InvalidAdoptionTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.werescuecats.backend.exception;
+
+public class InvalidImageUrlException extends RuntimeException {
+    public InvalidImageUrlException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.werescuecats.backend.exception;
+
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -2,13 +2,18 @@ package io.werescuecats.backend.repository;
 
 import io.werescuecats.backend.entity.Adoption;
 import io.werescuecats.backend.entity.AdoptionStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AdoptionRepository extends JpaRepository<Adoption, Long> {
@@ -18,6 +23,15 @@ public interface AdoptionRepository extends JpaRepository<Adoption, Long> {
     List<Adoption> findByUserId(Long userId);
     
     List<Adoption> findByCatId(Long catId);
+
+    @EntityGraph(attributePaths = {"user", "cat", "cat.breed"})
+    List<Adoption> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "cat", "cat.breed"})
+    Optional<Adoption> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = {"cat"})
+    List<Adoption> findWithCatByIdIn(Collection<Long> ids);
     
     @Query("SELECT a FROM Adoption a WHERE a.status = :status AND " +
            "a.adoptionDate BETWEEN :startDate AND :endDate")
@@ -25,6 +39,30 @@ public interface AdoptionRepository extends JpaRepository<Adoption, Long> {
                                                      @Param("startDate") LocalDateTime startDate,
                                                      @Param("endDate") LocalDateTime endDate);
     
+    // Review queue, first page and the pages after a (reviewPriorityDate, id) cursor; served by idx_adoptions_review_queue
+    @EntityGraph(attributePaths = {"user", "cat", "cat.breed"})
+    List<Adoption> findByStatusOrderByReviewPriorityDateAscIdAsc(AdoptionStatus status, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "cat", "cat.breed"})
+    @Query("SELECT a FROM Adoption a WHERE a.status = :status AND (a.reviewPriorityDate > :afterDate OR " +
+           "(a.reviewPriorityDate = :afterDate AND a.id > :afterId)) ORDER BY a.reviewPriorityDate, a.id")
+    List<Adoption> findReviewQueueAfter(@Param("status") AdoptionStatus status,
+                                        @Param("afterDate") LocalDateTime afterDate,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
+
+    // Rows written before the review queue existed
+    @Modifying
+    @Query("UPDATE Adoption a SET a.reviewPriorityDate = a.adoptionDate WHERE a.reviewPriorityDate IS NULL")
+    int backfillReviewPriorityDates();
+
+    long countByCatId(Long catId);
+
+    // Ids of completed adoptions that have no anonymous copy yet, in order, for the backfill
+    @Query("SELECT a.id FROM Adoption a WHERE a.status = 'COMPLETED' AND a.id > :afterId AND NOT EXISTS " +
+           "(SELECT x FROM AnonymousAdoption x WHERE x.adoptionId = a.id) ORDER BY a.id")
+    List<Long> findCompletedIdsWithoutAnonymousCopy(@Param("afterId") Long afterId, Limit limit);
+    
     @Query("SELECT COUNT(a) FROM Adoption a WHERE a.user.id = :userId AND a.status = 'COMPLETED'")
     long countCompletedAdoptionsByUser(@Param("userId") Long userId);
     
@@ -0,0 +1,109 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.AdoptionTransition;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Applies an AdoptionTransition as one guarded UPDATE. The WHERE clause checks the current status, so a
+ * transition that lost a race simply matches no row; transitions that move the cat update both tables in
+ * the same statement. Bypasses the entity manager, so callers must not hold the adoption in the persistence
+ * context and publish CatChangedEvent themselves.
+ */
+@Repository
+@AllArgsConstructor
+public class AdoptionTransitionRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Returns false if the adoption does not exist, is not in a status the transition starts from, has its cat
+     * in the wrong status for a transition that requires it, or, when ownerId is given, belongs to another user
+     */
+    public boolean apply(AdoptionTransition transition, Long adoptionId, Long adminId, Long ownerId,
+                         String adminNotes, LocalDateTime now) {
+        MapSqlParameterSource params = params(transition, adoptionId, adminId, adminNotes, now);
+        if (ownerId != null) {
+            params.addValue("ownerId", ownerId);
+        }
+        String sql = sql(transition, adminId != null, adminNotes != null, ownerId != null);
+        return namedJdbcTemplate.update(sql, params) > 0;
+    }
+
+    /**
+     * Apply the same transition to many adoptions as one JDBC batch. adminNotes, if given, holds one note per
+     * adoption. Returns one update count per adoption, in order: 0 where the guard did not match, and
+     * possibly Statement.SUCCESS_NO_INFO if the driver could not tell.
+     */
+    public int[] applyAll(AdoptionTransition transition, List<Long> adoptionIds, Long adminId,
+                          List<String> adminNotes, LocalDateTime now) {
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[adoptionIds.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = params(transition, adoptionIds.get(i), adminId, adminNotes != null ? adminNotes.get(i) : null, now);
+        }
+        return namedJdbcTemplate.batchUpdate(sql(transition, adminId != null, adminNotes != null, false), batch);
+    }
+
+    private static String sql(AdoptionTransition transition, boolean withAdmin, boolean withNotes, boolean withOwner) {
+        StringBuilder sql = new StringBuilder(transition.movesCat()
+            ? "UPDATE adoptions a JOIN cats c ON c.cat_id = a.cat_id SET "
+            : "UPDATE adoptions a SET ");
+        sql.append("a.status = :to, a.updated_at = :now");
+        switch (transition.getTo()) {
+            case APPROVED -> sql.append(", a.approved_date = :now");
+            case COMPLETED -> sql.append(", a.completed_date = :now");
+            default -> { }
+        }
+        if (withAdmin) {
+            sql.append(", a.processed_by_admin_id = :adminId");
+        }
+        if (withNotes) {
+            sql.append(", a.admin_notes = :adminNotes");
+        }
+        if (transition.requiresCat()) {
+            sql.append(", c.status = :catTo, c.updated_at = :now");
+        } else if (transition.movesCat()) {
+            // MySQL does not order assignments across tables, so updated_at must not depend on the new cat status
+            sql.append(", c.status = CASE WHEN c.status IN (:catFrom) THEN :catTo ELSE c.status END, c.updated_at = :now");
+        }
+        sql.append(" WHERE a.adoption_id = :id AND a.status IN (:from)");
+        if (transition.requiresCat()) {
+            sql.append(" AND c.status IN (:catFrom)");
+        }
+        if (withOwner) {
+            sql.append(" AND a.user_id = :ownerId");
+        }
+        return sql.toString();
+    }
+
+    private static MapSqlParameterSource params(AdoptionTransition transition, Long adoptionId, Long adminId,
+                                                String adminNotes, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", adoptionId)
+            .addValue("from", names(transition.getFrom()))
+            .addValue("to", transition.getTo().name())
+            .addValue("now", Timestamp.valueOf(now));
+        if (adminId != null) {
+            params.addValue("adminId", adminId);
+        }
+        if (adminNotes != null) {
+            params.addValue("adminNotes", adminNotes);
+        }
+        if (transition.movesCat()) {
+            params.addValue("catFrom", names(transition.getCatFrom()));
+            params.addValue("catTo", transition.getCatTo().name());
+        }
+        return params;
+    }
+
+    private static Collection<String> names(Collection<? extends Enum<?>> statuses) {
+        return statuses.stream().map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.dto.AnonymousAdoptionData;
+import io.werescuecats.backend.dto.DateIdCursor;
+import io.werescuecats.backend.entity.AdoptionStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Writes and reads the anonymous adoption export for health institutions with plain JDBC. The export reads
+ * the narrow, already anonymised anonymous_adoptions table, streamed through a forward-only, read-only result
+ * set, so no more than one row is held in memory however many adoptions there are. Exports run in completion
+ * order between two (completedDate, id) positions, so partners can poll for what was completed since their
+ * last export. Copies are written by the database from the committed rows, so the anonymisation rules exist
+ * only here.
+ */
+@Repository
+@AllArgsConstructor
+public class AnonymousAdoptionRepository {
+
+    // Both bounds are row comparisons over (completed_date, adoption_id), a range scan of idx_anonymous_adoptions_completed
+    private static final String SELECT_COMPLETED =
+        "SELECT adoption_date, breed_name, cat_age, age_group, location_region, tenant_id FROM anonymous_adoptions " +
+        "WHERE (completed_date, adoption_id) > (?, ?) AND (completed_date, adoption_id) <= (?, ?) " +
+        "ORDER BY completed_date, adoption_id";
+
+    private static final String SELECT_HIGH_WATER_MARK =
+        "SELECT completed_date, adoption_id FROM anonymous_adoptions WHERE completed_date <= ? " +
+        "ORDER BY completed_date DESC, adoption_id DESC LIMIT 1";
+
+    // Age groups use the bands of CatFacetIndex.ageGroup; the region is the last comma-separated part of the
+    // adopter's address. A completion and the backfill may both copy the same adoption; whichever comes second
+    // changes nothing.
+    private static final String COPY_COMPLETED =
+        "INSERT INTO anonymous_adoptions (adoption_id, adoption_date, completed_date, breed_name, cat_age, age_group, " +
+        "location_region, tenant_id) " +
+        "SELECT a.adoption_id, a.adoption_date, COALESCE(a.completed_date, a.adoption_date), COALESCE(b.name, 'Unknown'), " +
+        "c.age, CASE WHEN c.age IS NULL THEN 'UNKNOWN' WHEN c.age <= 1 THEN 'KITTEN' WHEN c.age <= 3 THEN 'YOUNG' " +
+        "WHEN c.age <= 7 THEN 'ADULT' ELSE 'SENIOR' END, " +
+        "COALESCE(NULLIF(TRIM(SUBSTRING_INDEX(u.street_address, ',', -1)), ''), 'Unknown'), a.tenant_id " +
+        "FROM adoptions a JOIN cats c ON c.cat_id = a.cat_id LEFT JOIN breeds b ON b.breed_id = c.breed_id " +
+        "JOIN users u ON u.user_id = a.user_id " +
+        "WHERE a.adoption_id IN (:ids) AND a.status = 'COMPLETED' " +
+        "ON DUPLICATE KEY UPDATE anonymous_adoptions.adoption_id = anonymous_adoptions.adoption_id";
+
+    // Before any real completion, for exports that start at the beginning
+    private static final DateIdCursor START = new DateIdCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+
+    // MySQL Connector/J only streams rows one at a time, instead of buffering the whole result, with this fetch size
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * Completions younger than this are left for the next poll: a transaction that commits late can carry a
+     * completed_date older than rows already exported, and the cursor would otherwise skip past it
+     */
+    static final Duration SETTLE_TIME = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * The newest settled completion, where an export started now ends; empty if nothing has been completed
+     */
+    public Optional<DateIdCursor> findHighWaterMark(LocalDateTime now) {
+        return jdbcTemplate.query(SELECT_HIGH_WATER_MARK,
+            (rs, rowNum) -> new DateIdCursor(rs.getTimestamp("completed_date").toLocalDateTime(), rs.getLong("adoption_id")),
+            Timestamp.valueOf(now.minus(SETTLE_TIME))).stream().findFirst();
+    }
+
+    /**
+     * Hand every adoption completed after the given position (from the start if null) up to and including
+     * until to the consumer, in completion order, as it is read
+     */
+    public void forEachCompleted(DateIdCursor after, DateIdCursor until, Consumer<AnonymousAdoptionData> consumer) {
+        DateIdCursor from = after != null ? after : START;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_COMPLETED,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(from.date()));
+            ps.setLong(2, from.id());
+            ps.setTimestamp(3, Timestamp.valueOf(until.date()));
+            ps.setLong(4, until.id());
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toData(rs)));
+    }
+
+    /**
+     * Write the anonymous copy of each of the given adoptions that is completed, in one INSERT ... SELECT.
+     * Returns the number of copies written.
+     */
+    public int copyCompleted(Collection<Long> adoptionIds) {
+        return namedJdbcTemplate.update(COPY_COMPLETED, new MapSqlParameterSource("ids", adoptionIds));
+    }
+
+    static AnonymousAdoptionData toData(ResultSet rs) throws SQLException {
+        return AnonymousAdoptionData.builder()
+            .adoptionDate(rs.getTimestamp("adoption_date").toLocalDateTime())
+            .catBreed(rs.getString("breed_name"))
+            .catAge(rs.getObject("cat_age", Integer.class))
+            .ageGroup(rs.getString("age_group"))
+            .locationRegion(rs.getString("location_region"))
+            .status(AdoptionStatus.COMPLETED.name())
+            .tenantId(rs.getString("tenant_id"))
+            .build();
+    }
+}
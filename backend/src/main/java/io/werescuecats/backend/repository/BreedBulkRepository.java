@@ -0,0 +1,49 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.Breed;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Plain JDBC batch insert for seeding the breeds table; Breed has assigned ids,
+ * so saveAll would issue a SELECT per row before inserting
+ */
+@Repository
+@AllArgsConstructor
+public class BreedBulkRepository {
+
+    private static final String INSERT_BREED =
+        "INSERT INTO breeds (breed_id, name, description, origin, adaptability, affection_level, child_friendly, " +
+        "dog_friendly, energy_level, grooming, health_issues, intelligence, social_needs, stranger_friendly, " +
+        "wikipedia_url, reference_image_id, image_url, content_hash) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertBreeds(List<Breed> breeds) {
+        jdbcTemplate.batchUpdate(INSERT_BREED, breeds, breeds.size(), (ps, breed) -> {
+            ps.setString(1, breed.getId());
+            ps.setString(2, breed.getName());
+            ps.setString(3, breed.getDescription());
+            ps.setString(4, breed.getOrigin());
+            ps.setObject(5, breed.getAdaptability(), Types.INTEGER);
+            ps.setObject(6, breed.getAffectionLevel(), Types.INTEGER);
+            ps.setObject(7, breed.getChildFriendly(), Types.INTEGER);
+            ps.setObject(8, breed.getDogFriendly(), Types.INTEGER);
+            ps.setObject(9, breed.getEnergyLevel(), Types.INTEGER);
+            ps.setObject(10, breed.getGrooming(), Types.INTEGER);
+            ps.setObject(11, breed.getHealthIssues(), Types.INTEGER);
+            ps.setObject(12, breed.getIntelligence(), Types.INTEGER);
+            ps.setObject(13, breed.getSocialNeeds(), Types.INTEGER);
+            ps.setObject(14, breed.getStrangerFriendly(), Types.INTEGER);
+            ps.setString(15, breed.getWikipediaUrl());
+            ps.setString(16, breed.getReferenceImageId());
+            ps.setString(17, breed.getImageUrl());
+            ps.setString(18, breed.getContentHash());
+        });
+    }
+}
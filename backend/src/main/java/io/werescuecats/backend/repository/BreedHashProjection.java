@@ -0,0 +1,8 @@
+package io.werescuecats.backend.repository;
+
+public interface BreedHashProjection {
+
+    String getId();
+
+    String getContentHash();
+}
@@ -25,4 +25,7 @@ public interface BreedRepository extends JpaRepository<Breed, String> {
                                       @Param("origin") String origin);
     
     List<Breed> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT b.id AS id, b.contentHash AS contentHash FROM Breed b")
+    List<BreedHashProjection> findContentHashes();
 }
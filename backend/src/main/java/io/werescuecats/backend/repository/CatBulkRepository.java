@@ -0,0 +1,110 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.entity.ImageTaskStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plain JDBC batch writes for bulk cat imports and status changes.
+ * The IDENTITY id on Cat keeps Hibernate from batching inserts, so these bypass the entity manager;
+ * callers publish CatChangedEvent themselves.
+ */
+@Repository
+@AllArgsConstructor
+public class CatBulkRepository {
+
+    private static final String INSERT_CAT =
+        "INSERT INTO cats (name, age, gender, description, breed_id, image_url, latitude, longitude, address, " +
+        "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_IMAGE_TASK =
+        "INSERT INTO image_resolution_tasks (cat_id, breed_id, status, attempts, next_attempt_at, created_at) " +
+        "VALUES (?, ?, ?, 0, ?, ?)";
+
+    private static final String UPDATE_STATUS =
+        "UPDATE cats SET status = ?, updated_at = ? WHERE cat_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Insert the cats in one batch and return their generated ids, in order
+     */
+    public List<Long> insertCats(List<Cat> cats) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_CAT, Statement.RETURN_GENERATED_KEYS)) {
+                for (Cat cat : cats) {
+                    ps.setString(1, cat.getName());
+                    ps.setObject(2, cat.getAge(), Types.INTEGER);
+                    ps.setString(3, cat.getGender());
+                    ps.setString(4, cat.getDescription());
+                    ps.setString(5, cat.getBreed().getId());
+                    ps.setString(6, cat.getImageUrl());
+                    ps.setObject(7, cat.getLatitude(), Types.DOUBLE);
+                    ps.setObject(8, cat.getLongitude(), Types.DOUBLE);
+                    ps.setString(9, cat.getAddress());
+                    ps.setString(10, cat.getStatus().name());
+                    ps.setTimestamp(11, Timestamp.valueOf(cat.getCreatedAt()));
+                    ps.setTimestamp(12, Timestamp.valueOf(cat.getUpdatedAt()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(cats.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != cats.size()) {
+                    throw new IllegalStateException("Expected " + cats.size() + " generated ids, got " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    public void insertImageTasks(List<Cat> cats, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> rows = cats.stream()
+            .map(cat -> new Object[] { cat.getId(), cat.getBreed().getId(), ImageTaskStatus.PENDING.name(), timestamp, timestamp })
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_TASK, rows);
+    }
+
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT cat_id FROM cats WHERE cat_id IN (:ids)", new MapSqlParameterSource("ids", ids), Long.class));
+    }
+
+    public void updateStatuses(List<Long> ids, List<CatStatus> statuses, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rows.add(new Object[] { statuses.get(i).name(), timestamp, ids.get(i) });
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATUS, rows);
+    }
+}
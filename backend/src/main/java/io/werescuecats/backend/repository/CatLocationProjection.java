@@ -0,0 +1,14 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.CatStatus;
+
+public interface CatLocationProjection {
+
+    Long getId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    CatStatus getStatus();
+}
@@ -1,20 +1,47 @@
 package io.werescuecats.backend.repository;
 
+import io.werescuecats.backend.dto.CatDto;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CatRepository extends JpaRepository<Cat, Long> {
+
+    // Builds CatDto straight from the joined columns, no managed entities or lazy breed loads
+    String CAT_DTO_SELECT = "SELECT new io.werescuecats.backend.dto.CatDto(" +
+           "c.id, c.name, c.age, c.gender, c.description, b.id, b.name, c.imageUrl, " +
+           "c.latitude, c.longitude, c.address, c.status, c.createdAt, c.updatedAt) " +
+           "FROM Cat c JOIN c.breed b ";
     
     List<Cat> findByStatus(CatStatus status);
     
     List<Cat> findByBreedId(String breedId);
+
+    @Query(CAT_DTO_SELECT + "ORDER BY c.id")
+    List<CatDto> findAllDtos();
+
+    @Query(CAT_DTO_SELECT + "WHERE c.id = :id")
+    Optional<CatDto> findDtoById(@Param("id") Long id);
+
+    @Query(CAT_DTO_SELECT + "WHERE c.status = :status ORDER BY c.id")
+    List<CatDto> findDtosByStatus(@Param("status") CatStatus status);
+
+    @Query(CAT_DTO_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    List<CatDto> findDtosAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Served by idx_cats_status_id
+    @Query(CAT_DTO_SELECT + "WHERE c.status = :status AND c.id > :afterId ORDER BY c.id")
+    List<CatDto> findDtosByStatusAfter(@Param("status") CatStatus status, @Param("afterId") Long afterId, Limit limit);
     
     @Query("SELECT c FROM Cat c WHERE c.status = :status AND " +
            "(:breedId IS NULL OR c.breed.id = :breedId)")
@@ -30,4 +57,16 @@ public interface CatRepository extends JpaRepository<Cat, Long> {
                              @Param("minLon") Double minLon, 
                              @Param("maxLon") Double maxLon,
                              @Param("status") CatStatus status);
+
+    @Query("SELECT c.id AS id, c.latitude AS latitude, c.longitude AS longitude, c.status AS status " +
+           "FROM Cat c WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    List<CatLocationProjection> findAllLocations();
+
+    // Compare-and-set on the status: of several concurrent callers expecting the same status, only one gets 1
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Cat c SET c.status = :status, c.updatedAt = :now WHERE c.id = :id AND c.status = :expected")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expected") CatStatus expected,
+                              @Param("status") CatStatus status,
+                              @Param("now") LocalDateTime now);
 }
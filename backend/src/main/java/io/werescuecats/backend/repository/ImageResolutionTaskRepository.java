@@ -0,0 +1,20 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.ImageResolutionTask;
+import io.werescuecats.backend.entity.ImageTaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageResolutionTaskRepository extends JpaRepository<ImageResolutionTask, Long> {
+
+    // Served by idx_image_tasks_status_due
+    List<ImageResolutionTask> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            ImageTaskStatus status, LocalDateTime now, Limit limit);
+
+    long countByStatus(ImageTaskStatus status);
+}
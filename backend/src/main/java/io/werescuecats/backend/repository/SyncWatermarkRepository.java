@@ -0,0 +1,9 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.SyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncWatermarkRepository extends JpaRepository<SyncWatermark, String> {
+}
@@ -0,0 +1,105 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.entity.Adoption;
+import io.werescuecats.backend.entity.User;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain JDBC batch writes of users and adoptions for the load test data generator.
+ * Like CatBulkRepository, this bypasses the entity manager, so nothing is published to the read models.
+ */
+@Repository
+@AllArgsConstructor
+public class SyntheticDataRepository {
+
+    private static final String INSERT_USER =
+        "INSERT INTO users (email, password_hash, first_name, last_name, street_address, postal_code, role, enabled, " +
+        "tenant_id, created_at, updated_at, last_login) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ADOPTION =
+        "INSERT INTO adoptions (user_id, cat_id, status, adoption_date, review_priority_date, approved_date, completed_date, " +
+        "notes, admin_notes, processed_by_admin_id, tenant_id, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the users in one batch and return their generated ids, in order
+     */
+    public List<Long> insertUsers(List<User> users) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_USER, Statement.RETURN_GENERATED_KEYS)) {
+                for (User user : users) {
+                    ps.setString(1, user.getEmail());
+                    ps.setString(2, user.getPasswordHash());
+                    ps.setString(3, user.getFirstName());
+                    ps.setString(4, user.getLastName());
+                    ps.setString(5, user.getStreetAddress());
+                    ps.setString(6, user.getPostalCode());
+                    ps.setString(7, user.getRole().name());
+                    ps.setBoolean(8, user.isEnabled());
+                    ps.setString(9, user.getTenantId());
+                    ps.setTimestamp(10, Timestamp.valueOf(user.getCreatedAt()));
+                    ps.setTimestamp(11, Timestamp.valueOf(user.getUpdatedAt()));
+                    ps.setTimestamp(12, timestamp(user.getLastLogin()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(users.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != users.size()) {
+                    throw new IllegalStateException("Expected " + users.size() + " generated ids, got " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    public void insertAdoptions(List<Adoption> adoptions) {
+        List<Object[]> rows = new ArrayList<>(adoptions.size());
+        for (Adoption adoption : adoptions) {
+            User admin = adoption.getProcessedByAdmin();
+            rows.add(new Object[] {
+                adoption.getUser().getId(),
+                adoption.getCat().getId(),
+                adoption.getStatus().name(),
+                timestamp(adoption.getAdoptionDate()),
+                timestamp(adoption.getReviewPriorityDate() != null ? adoption.getReviewPriorityDate() : adoption.getAdoptionDate()),
+                timestamp(adoption.getApprovedDate()),
+                timestamp(adoption.getCompletedDate()),
+                adoption.getNotes(),
+                adoption.getAdminNotes(),
+                admin == null ? null : admin.getId(),
+                adoption.getTenantId(),
+                timestamp(adoption.getCreatedAt()),
+                timestamp(adoption.getUpdatedAt())
+            });
+        }
+        int[] types = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP,
+            Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP
+        };
+        jdbcTemplate.batchUpdate(INSERT_ADOPTION, rows, types);
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+}
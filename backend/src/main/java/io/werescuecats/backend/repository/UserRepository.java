@@ -2,6 +2,7 @@ package io.werescuecats.backend.repository;
 
 import io.werescuecats.backend.entity.User;
 import io.werescuecats.backend.entity.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,4 +19,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     List<User> findByEnabledTrue();
+
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
@@ -0,0 +1,182 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.AdoptionDecisionDto;
+import io.werescuecats.backend.dto.AdoptionDecisionResultDto;
+import io.werescuecats.backend.dto.AdoptionDecisionRowDto;
+import io.werescuecats.backend.dto.AdoptionDecisionRowDto.Outcome;
+import io.werescuecats.backend.entity.Adoption;
+import io.werescuecats.backend.entity.AdoptionTransition;
+import io.werescuecats.backend.entity.User;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.AdoptionRepository;
+import io.werescuecats.backend.repository.AdoptionTransitionRepository;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.Validated;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Approves and rejects many adoptions in one request. Decisions are written in chunks, one transaction per
+ * chunk: each chunk is one JDBC batch of guarded updates per action plus one SELECT to read the outcomes back,
+ * so a failed chunk never takes the rest of the request down with it. An adoption named more than once is
+ * rejected as invalid on every row before anything is written, since the request would not say which decision
+ * wins; with each adoption decided at most once, running a chunk's approvals before its rejections changes nothing.
+ */
+@Service
+@Slf4j
+@Validated
+public class AdoptionDecisionService {
+
+    private record PendingDecision(int row, Long adoptionId, AdoptionTransition transition, String reason) {}
+
+    private final AdoptionTransitionRepository transitionRepository;
+    private final AdoptionRepository adoptionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public AdoptionDecisionService(AdoptionTransitionRepository transitionRepository,
+                                   AdoptionRepository adoptionRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${cats.adoptions.decision-batch-size:200}") int batchSize) {
+        this.transitionRepository = transitionRepository;
+        this.adoptionRepository = adoptionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public AdoptionDecisionResultDto decide(@NotNull List<AdoptionDecisionDto> decisions, @NotNull User admin) {
+        AdoptionDecisionResultDto result = new AdoptionDecisionResultDto();
+        Set<Long> duplicated = duplicatedIds(decisions);
+        for (int start = 0; start < decisions.size(); start += batchSize) {
+            List<AdoptionDecisionDto> chunk = decisions.subList(start, Math.min(decisions.size(), start + batchSize));
+            List<PendingDecision> pending = new ArrayList<>(chunk.size());
+
+            for (int i = 0; i < chunk.size(); i++) {
+                AdoptionDecisionDto decision = chunk.get(i);
+                int row = start + i + 1;
+                if (decision.getAdoptionId() == null || decision.getAction() == null) {
+                    result.add(new AdoptionDecisionRowDto(row, decision.getAdoptionId(), Outcome.INVALID, null,
+                        "adoptionId and action are required"));
+                } else if (duplicated.contains(decision.getAdoptionId())) {
+                    result.add(new AdoptionDecisionRowDto(row, decision.getAdoptionId(), Outcome.INVALID, null,
+                        "adoptionId appears more than once in the request"));
+                } else if (decision.getAction() == AdoptionDecisionDto.Action.REJECT
+                        && (decision.getReason() == null || decision.getReason().isBlank())) {
+                    result.add(new AdoptionDecisionRowDto(row, decision.getAdoptionId(), Outcome.INVALID, null,
+                        "reason is required to reject"));
+                } else {
+                    pending.add(new PendingDecision(row, decision.getAdoptionId(), transitionFor(decision.getAction()),
+                        decision.getReason()));
+                }
+            }
+            if (!pending.isEmpty()) {
+                flushDecisions(pending, admin, result);
+            }
+        }
+        log.info("Bulk adoption decisions by admin {} finished: {} applied, {} failed",
+            admin.getEmail(), result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    private void flushDecisions(List<PendingDecision> pending, User admin, AdoptionDecisionResultDto result) {
+        try {
+            List<AdoptionDecisionRowDto> rows = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int[] counts = new int[pending.size()];
+                for (AdoptionTransition transition : List.of(AdoptionTransition.APPROVE, AdoptionTransition.REJECT)) {
+                    List<Integer> positions = new ArrayList<>();
+                    for (int i = 0; i < pending.size(); i++) {
+                        if (pending.get(i).transition() == transition) {
+                            positions.add(i);
+                        }
+                    }
+                    if (positions.isEmpty()) {
+                        continue;
+                    }
+                    List<Long> ids = positions.stream().map(i -> pending.get(i).adoptionId()).toList();
+                    List<String> notes = transition == AdoptionTransition.REJECT
+                        ? positions.stream().map(i -> pending.get(i).reason()).toList()
+                        : null;
+                    int[] applied = transitionRepository.applyAll(transition, ids, admin.getId(), notes, now);
+                    for (int j = 0; j < positions.size(); j++) {
+                        counts[positions.get(j)] = applied[j];
+                    }
+                }
+
+                Map<Long, Adoption> adoptions = adoptionRepository
+                    .findWithCatByIdIn(pending.stream().map(PendingDecision::adoptionId).distinct().toList())
+                    .stream().collect(Collectors.toMap(Adoption::getId, Function.identity()));
+                List<AdoptionDecisionRowDto> outcomes = new ArrayList<>(pending.size());
+                for (int i = 0; i < pending.size(); i++) {
+                    PendingDecision decision = pending.get(i);
+                    Adoption adoption = adoptions.get(decision.adoptionId());
+                    outcomes.add(outcome(decision, counts[i], adoption));
+                    if (counts[i] != 0 && adoption != null && decision.transition().movesCat()) {
+                        // Delivered to the read models after commit
+                        eventPublisher.publishEvent(CatChangedEvent.statusChanged(adoption.getCat().getId(),
+                            adoption.getCat().getStatus()));
+                    }
+                }
+                return outcomes;
+            });
+            rows.forEach(result::add);
+        } catch (RuntimeException e) {
+            log.error("Bulk decision on {} adoptions failed", pending.size(), e);
+            for (PendingDecision decision : pending) {
+                result.add(new AdoptionDecisionRowDto(decision.row(), decision.adoptionId(), Outcome.FAILED, null,
+                    "Batch write failed: " + e.getMessage()));
+            }
+        }
+    }
+
+    private static AdoptionDecisionRowDto outcome(PendingDecision decision, int count, Adoption adoption) {
+        if (adoption == null) {
+            return new AdoptionDecisionRowDto(decision.row(), decision.adoptionId(), Outcome.NOT_FOUND, null,
+                "Adoption not found");
+        }
+        AdoptionTransition transition = decision.transition();
+        String status = adoption.getStatus().name();
+        boolean applied = count > 0 || (count == Statement.SUCCESS_NO_INFO && adoption.getStatus() == transition.getTo());
+        if (applied) {
+            return new AdoptionDecisionRowDto(decision.row(), decision.adoptionId(), Outcome.UPDATED, status, null);
+        }
+        return new AdoptionDecisionRowDto(decision.row(), decision.adoptionId(), Outcome.INVALID_STATE, status,
+            "Adoption is " + status + " and cannot be " + transition.getTo().name().toLowerCase());
+    }
+
+    private static Set<Long> duplicatedIds(List<AdoptionDecisionDto> decisions) {
+        Set<Long> seen = new HashSet<>();
+        Set<Long> duplicated = new HashSet<>();
+        for (AdoptionDecisionDto decision : decisions) {
+            if (decision.getAdoptionId() != null && !seen.add(decision.getAdoptionId())) {
+                duplicated.add(decision.getAdoptionId());
+            }
+        }
+        return duplicated;
+    }
+
+    private static AdoptionTransition transitionFor(AdoptionDecisionDto.Action action) {
+        return switch (action) {
+            case APPROVE -> AdoptionTransition.APPROVE;
+            case REJECT -> AdoptionTransition.REJECT;
+        };
+    }
+}
@@ -1,108 +1,129 @@
 package io.werescuecats.backend.service;
 
 import io.werescuecats.backend.dto.AnonymousAdoptionData;
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.DateIdCursor;
 import io.werescuecats.backend.entity.Adoption;
 import io.werescuecats.backend.entity.AdoptionStatus;
-import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.AdoptionTransition;
 import io.werescuecats.backend.entity.CatStatus;
 import io.werescuecats.backend.entity.User;
 import io.werescuecats.backend.exception.CatNotAvailableException;
+import io.werescuecats.backend.exception.CatReservationConflictException;
+import io.werescuecats.backend.exception.InvalidAdoptionTransitionException;
 import io.werescuecats.backend.exception.ResourceNotFoundException;
+import io.werescuecats.backend.event.CatChangedEvent;
 import io.werescuecats.backend.repository.AdoptionRepository;
+import io.werescuecats.backend.repository.AdoptionTransitionRepository;
+import io.werescuecats.backend.repository.AnonymousAdoptionRepository;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 @Validated
 public class AdoptionService {
     
+    static final Duration ADOPTER_HISTORY_BOOST = Duration.ofDays(2);
+    static final int MAX_ADOPTER_HISTORY = 3;
+    static final Duration CAT_DEMAND_BOOST = Duration.ofDays(1);
+    static final int MAX_CAT_DEMAND = 5;
+
     private final AdoptionRepository adoptionRepository;
     private final CatService catService;
     private final UserService userService;
+    private final AdoptionTransitionRepository transitionRepository;
+    private final AnonymousAdoptionRepository anonymousAdoptionRepository;
+    private final AnonymousAdoptionService anonymousAdoptionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdoptionService(AdoptionRepository adoptionRepository, CatService catService, UserService userService){
+    public AdoptionService(AdoptionRepository adoptionRepository, CatService catService, UserService userService,
+                           AdoptionTransitionRepository transitionRepository,
+                           AnonymousAdoptionRepository anonymousAdoptionRepository,
+                           AnonymousAdoptionService anonymousAdoptionService,
+                           ApplicationEventPublisher eventPublisher){
         this.adoptionRepository = adoptionRepository;
         this.catService = catService;
         this.userService = userService;
+        this.transitionRepository = transitionRepository;
+        this.anonymousAdoptionRepository = anonymousAdoptionRepository;
+        this.anonymousAdoptionService = anonymousAdoptionService;
+        this.eventPublisher = eventPublisher;
     }
     
+    /**
+     * Apply for a cat and reserve it. The availability check against the catalog only fails fast;
+     * the reservation itself is a conditional UPDATE issued last, so concurrent applications never
+     * double-book a cat and the cat row is locked only for the instant before commit.
+     */
     @Transactional
     public Adoption createAdoption(@NotNull Long userId, @NotNull Long catId, String notes) {
         Optional<User> userOpt = userService.getUserById(userId);
-        Optional<Cat> catOpt = catService.getCatById(catId);
-        
         if (userOpt.isEmpty()) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
+        Optional<CatDto> catOpt = catService.getCatDtoById(catId);
         if (catOpt.isEmpty()) {
             throw new ResourceNotFoundException("Cat not found with id: " + catId);
         }
         
-        Cat cat = catOpt.get();
-        if (!cat.isAvailable()) {
+        CatDto cat = catOpt.get();
+        if (cat.getStatus() != CatStatus.AVAILABLE) {
             throw new CatNotAvailableException("Cat is not available for adoption: " + cat.getName());
         }
         
-        Adoption adoption = new Adoption(userOpt.get(), cat, notes);
-
-        catService.updateCatStatus(catId, CatStatus.PENDING);
-        
         log.info("Creating adoption request for user {} and cat {}", 
                 userOpt.get().getEmail(), cat.getName());
-        
-        return adoptionRepository.save(adoption);
+        Adoption adoption = new Adoption(userOpt.get(), catService.getCatReference(catId), notes);
+        adoption.setReviewPriorityDate(reviewPriorityDate(adoption.getAdoptionDate(),
+                adoptionRepository.countCompletedAdoptionsByUser(userId), adoptionRepository.countByCatId(catId)));
+        Adoption saved = adoptionRepository.save(adoption);
+
+        if (!catService.updateCatStatusIf(catId, CatStatus.AVAILABLE, CatStatus.PENDING)) {
+            // Rolls back the adoption saved above
+            throw new CatReservationConflictException("Cat was just reserved by another adoption request: " + cat.getName());
+        }
+        return saved;
     }
     
     @PreAuthorize("hasRole('ADMIN')")
     @Transactional
     public Adoption approveAdoption(@NotNull Long adoptionId, @NotNull User admin) {
-        return transitionAdoptionStatus(
-            adoptionId,
-            AdoptionStatus.PENDING,
-            AdoptionStatus.APPROVED,
-            admin,
-            null,
-            CatStatus.PENDING,
-            false
-        );
+        return applyTransition(adoptionId, AdoptionTransition.APPROVE, admin, null, null);
     }
     
     @PreAuthorize("hasRole('ADMIN')")
     @Transactional
     public Adoption completeAdoption(@NotNull Long adoptionId, @NotNull User admin) {
-        return transitionAdoptionStatus(
-            adoptionId,
-            AdoptionStatus.APPROVED,
-            AdoptionStatus.COMPLETED,
-            admin,
-            null,
-            CatStatus.ADOPTED,
-            true
-        );
+        return applyTransition(adoptionId, AdoptionTransition.COMPLETE, admin, null, null);
     }
     
     @PreAuthorize("hasRole('ADMIN')")
     @Transactional
     public Adoption rejectAdoption(@NotNull Long adoptionId, @NotNull User admin, String reason) {
-        return transitionAdoptionStatus(
-            adoptionId,
-            AdoptionStatus.PENDING,
-            AdoptionStatus.REJECTED,
-            admin,
-            reason,
-            CatStatus.AVAILABLE,
-            false
-        );
+        return applyTransition(adoptionId, AdoptionTransition.REJECT, admin, null, reason);
+    }
+
+    /**
+     * Withdraw an application that is still pending or approved and free its cat again.
+     * Adopters may only cancel their own applications; admins may cancel any.
+     */
+    @Transactional
+    public Adoption cancelAdoption(@NotNull Long adoptionId, @NotNull User user) {
+        Long ownerId = user.isAdmin() ? null : user.getId();
+        return applyTransition(adoptionId, AdoptionTransition.CANCEL, null, ownerId, null);
     }
     
     @Transactional(readOnly = true)
@@ -111,6 +132,52 @@ public class AdoptionService {
         return adoptionRepository.findByStatus(AdoptionStatus.PENDING);
     }
 
+    /**
+     * Pending adoptions in review order, highest priority first, after the given cursor (null for the first page).
+     * Keyset pagination over idx_adoptions_review_queue with user, cat and breed joined in, so every page is one
+     * indexed query however long the queue is.
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Adoption> getReviewQueue(DateIdCursor after, int limit) {
+        if (after == null) {
+            return adoptionRepository.findByStatusOrderByReviewPriorityDateAscIdAsc(AdoptionStatus.PENDING, Limit.of(limit));
+        }
+        return adoptionRepository.findReviewQueueAfter(AdoptionStatus.PENDING, after.date(), after.id(),
+                Limit.of(limit));
+    }
+
+    /**
+     * Give rows from before the review queue a priority date, so the queue sees them
+     */
+    @Transactional
+    public void initializeReviewQueue() {
+        int updated = adoptionRepository.backfillReviewPriorityDates();
+        if (updated > 0) {
+            log.info("Backfilled the review priority date of {} adoptions", updated);
+        }
+    }
+
+    /**
+     * An application counts as older per completed adoption of the adopter and per earlier application for the
+     * same cat, so trusted adopters and sought-after cats come up sooner. The boost is fixed when the application
+     * is made; from then on every pending application ages at the same rate, which keeps the order stable for paging.
+     */
+    static LocalDateTime reviewPriorityDate(LocalDateTime adoptionDate, long completedAdoptions, long catApplications) {
+        Duration boost = ADOPTER_HISTORY_BOOST.multipliedBy(Math.min(completedAdoptions, MAX_ADOPTER_HISTORY))
+                .plus(CAT_DEMAND_BOOST.multipliedBy(Math.min(catApplications, MAX_CAT_DEMAND)));
+        return adoptionDate.minus(boost);
+    }
+
+    /**
+     * Days since the review priority date, to one decimal
+     */
+    public static double priorityScore(Adoption adoption, LocalDateTime now) {
+        LocalDateTime priorityDate = adoption.getReviewPriorityDate() != null
+                ? adoption.getReviewPriorityDate() : adoption.getAdoptionDate();
+        return Math.round(Duration.between(priorityDate, now).toMinutes() / 144.0) / 10.0;
+    }
+    
     @Transactional(readOnly = true)
     public List<Adoption> getAdoptionsByUser(@NotNull Long userId) {
         return adoptionRepository.findByUserId(userId);
@@ -122,6 +189,12 @@ public class AdoptionService {
         return adoptionRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<Adoption> getAdoptionsAfter(long afterId, int limit) {
+        return adoptionRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+    
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN')")
     public Optional<Adoption> getAdoptionById(@NotNull Long id) {
@@ -133,68 +206,55 @@ public class AdoptionService {
         return adoptionRepository.countCompletedAdoptionsByUser(userId);
     }
 
-    public List<AnonymousAdoptionData> getAnonymousAdoptionData() {
-        List<Adoption> completedAdoptions = adoptionRepository.findAll().stream()
-            .filter(adoption -> adoption.getStatus() == AdoptionStatus.COMPLETED)
-            .collect(Collectors.toList());
-        
-        return completedAdoptions.stream()
-            .map(adoption -> {
-                return AnonymousAdoptionData.builder()
-                    .adoptionDate(adoption.getAdoptionDate())
-                    .catBreed(adoption.getCat().getBreed() != null ? 
-                             adoption.getCat().getBreed().getName() : "Unknown")
-                    .catAge(adoption.getCat().getAge())
-                    .locationRegion(extractRegion(adoption.getUser().getStreetAddress()))
-                    .status(adoption.getStatus().name())
-                    .tenantId(adoption.getTenantId())
-                    .build();
-            })
-            .collect(Collectors.toList());
+    /**
+     * Where an anonymous export started now ends; empty if no adoption has been completed yet
+     */
+    public Optional<DateIdCursor> getAnonymousExportEnd() {
+        return anonymousAdoptionRepository.findHighWaterMark(LocalDateTime.now());
     }
 
-private String extractRegion(String address) {
-    if (address == null || address.trim().isEmpty()) {
-        return "Unknown";
+    /**
+     * Hand the adoptions completed after the given position (all of them if null) up to end, anonymised,
+     * to the consumer as they are read from the database
+     */
+    public void streamAnonymousAdoptionData(DateIdCursor after, @NotNull DateIdCursor end,
+                                            @NotNull Consumer<AnonymousAdoptionData> consumer) {
+        anonymousAdoptionRepository.forEachCompleted(after, end, consumer);
     }
-    String[] parts = address.split(",");
-    return parts.length > 0 ? parts[parts.length - 1].trim() : "Unknown";
-}
-    private Adoption transitionAdoptionStatus(
-        Long adoptionId,
-        AdoptionStatus expectedCurrentStatus,
-        AdoptionStatus newStatus,
-        User admin,
-        String adminNotes,
-        CatStatus newCatStatus,
-        boolean setCompletedDate){
-        Adoption adoption = adoptionRepository.findById(adoptionId)
-            .orElseThrow(() -> new RuntimeException("Adoption not found with id: " + adoptionId));
 
-        if (adoption.getStatus() != expectedCurrentStatus) {
-            throw new RuntimeException("Adoption must be " + expectedCurrentStatus + " to be transitioned to " + newStatus);
+    /**
+     * One guarded UPDATE moves the adoption, and its cat where the transition says so, then one SELECT
+     * reads the result back. A completion costs one statement more, an INSERT ... SELECT that writes its
+     * anonymous copy for the health-data export from the updated rows. Only a transition that matched no row
+     * costs an extra query, to tell a missing adoption from one in the wrong status.
+     */
+    private Adoption applyTransition(Long adoptionId, AdoptionTransition transition, User admin, Long ownerId,
+                                     String adminNotes) {
+        boolean applied = transitionRepository.apply(transition, adoptionId, admin != null ? admin.getId() : null,
+                ownerId, adminNotes, LocalDateTime.now());
+        if (!applied) {
+            Adoption adoption = adoptionRepository.findById(adoptionId)
+                .filter(found -> ownerId == null || ownerId.equals(found.getUser().getId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Adoption not found with id: " + adoptionId));
+            if (transition.getFrom().contains(adoption.getStatus()) && transition.requiresCat()) {
+                throw new InvalidAdoptionTransitionException("Cat is " + adoption.getCat().getStatus()
+                        + " and cannot be " + transition.getCatTo().name().toLowerCase() + ", expected one of "
+                        + transition.getCatFrom());
+            }
+            throw new InvalidAdoptionTransitionException("Adoption is " + adoption.getStatus() + " and cannot be "
+                    + transition.getTo().name().toLowerCase() + ", expected one of " + transition.getFrom());
         }
 
-        adoption.setStatus(newStatus);
-        adoption.setProcessedByAdmin(admin);
-
-        if (adminNotes != null) {
-            adoption.setAdminNotes(adminNotes);
+        if (transition == AdoptionTransition.COMPLETE) {
+            anonymousAdoptionService.record(adoptionId);
         }
-
-        if (newStatus == AdoptionStatus.APPROVED) {
-            adoption.setApprovedDate(LocalDateTime.now());
+        Adoption adoption = adoptionRepository.findWithDetailsById(adoptionId)
+            .orElseThrow(() -> new ResourceNotFoundException("Adoption not found with id: " + adoptionId));
+        if (transition.movesCat()) {
+            eventPublisher.publishEvent(CatChangedEvent.statusChanged(adoption.getCat().getId(), adoption.getCat().getStatus()));
         }
-
-        if (setCompletedDate) {
-            adoption.setCompletedDate(LocalDateTime.now());
-        }
-
-        if (newCatStatus != null) {
-            catService.updateCatStatus(adoption.getCat().getId(), newCatStatus);
-        }
-
-        log.info("Changed adoption {} to status {} by admin {}", adoptionId, newStatus, admin.getEmail());
-        return adoptionRepository.save(adoption);
+        log.info("Changed adoption {} to status {} by {}", adoptionId, transition.getTo(),
+                admin != null ? "admin " + admin.getEmail() : "user " + ownerId);
+        return adoption;
     }
 }
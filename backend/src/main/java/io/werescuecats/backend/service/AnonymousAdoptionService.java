@@ -0,0 +1,74 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.repository.AdoptionRepository;
+import io.werescuecats.backend.repository.AnonymousAdoptionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Maintains anonymous_adoptions, the pre-anonymised copy of completed adoptions the health-data export reads.
+ * Completing an adoption appends its copy in the same transaction; the backfill covers adoptions completed
+ * before the table existed or written around the service, such as sample and synthetic data.
+ */
+@Service
+@Slf4j
+public class AnonymousAdoptionService {
+
+    private record Batch(int size, long lastId) {}
+
+    private final AdoptionRepository adoptionRepository;
+    private final AnonymousAdoptionRepository anonymousAdoptionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AnonymousAdoptionService(AdoptionRepository adoptionRepository,
+                                    AnonymousAdoptionRepository anonymousAdoptionRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${cats.anonymous-adoptions.backfill-batch-size:500}") int batchSize) {
+        this.adoptionRepository = adoptionRepository;
+        this.anonymousAdoptionRepository = anonymousAdoptionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Append the anonymous copy of a just-completed adoption; joins the caller's transaction
+     */
+    public void record(Long adoptionId) {
+        anonymousAdoptionRepository.copyCompleted(List.of(adoptionId));
+    }
+
+    /**
+     * Copy every completed adoption that has no anonymous copy yet, one transaction per batch.
+     * Returns the number of adoptions copied.
+     */
+    public int backfill() {
+        int copied = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            Batch batch = transactionTemplate.execute(status -> {
+                List<Long> ids = adoptionRepository.findCompletedIdsWithoutAnonymousCopy(from, Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    return new Batch(0, from);
+                }
+                anonymousAdoptionRepository.copyCompleted(ids);
+                return new Batch(ids.size(), ids.get(ids.size() - 1));
+            });
+            if (batch == null || batch.size() == 0) {
+                break;
+            }
+            copied += batch.size();
+            afterId = batch.lastId();
+        }
+        if (copied > 0) {
+            log.info("Backfilled {} anonymous adoptions", copied);
+        }
+        return copied;
+    }
+}
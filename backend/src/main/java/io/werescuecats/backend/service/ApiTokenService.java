@@ -2,7 +2,6 @@ package io.werescuecats.backend.service;
 
 import io.werescuecats.backend.entity.ApiToken;
 import io.werescuecats.backend.repository.ApiTokenRepository;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,7 +32,7 @@ public class ApiTokenService {
         return apiTokenRepository.save(apiToken);
     }
 
-    @PostConstruct
+    // Run by the startup pipeline
     public void initializeDefaultTokens() {
         if (apiTokenRepository.count() == 0) {
             log.info("Initializing default API tokens...");
@@ -0,0 +1,236 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.repository.BreedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory snapshot of all breeds with trait and origin indexes.
+ * Writes never modify a snapshot: each change builds a new one from the previous snapshot plus the changed breeds
+ * and swaps it in, so readers always see a consistent catalog without locks or database calls.
+ * The version behind the breed ETag moves only when a new snapshot is swapped in, after the write committed, so an
+ * ETag never names a body that is not being served yet.
+ */
+@Component
+@Slf4j
+public class BreedCatalog {
+
+    private final BreedRepository breedRepository;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final String etagEpoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong lastModified = new AtomicLong(System.currentTimeMillis());
+
+    public BreedCatalog(BreedRepository breedRepository) {
+        this.breedRepository = breedRepository;
+    }
+
+    public List<Breed> getAll() {
+        return current().breeds();
+    }
+
+    public Optional<Breed> getById(String id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * Breeds whose name contains the given text, ignoring case
+     */
+    public List<Breed> findByName(String name) {
+        String needle = name.toLowerCase(Locale.ROOT);
+        Snapshot current = current();
+        List<Breed> result = new ArrayList<>();
+        for (int i = 0; i < current.breeds().size(); i++) {
+            if (current.lowerNames().get(i).contains(needle)) {
+                result.add(current.breeds().get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Same semantics as the repository filter query: child and dog friendliness are minimums,
+     * energy level is exact, origin is a case-insensitive substring; null filters are ignored
+     */
+    public List<Breed> filter(Integer childFriendly, Integer dogFriendly, Integer energyLevel, String origin) {
+        Snapshot current = current();
+        BitSet matches = new BitSet();
+        matches.set(0, current.breeds().size());
+        if (childFriendly != null) {
+            matches.and(atLeast(current.childFriendly(), childFriendly));
+        }
+        if (dogFriendly != null) {
+            matches.and(atLeast(current.dogFriendly(), dogFriendly));
+        }
+        if (energyLevel != null) {
+            matches.and(current.energyLevel().getOrDefault(energyLevel, new BitSet()));
+        }
+        if (origin != null) {
+            String needle = origin.toLowerCase(Locale.ROOT);
+            BitSet originMatches = new BitSet();
+            current.byOrigin().forEach((value, positions) -> {
+                if (value.contains(needle)) {
+                    originMatches.or(positions);
+                }
+            });
+            matches.and(originMatches);
+        }
+        return matches.stream().mapToObj(current.breeds()::get).toList();
+    }
+
+    /**
+     * Strong ETag for breed responses; changes whenever a new snapshot is swapped in
+     */
+    public String getETag() {
+        return "breeds-" + etagEpoch + "-" + version.get();
+    }
+
+    public long getLastModified() {
+        return lastModified.get();
+    }
+
+    /**
+     * Swap in a snapshot with the written breeds applied; the rest of the catalog is reused as is
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBreedsChanged(BreedsChangedEvent event) {
+        synchronized (this) {
+            Snapshot previous = snapshot;
+            if (previous != null) {
+                Map<String, Breed> breeds = new HashMap<>(previous.byId());
+                for (Breed breed : event.getBreeds()) {
+                    breeds.put(breed.getId(), copyOf(breed));
+                }
+                snapshot = Snapshot.of(breeds.values());
+            }
+            // Without a snapshot the next read loads the committed table, so the version moves either way
+            markChanged();
+        }
+    }
+
+    /**
+     * Replace the snapshot with a fresh copy of the breeds table
+     */
+    public synchronized void rebuild() {
+        load();
+        markChanged();
+    }
+
+    // After the swap, so a reader that sees the new version also sees the new snapshot
+    private void markChanged() {
+        lastModified.set(System.currentTimeMillis());
+        version.incrementAndGet();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                load();
+            }
+            return snapshot;
+        }
+    }
+
+    // Must hold the monitor
+    private void load() {
+        snapshot = Snapshot.of(breedRepository.findAll().stream().map(BreedCatalog::copyOf).toList());
+        log.info("Breed catalog loaded with {} breeds", snapshot.breeds().size());
+    }
+
+    private static BitSet atLeast(NavigableMap<Integer, BitSet> levels, int minimum) {
+        BitSet result = new BitSet();
+        levels.tailMap(minimum, true).values().forEach(result::or);
+        return result;
+    }
+
+    // Detached copy without the lazy cats collection, so the snapshot never touches the persistence context
+    static Breed copyOf(Breed source) {
+        Breed breed = new Breed(source.getId(), source.getName());
+        breed.setDescription(source.getDescription());
+        breed.setOrigin(source.getOrigin());
+        breed.setAdaptability(source.getAdaptability());
+        breed.setAffectionLevel(source.getAffectionLevel());
+        breed.setChildFriendly(source.getChildFriendly());
+        breed.setDogFriendly(source.getDogFriendly());
+        breed.setEnergyLevel(source.getEnergyLevel());
+        breed.setGrooming(source.getGrooming());
+        breed.setHealthIssues(source.getHealthIssues());
+        breed.setIntelligence(source.getIntelligence());
+        breed.setSocialNeeds(source.getSocialNeeds());
+        breed.setStrangerFriendly(source.getStrangerFriendly());
+        breed.setWikipediaUrl(source.getWikipediaUrl());
+        breed.setReferenceImageId(source.getReferenceImageId());
+        breed.setImageUrl(source.getImageUrl());
+        breed.setContentHash(source.getContentHash());
+        return breed;
+    }
+
+    private record Snapshot(List<Breed> breeds,
+                            Map<String, Breed> byId,
+                            List<String> lowerNames,
+                            NavigableMap<Integer, BitSet> childFriendly,
+                            NavigableMap<Integer, BitSet> dogFriendly,
+                            Map<Integer, BitSet> energyLevel,
+                            Map<String, BitSet> byOrigin) {
+
+        // Breeds are kept in id order, matching what the table returns
+        static Snapshot of(Collection<Breed> source) {
+            TreeMap<String, Breed> sorted = new TreeMap<>();
+            source.forEach(breed -> sorted.put(breed.getId(), breed));
+            List<Breed> breeds = List.copyOf(sorted.values());
+
+            List<String> lowerNames = new ArrayList<>(breeds.size());
+            NavigableMap<Integer, BitSet> childFriendly = new TreeMap<>();
+            NavigableMap<Integer, BitSet> dogFriendly = new TreeMap<>();
+            Map<Integer, BitSet> energyLevel = new HashMap<>();
+            Map<String, BitSet> byOrigin = new HashMap<>();
+            for (int i = 0; i < breeds.size(); i++) {
+                Breed breed = breeds.get(i);
+                lowerNames.add(breed.getName() == null ? "" : breed.getName().toLowerCase(Locale.ROOT));
+                index(childFriendly, breed.getChildFriendly(), i);
+                index(dogFriendly, breed.getDogFriendly(), i);
+                index(energyLevel, breed.getEnergyLevel(), i);
+                index(byOrigin, breed.getOrigin() == null ? null : breed.getOrigin().toLowerCase(Locale.ROOT), i);
+            }
+            return new Snapshot(breeds,
+                breeds.stream().collect(Collectors.toUnmodifiableMap(Breed::getId, Function.identity())),
+                List.copyOf(lowerNames),
+                Collections.unmodifiableNavigableMap(childFriendly),
+                Collections.unmodifiableNavigableMap(dogFriendly),
+                Map.copyOf(energyLevel),
+                Map.copyOf(byOrigin));
+        }
+
+        private static <K> void index(Map<K, BitSet> index, K key, int position) {
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new BitSet()).set(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.config.CatApiConfig;
+import io.werescuecats.backend.dto.CatImageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local pool of image URLs per breed, refilled from TheCatAPI in bulk
+ * (one /images/search?limit=N call per refill instead of one call per cat).
+ */
+@Component
+@Slf4j
+public class BreedImagePool {
+
+    private final CatApiConfig config;
+    private final RestTemplate restTemplate;
+    private final int batchSize;
+    private final int maxConcurrency;
+
+    private final Map<String, Queue<String>> pools = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+
+    public BreedImagePool(CatApiConfig config,
+                          RestTemplate restTemplate,
+                          @Value("${cats.image-pool.batch-size:25}") int batchSize,
+                          @Value("${cats.image-pool.max-concurrency:4}") int maxConcurrency) {
+        this.config = config;
+        this.restTemplate = restTemplate;
+        this.batchSize = batchSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Next image for the breed, refilling the pool with one bulk call when it is empty.
+     * Returns null if the breed has no images; throws if TheCatAPI call fails.
+     */
+    public String take(String breedId) {
+        String imageUrl = poll(breedId);
+        if (imageUrl != null) {
+            return imageUrl;
+        }
+        refillIfEmpty(breedId);
+        return poll(breedId);
+    }
+
+    /**
+     * Next image for the breed from the local pool only, null if it is empty
+     */
+    public String poll(String breedId) {
+        Queue<String> pool = pools.get(breedId);
+        return pool == null ? null : pool.poll();
+    }
+
+    public int available(String breedId) {
+        Queue<String> pool = pools.get(breedId);
+        return pool == null ? 0 : pool.size();
+    }
+
+    /**
+     * Refill every given breed whose pool is empty, at most maxConcurrency calls at a time.
+     * Blocks until all refills finished; failures are logged and leave that pool empty.
+     */
+    public void prefetch(Collection<String> breedIds) {
+        List<String> toFetch = new ArrayList<>();
+        for (String breedId : new LinkedHashSet<>(breedIds)) {
+            if (available(breedId) == 0) {
+                toFetch.add(breedId);
+            }
+        }
+        if (toFetch.isEmpty()) {
+            return;
+        }
+        log.info("Prefetching images for {} breeds", toFetch.size());
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String breedId : toFetch) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        refillIfEmpty(breedId);
+                    } catch (RuntimeException e) {
+                        log.warn("Prefetch failed for breed {}: {}", breedId, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    // One refill per breed at a time; callers that waited on the lock reuse the result
+    private void refillIfEmpty(String breedId) {
+        ReentrantLock lock = refillLocks.computeIfAbsent(breedId, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (available(breedId) == 0) {
+                refill(breedId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(String breedId) {
+        List<String> imageUrls = fetchImageUrls(breedId, batchSize);
+        if (imageUrls.isEmpty()) {
+            log.warn("No images found for breed: {}", breedId);
+            return;
+        }
+        pools.computeIfAbsent(breedId, key -> new ConcurrentLinkedQueue<>()).addAll(imageUrls);
+        log.info("Pooled {} image URLs for breed: {}", imageUrls.size(), breedId);
+    }
+
+    private List<String> fetchImageUrls(String breedId, int limit) {
+        log.info("Fetching {} image URLs for breed: {}", limit, breedId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-api-key", config.getApiKey());
+        headers.set("User-Agent", "WeRescueCats/1.0");
+        HttpEntity<?> entity = new HttpEntity<>(headers);
+
+        try {
+            String url = config.getBaseUrl() + "/images/search?limit=" + limit + "&breed_ids=" + breedId;
+
+            ResponseEntity<CatImageDto[]> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    entity,
+                    CatImageDto[].class);
+
+            CatImageDto[] images = response.getBody();
+            List<String> imageUrls = new ArrayList<>();
+            if (images != null) {
+                for (CatImageDto image : images) {
+                    if (image != null && image.getUrl() != null && !image.getUrl().isBlank()) {
+                        imageUrls.add(image.getUrl());
+                    }
+                }
+            }
+            return imageUrls;
+
+        } catch (Exception e) {
+            log.error("Failed to fetch image URLs for breed: {}", breedId, e);
+            throw new RuntimeException("API call failed", e);
+        }
+    }
+}
@@ -3,12 +3,11 @@ package io.werescuecats.backend.service;
 import io.werescuecats.backend.config.CatApiConfig;
 import io.werescuecats.backend.dto.BreedDto;
 import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.event.BreedsChangedEvent;
 import io.werescuecats.backend.repository.BreedRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.event.EventListener;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -17,10 +16,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -32,14 +36,39 @@ public class BreedService {
     private final CatApiConfig config;
     
     private final BreedRepository breedRepository;
+
+    private final BreedCatalog breedCatalog;
+
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Fetch all breeds from TheCatAPI and sync with local database
      */
     @Transactional
     public void fetchBreedsFromApi() {
-        log.info("Starting to fetch breeds from TheCatAPI");
+        List<BreedDto> apiBreeds = fetchApiBreeds();
+
+        List<Breed> breeds = apiBreeds.stream()
+            .map(apiBreed -> {
+                Breed breed = new Breed();
+                breed.setId(apiBreed.getId());
+                mapApiBreedToEntity(apiBreed, breed);
+                return breed;
+            })
+            .collect(Collectors.toList());
 
+        breedRepository.saveAll(breeds);
+        // The catalog swaps in the new breeds and moves the ETag once this commits
+        eventPublisher.publishEvent(new BreedsChangedEvent(breeds));
+
+        log.info("Fetched {} breeds from TheCatAPI", apiBreeds.size());
+    }
+
+    /**
+     * All breeds as TheCatAPI currently returns them, without touching the database
+     */
+    public List<BreedDto> fetchApiBreeds() {
+        log.info("Starting to fetch breeds from TheCatAPI");
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("x-api-key", config.getApiKey());
@@ -55,20 +84,7 @@ public class BreedService {
                 BreedDto[].class
             );
             
-            List<BreedDto> apiBreeds = Arrays.asList(response.getBody());
-
-            List<Breed> breeds = apiBreeds.stream()
-                .map(apiBreed -> {
-                    Breed breed = new Breed();
-                    breed.setId(apiBreed.getId());  
-                    mapApiBreedToEntity(apiBreed, breed);
-                    return breed;
-                })
-                .collect(Collectors.toList());
-            
-            breedRepository.saveAll(breeds);
-                
-            log.info("Fetched {} breeds from TheCatAPI", apiBreeds.size());
+            return Arrays.asList(response.getBody());
             
         } catch (Exception e) {
             log.error("Failed to fetch breeds from TheCatAPI", e);
@@ -76,7 +92,7 @@ public class BreedService {
         }
     }
     
-    private void mapApiBreedToEntity(BreedDto apiBreed, Breed breed) {
+    void mapApiBreedToEntity(BreedDto apiBreed, Breed breed) {
         breed.setName(apiBreed.getName());
         breed.setDescription(apiBreed.getDescription());
         breed.setOrigin(apiBreed.getOrigin());
@@ -93,39 +109,56 @@ public class BreedService {
         breed.setWikipediaUrl(apiBreed.getWikipediaUrl());
         breed.setReferenceImageId(apiBreed.getReferenceImageId());
         breed.setImageUrl(apiBreed.getImageUrl());
+        breed.setContentHash(contentHash(apiBreed));
     }
+
+    /**
+     * SHA-256 over every field we copy from TheCatAPI, so a sync can tell unchanged breeds apart without comparing rows
+     */
+    static String contentHash(BreedDto apiBreed) {
+        String content = Stream.of(apiBreed.getName(), apiBreed.getDescription(), apiBreed.getOrigin(),
+                apiBreed.getAdaptability(), apiBreed.getAffectionLevel(), apiBreed.getChildFriendly(),
+                apiBreed.getDogFriendly(), apiBreed.getEnergyLevel(), apiBreed.getGrooming(),
+                apiBreed.getHealthIssues(), apiBreed.getIntelligence(), apiBreed.getSocialNeeds(),
+                apiBreed.getStrangerFriendly(), apiBreed.getWikipediaUrl(), apiBreed.getReferenceImageId(),
+                apiBreed.getImageUrl())
+            .map(value -> value == null ? "\u0000" : value.toString())
+            .collect(Collectors.joining("\u001f"));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Strong ETag for breed responses; changes once written breeds are being served
+     */
+    public String getBreedsETag() {
+        return breedCatalog.getETag();
+    }
+
+    public long getBreedsLastModified() {
+        return breedCatalog.getLastModified();
+    }
+
     
+    // Breed reads are served from the in-memory catalog snapshot
     public List<Breed> getAllBreeds() {
-        return breedRepository.findAll();
+        return breedCatalog.getAll();
     }
     
-    @Cacheable("breed")
     public Optional<Breed> getBreedById(String id) {
-        return breedRepository.findById(id);
+        return breedCatalog.getById(id);
     }
     
     public List<Breed> searchBreeds(String name, Integer childFriendly, 
                                    Integer dogFriendly, Integer energyLevel, String origin) {
         if (name != null && !name.trim().isEmpty()) {
-            return breedRepository.findByNameContainingIgnoreCase(name.trim());
+            return breedCatalog.findByName(name.trim());
         }
         
-        return breedRepository.findBreedsWithFilters(childFriendly, dogFriendly, energyLevel, origin);
-    }
-    
-    //Fetch on application startup - only if database is empty
-    @EventListener(ApplicationReadyEvent.class)
-    public void onApplicationReady() {
-        if (config.isFetchOnStartup()) {
-            log.info("Application ready - checking if breeds data exists");
-            
-            long breedCount = breedRepository.count();
-            if (breedCount == 0) {
-                log.info("No breeds found in database, performing initial fetch");
-                fetchBreedsFromApi();
-            } else {
-                log.info("Database contains {} breeds, no fetch needed", breedCount);
-            }
-        }
+        return breedCatalog.filter(childFriendly, dogFriendly, energyLevel, origin);
     }
 }
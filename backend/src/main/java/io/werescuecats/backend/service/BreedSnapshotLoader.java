@@ -0,0 +1,87 @@
+package io.werescuecats.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.werescuecats.backend.dto.BreedDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.repository.BreedBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Seeds an empty breeds table from the gzipped TheCatAPI /breeds export bundled with the build.
+ * Breeds get the same content hash as a live fetch, so the next sync only rewrites breeds that changed upstream.
+ */
+@Component
+@Slf4j
+public class BreedSnapshotLoader {
+
+    static final String SNAPSHOT_LOCATION = "breeds/breeds-snapshot.json.gz";
+
+    private final BreedService breedService;
+    private final BreedBulkRepository breedBulkRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Resource snapshot;
+
+    public BreedSnapshotLoader(BreedService breedService,
+                               BreedBulkRepository breedBulkRepository,
+                               ObjectMapper objectMapper,
+                               ApplicationEventPublisher eventPublisher) {
+        this(breedService, breedBulkRepository, objectMapper, eventPublisher, new ClassPathResource(SNAPSHOT_LOCATION));
+    }
+
+    BreedSnapshotLoader(BreedService breedService,
+                        BreedBulkRepository breedBulkRepository,
+                        ObjectMapper objectMapper,
+                        ApplicationEventPublisher eventPublisher,
+                        Resource snapshot) {
+        this.breedService = breedService;
+        this.breedBulkRepository = breedBulkRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Insert every bundled breed in one batch; only call this on an empty breeds table
+     */
+    @Transactional
+    public int load() {
+        long start = System.nanoTime();
+        List<BreedDto> apiBreeds = read();
+
+        List<Breed> breeds = new ArrayList<>(apiBreeds.size());
+        for (BreedDto apiBreed : apiBreeds) {
+            Breed breed = new Breed();
+            breed.setId(apiBreed.getId());
+            breedService.mapApiBreedToEntity(apiBreed, breed);
+            breeds.add(breed);
+        }
+        breedBulkRepository.insertBreeds(breeds);
+        // The catalog swaps in the new breeds and moves the ETag once this commits
+        eventPublisher.publishEvent(new BreedsChangedEvent(breeds));
+
+        log.info("Loaded {} breeds from the bundled snapshot in {} ms", breeds.size(), (System.nanoTime() - start) / 1_000_000);
+        return breeds.size();
+    }
+
+    private List<BreedDto> read() {
+        try (InputStream in = new GZIPInputStream(snapshot.getInputStream())) {
+            return List.of(objectMapper.readValue(in, BreedDto[].class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read breed snapshot " + SNAPSHOT_LOCATION, e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.BreedDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.SyncWatermark;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.repository.BreedHashProjection;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.SyncWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the breeds table in step with TheCatAPI.
+ * On startup an empty table is seeded from the bundled snapshot and the live refresh runs as a
+ * non-critical startup stage, so readiness never waits on the network.
+ * Only breeds whose content hash changed are written, in batches with one transaction each,
+ * and only those breeds are swapped into the in-memory catalog.
+ */
+@Service
+@Slf4j
+public class BreedSyncService {
+
+    static final String SOURCE = "thecatapi-breeds";
+
+    public record Result(int fetched, int inserted, int updated) {
+
+        public int changed() {
+            return inserted + updated;
+        }
+    }
+
+    private final BreedService breedService;
+    private final BreedSnapshotLoader snapshotLoader;
+    private final BreedRepository breedRepository;
+    private final SyncWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public BreedSyncService(BreedService breedService,
+                            BreedSnapshotLoader snapshotLoader,
+                            BreedRepository breedRepository,
+                            SyncWatermarkRepository watermarkRepository,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${cats.breed-sync.enabled:true}") boolean enabled,
+                            @Value("${cats.breed-sync.batch-size:50}") int batchSize) {
+        this.breedService = breedService;
+        this.snapshotLoader = snapshotLoader;
+        this.breedRepository = breedRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Seed an empty breeds table from the bundled snapshot, falling back to a live sync if the snapshot is unusable
+     */
+    public void seedIfEmpty() {
+        long breedCount = breedRepository.count();
+        if (breedCount > 0) {
+            log.info("Database contains {} breeds", breedCount);
+            return;
+        }
+        log.info("No breeds found in database, loading the bundled snapshot");
+        try {
+            snapshotLoader.load();
+        } catch (RuntimeException e) {
+            log.error("Could not load the bundled breed snapshot, fetching breeds live", e);
+            sync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cats.breed-sync.interval-ms:21600000}",
+               initialDelayString = "${cats.breed-sync.initial-delay-ms:600000}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Breed sync failed, keeping the current breeds", e);
+        }
+    }
+
+    /**
+     * Fetch every breed, diff it against the stored content hashes and upsert the ones that changed
+     */
+    public Result sync() {
+        List<BreedDto> apiBreeds = breedService.fetchApiBreeds();
+
+        Map<String, String> storedHashes = new HashMap<>();
+        for (BreedHashProjection stored : breedRepository.findContentHashes()) {
+            storedHashes.put(stored.getId(), stored.getContentHash());
+        }
+
+        List<BreedDto> changed = new ArrayList<>();
+        for (BreedDto apiBreed : apiBreeds) {
+            if (apiBreed.getId() == null) {
+                continue;
+            }
+            if (!Objects.equals(storedHashes.get(apiBreed.getId()), BreedService.contentHash(apiBreed))) {
+                changed.add(apiBreed);
+            }
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < changed.size(); from += batchSize) {
+            List<BreedDto> batch = changed.subList(from, Math.min(from + batchSize, changed.size()));
+            inserted += transactionTemplate.execute(status -> upsert(batch));
+        }
+        Result result = new Result(apiBreeds.size(), inserted, changed.size() - inserted);
+        recordWatermark(result);
+
+        log.info("Breed sync done: {} fetched, {} inserted, {} updated", result.fetched(), result.inserted(), result.updated());
+        return result;
+    }
+
+    public SyncWatermark getWatermark() {
+        return watermarkRepository.findById(SOURCE).orElse(null);
+    }
+
+    // Runs inside a batch transaction; returns how many breeds were new
+    private int upsert(List<BreedDto> batch) {
+        Map<String, Breed> existing = breedRepository.findAllById(batch.stream().map(BreedDto::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(Breed::getId, Function.identity()));
+
+        List<Breed> written = new ArrayList<>(batch.size());
+        List<Breed> created = new ArrayList<>();
+        for (BreedDto apiBreed : batch) {
+            Breed breed = existing.get(apiBreed.getId());
+            if (breed == null) {
+                breed = new Breed();
+                breed.setId(apiBreed.getId());
+                created.add(breed);
+            }
+            // Managed breeds are flushed as batched updates on commit
+            breedService.mapApiBreedToEntity(apiBreed, breed);
+            written.add(breed);
+        }
+        breedRepository.saveAll(created);
+        eventPublisher.publishEvent(new BreedsChangedEvent(written));
+        return created.size();
+    }
+
+    private void recordWatermark(Result result) {
+        LocalDateTime now = LocalDateTime.now();
+        SyncWatermark watermark = watermarkRepository.findById(SOURCE).orElseGet(() -> new SyncWatermark(SOURCE));
+        watermark.setLastSyncedAt(now);
+        watermark.setItemCount(result.fetched());
+        watermark.setChangedCount(result.changed());
+        if (result.changed() > 0) {
+            watermark.setLastChangedAt(now);
+        }
+        watermarkRepository.save(watermark);
+    }
+}
@@ -0,0 +1,390 @@
+package io.werescuecats.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.werescuecats.backend.dto.BulkResultDto;
+import io.werescuecats.backend.dto.BulkRowResultDto;
+import io.werescuecats.backend.dto.BulkRowResultDto.Outcome;
+import io.werescuecats.backend.dto.BulkStatusChangeDto;
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.CatBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk cat import (CSV or NDJSON) and bulk status changes.
+ * Rows are validated as they are read and written in JDBC batches, one transaction per batch,
+ * so a bad row or a failed batch never takes the rest of the upload down with it.
+ */
+@Service
+@Slf4j
+public class CatBulkService {
+
+    static final List<String> CSV_COLUMNS = List.of(
+        "name", "age", "gender", "description", "breedId", "imageUrl", "latitude", "longitude", "address", "status");
+
+    private record PendingRow(int row, Cat cat) {}
+
+    private final CatBulkRepository catBulkRepository;
+    private final BreedRepository breedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public CatBulkService(CatBulkRepository catBulkRepository,
+                          BreedRepository breedRepository,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          ObjectMapper objectMapper,
+                          @Value("${cats.bulk.batch-size:500}") int batchSize) {
+        this.catBulkRepository = catBulkRepository;
+        this.breedRepository = breedRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import cats from CSV with a header row naming any of CSV_COLUMNS (name and breedId are required)
+     */
+    public BulkResultDto importCsv(InputStream input) {
+        BulkResultDto result = new BulkResultDto();
+        Map<String, Breed> breeds = loadBreeds();
+        List<PendingRow> pending = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return result;
+            }
+            List<String> header = parseCsvLine(stripBom(headerLine)).stream().map(String::trim).toList();
+            for (String column : header) {
+                if (!CSV_COLUMNS.contains(column)) {
+                    throw new IllegalArgumentException("Unknown CSV column: " + column);
+                }
+            }
+            for (String required : List.of("name", "breedId")) {
+                if (!header.contains(required)) {
+                    throw new IllegalArgumentException("CSV header must contain a '" + required + "' column");
+                }
+            }
+
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    List<String> values = parseCsvLine(line);
+                    if (values.size() != header.size()) {
+                        throw new IllegalArgumentException("Expected " + header.size() + " columns, got " + values.size());
+                    }
+                    Map<String, String> fields = new HashMap<>();
+                    for (int i = 0; i < header.size(); i++) {
+                        fields.put(header.get(i), values.get(i).isBlank() ? null : values.get(i).trim());
+                    }
+                    pending.add(new PendingRow(lineNumber, toCat(fromCsv(fields), breeds)));
+                } catch (IllegalArgumentException e) {
+                    result.add(new BulkRowResultDto(lineNumber, null, Outcome.REJECTED, e.getMessage()));
+                }
+                if (pending.size() >= batchSize) {
+                    flushInserts(pending, result);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the upload", e);
+        }
+        flushInserts(pending, result);
+        log.info("CSV import finished: {} created, {} failed", result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Import cats from newline-delimited JSON, one CatDto object per line
+     */
+    public BulkResultDto importNdjson(InputStream input) {
+        BulkResultDto result = new BulkResultDto();
+        Map<String, Breed> breeds = loadBreeds();
+        List<PendingRow> pending = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    CatDto dto = objectMapper.readValue(lineNumber == 1 ? stripBom(line) : line, CatDto.class);
+                    pending.add(new PendingRow(lineNumber, toCat(dto, breeds)));
+                } catch (JsonProcessingException e) {
+                    result.add(new BulkRowResultDto(lineNumber, null, Outcome.REJECTED, "Malformed JSON: " + e.getOriginalMessage()));
+                } catch (IllegalArgumentException e) {
+                    result.add(new BulkRowResultDto(lineNumber, null, Outcome.REJECTED, e.getMessage()));
+                }
+                if (pending.size() >= batchSize) {
+                    flushInserts(pending, result);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the upload", e);
+        }
+        flushInserts(pending, result);
+        log.info("NDJSON import finished: {} created, {} failed", result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Apply many status changes with batched UPDATEs; unknown cat ids are reported as NOT_FOUND
+     */
+    public BulkResultDto updateStatuses(List<BulkStatusChangeDto> changes) {
+        BulkResultDto result = new BulkResultDto();
+        for (int start = 0; start < changes.size(); start += batchSize) {
+            List<BulkStatusChangeDto> batch = changes.subList(start, Math.min(changes.size(), start + batchSize));
+            List<Integer> rows = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            List<CatStatus> statuses = new ArrayList<>();
+
+            for (int i = 0; i < batch.size(); i++) {
+                BulkStatusChangeDto change = batch.get(i);
+                int row = start + i + 1;
+                if (change.getCatId() == null || change.getStatus() == null) {
+                    result.add(new BulkRowResultDto(row, change.getCatId(), Outcome.REJECTED, "catId and status are required"));
+                    continue;
+                }
+                rows.add(row);
+                ids.add(change.getCatId());
+                statuses.add(change.getStatus());
+            }
+            if (!ids.isEmpty()) {
+                flushStatusUpdates(rows, ids, statuses, result);
+            }
+        }
+        log.info("Bulk status update finished: {} updated, {} failed", result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    private void flushInserts(List<PendingRow> pending, BulkResultDto result) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Cat> cats = pending.stream().map(PendingRow::cat).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = catBulkRepository.insertCats(cats);
+                for (int i = 0; i < cats.size(); i++) {
+                    cats.get(i).setId(ids.get(i));
+                }
+                List<Cat> withoutImage = cats.stream().filter(cat -> cat.getImageUrl() == null).toList();
+                if (!withoutImage.isEmpty()) {
+                    catBulkRepository.insertImageTasks(withoutImage, LocalDateTime.now());
+                }
+                // Delivered to the read models after commit
+                cats.forEach(cat -> eventPublisher.publishEvent(CatChangedEvent.saved(cat)));
+            });
+            for (PendingRow row : pending) {
+                result.add(new BulkRowResultDto(row.row(), row.cat().getId(), Outcome.CREATED, null));
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk insert of {} cats failed", pending.size(), e);
+            for (PendingRow row : pending) {
+                result.add(new BulkRowResultDto(row.row(), null, Outcome.FAILED, "Batch write failed: " + e.getMessage()));
+            }
+        }
+        pending.clear();
+    }
+
+    private void flushStatusUpdates(List<Integer> rows, List<Long> ids, List<CatStatus> statuses, BulkResultDto result) {
+        try {
+            Set<Long> found = transactionTemplate.execute(status -> {
+                Set<Long> existing = catBulkRepository.findExistingIds(ids);
+                List<Long> updateIds = new ArrayList<>();
+                List<CatStatus> updateStatuses = new ArrayList<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    if (existing.contains(ids.get(i))) {
+                        updateIds.add(ids.get(i));
+                        updateStatuses.add(statuses.get(i));
+                    }
+                }
+                if (!updateIds.isEmpty()) {
+                    catBulkRepository.updateStatuses(updateIds, updateStatuses, LocalDateTime.now());
+                    for (int i = 0; i < updateIds.size(); i++) {
+                        eventPublisher.publishEvent(CatChangedEvent.statusChanged(updateIds.get(i), updateStatuses.get(i)));
+                    }
+                }
+                return existing;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                boolean updated = found != null && found.contains(ids.get(i));
+                result.add(new BulkRowResultDto(rows.get(i), ids.get(i),
+                    updated ? Outcome.UPDATED : Outcome.NOT_FOUND,
+                    updated ? null : "Cat not found"));
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk status update of {} cats failed", ids.size(), e);
+            for (int i = 0; i < ids.size(); i++) {
+                result.add(new BulkRowResultDto(rows.get(i), ids.get(i), Outcome.FAILED, "Batch write failed: " + e.getMessage()));
+            }
+        }
+    }
+
+    private Map<String, Breed> loadBreeds() {
+        return breedRepository.findAll().stream().collect(Collectors.toMap(Breed::getId, Function.identity()));
+    }
+
+    // Same rules as the Cat entity constraints, checked up front so one bad row does not fail a batch
+    static Cat toCat(CatDto dto, Map<String, Breed> breeds) {
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        if (dto.getName().length() > 100) {
+            throw new IllegalArgumentException("name must be at most 100 characters");
+        }
+        if (dto.getBreedId() == null) {
+            throw new IllegalArgumentException("breedId is required");
+        }
+        Breed breed = breeds.get(dto.getBreedId());
+        if (breed == null) {
+            throw new IllegalArgumentException("Unknown breedId: " + dto.getBreedId());
+        }
+        if (dto.getAge() != null && (dto.getAge() < 0 || dto.getAge() > 30)) {
+            throw new IllegalArgumentException("age must be between 0 and 30");
+        }
+        if (dto.getLatitude() != null && (dto.getLatitude() < -90.0 || dto.getLatitude() > 90.0)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (dto.getLongitude() != null && (dto.getLongitude() < -180.0 || dto.getLongitude() > 180.0)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        if (dto.getAddress() != null && dto.getAddress().length() > 500) {
+            throw new IllegalArgumentException("address must be at most 500 characters");
+        }
+        if (dto.getImageUrl() != null && dto.getImageUrl().length() > 500) {
+            throw new IllegalArgumentException("imageUrl must be at most 500 characters");
+        }
+
+        Cat cat = new Cat();
+        cat.setName(dto.getName().trim());
+        cat.setAge(dto.getAge());
+        cat.setGender(dto.getGender() == null ? null : dto.getGender().trim().toUpperCase(Locale.ROOT));
+        cat.setDescription(dto.getDescription());
+        cat.setBreed(breed);
+        cat.setImageUrl(dto.getImageUrl() == null || dto.getImageUrl().isBlank() ? null : dto.getImageUrl());
+        cat.setLatitude(dto.getLatitude());
+        cat.setLongitude(dto.getLongitude());
+        cat.setAddress(dto.getAddress());
+        cat.setStatus(dto.getStatus() == null ? CatStatus.AVAILABLE : dto.getStatus());
+        LocalDateTime now = LocalDateTime.now();
+        cat.setCreatedAt(now);
+        cat.setUpdatedAt(now);
+        return cat;
+    }
+
+    private static CatDto fromCsv(Map<String, String> fields) {
+        return CatDto.builder()
+            .name(fields.get("name"))
+            .age(parseNumber(fields, "age", Integer::valueOf))
+            .gender(fields.get("gender"))
+            .description(fields.get("description"))
+            .breedId(fields.get("breedId"))
+            .imageUrl(fields.get("imageUrl"))
+            .latitude(parseNumber(fields, "latitude", Double::valueOf))
+            .longitude(parseNumber(fields, "longitude", Double::valueOf))
+            .address(fields.get("address"))
+            .status(parseStatus(fields.get("status")))
+            .build();
+    }
+
+    private static <T> T parseNumber(Map<String, String> fields, String column, Function<String, T> parser) {
+        String value = fields.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+    }
+
+    private static CatStatus parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CatStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + value);
+        }
+    }
+
+    /**
+     * Split one RFC 4180 line: comma separated, fields may be double-quoted with "" as an escaped quote.
+     * Quoted fields spanning several lines are not supported.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' && current.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,278 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.CatalogCacheStatsDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.CatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-through, in-memory copy of the cat catalog.
+ * Loaded once from the database, then every cat write is applied as a delta and bumps the version,
+ * so reads never need to go back to the database and never see stale entries.
+ */
+@Component
+@Slf4j
+public class CatCatalogCache extends CatReadModel {
+
+    private final CatRepository catRepository;
+
+    private final Map<Long, CatDto> byId = new HashMap<>();
+    private final NavigableMap<Long, CatDto> available = new TreeMap<>();
+    private final Map<String, NavigableMap<Long, CatDto>> byBreed = new HashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    // Keeps ETags from a previous process from matching after a restart resets the version
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private volatile long lastModified = System.currentTimeMillis();
+
+    private record Snapshot(long version, List<CatDto> cats) {}
+
+    // Available listing materialised once per version
+    private volatile Snapshot availableSnapshot = new Snapshot(-1, List.of());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public CatCatalogCache(CatRepository catRepository) {
+        this.catRepository = catRepository;
+    }
+
+    public long getVersion() {
+        ensureLoaded();
+        return version.get();
+    }
+
+    /**
+     * Strong ETag for anything served from the catalog; changes on every cat write
+     */
+    public String getETag() {
+        ensureLoaded();
+        return "cats-" + epoch + "-" + version.get();
+    }
+
+    /**
+     * Time of the last cat write applied to the catalog, in epoch millis
+     */
+    public long getLastModified() {
+        ensureLoaded();
+        return lastModified;
+    }
+
+    public List<CatDto> getAvailable() {
+        ensureLoaded();
+        hits.increment();
+        Snapshot snapshot = availableSnapshot;
+        if (snapshot.version() == version.get()) {
+            return snapshot.cats();
+        }
+        lock.readLock().lock();
+        try {
+            snapshot = new Snapshot(version.get(), List.copyOf(available.values()));
+            availableSnapshot = snapshot;
+            return snapshot.cats();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CatDto> getByBreed(String breedId) {
+        ensureLoaded();
+        hits.increment();
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, CatDto> cats = byBreed.get(breedId);
+            return cats == null ? List.of() : List.copyOf(cats.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Look up a single cat, falling back to the database for ids the cache has not seen
+     */
+    public Optional<CatDto> getById(Long id) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            CatDto cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        misses.increment();
+        Optional<CatDto> loadedCat = catRepository.findDtoById(id);
+        loadedCat.ifPresent(dto -> {
+            lock.writeLock().lock();
+            try {
+                if (!byId.containsKey(id)) {
+                    put(dto);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        return loadedCat;
+    }
+
+    public List<CatDto> getByIds(List<Long> ids) {
+        ensureLoaded();
+        hits.increment();
+        lock.readLock().lock();
+        try {
+            return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatChanged(CatChangedEvent event) {
+        applyIfLoaded(() -> {
+            CatDto previous = byId.get(event.getCatId());
+            if (event.hasEntity()) {
+                CatDto dto = toDto(event.getCat(), previous);
+                if (dto == null) {
+                    remove(event.getCatId());
+                } else {
+                    put(dto);
+                }
+            } else if (previous != null) {
+                put(previous.toBuilder()
+                    .status(event.getStatus())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            }
+        });
+    }
+
+    /**
+     * Patch the breed name into cached cats of renamed breeds
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBreedsChanged(BreedsChangedEvent event) {
+        applyIfLoaded(() -> {
+            for (Breed breed : event.getBreeds()) {
+                NavigableMap<Long, CatDto> breedCats = byBreed.get(breed.getId());
+                if (breedCats == null) {
+                    continue;
+                }
+                for (CatDto cat : List.copyOf(breedCats.values())) {
+                    if (!Objects.equals(cat.getBreedName(), breed.getName())) {
+                        put(cat.toBuilder().breedName(breed.getName()).build());
+                    }
+                }
+            }
+        });
+    }
+
+    public CatalogCacheStatsDto getStats() {
+        lock.readLock().lock();
+        try {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long total = hitCount + missCount;
+            return CatalogCacheStatsDto.builder()
+                .version(version.get())
+                .size(byId.size())
+                .availableCount(available.size())
+                .hits(hitCount)
+                .misses(missCount)
+                .loads(loads.sum())
+                .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void load() {
+        byId.clear();
+        available.clear();
+        byBreed.clear();
+        for (CatDto dto : catRepository.findAllDtos()) {
+            put(dto);
+        }
+        loads.increment();
+        lastModified = System.currentTimeMillis();
+        log.info("Cat catalog cache loaded with {} cats ({} available)", byId.size(), available.size());
+    }
+
+    // Must hold the write lock
+    private void put(CatDto dto) {
+        unlink(dto.getId());
+        byId.put(dto.getId(), dto);
+        if (dto.getStatus() == CatStatus.AVAILABLE) {
+            available.put(dto.getId(), dto);
+        }
+        if (dto.getBreedId() != null) {
+            byBreed.computeIfAbsent(dto.getBreedId(), key -> new TreeMap<>()).put(dto.getId(), dto);
+        }
+        bumpVersion();
+    }
+
+    // Must hold the write lock
+    private void remove(Long id) {
+        if (unlink(id)) {
+            bumpVersion();
+        }
+    }
+
+    // Must hold the write lock
+    private void bumpVersion() {
+        lastModified = System.currentTimeMillis();
+        version.incrementAndGet();
+    }
+
+    // Must hold the write lock
+    private boolean unlink(Long id) {
+        CatDto previous = byId.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        available.remove(id);
+        if (previous.getBreedId() != null) {
+            NavigableMap<Long, CatDto> breedCats = byBreed.get(previous.getBreedId());
+            if (breedCats != null) {
+                breedCats.remove(id);
+                if (breedCats.isEmpty()) {
+                    byBreed.remove(previous.getBreedId());
+                }
+            }
+        }
+        return true;
+    }
+
+    private CatDto toDto(Cat cat, CatDto previous) {
+        try {
+            return CatDto.fromEntity(cat, previous == null
+                ? breedName(cat, null, null)
+                : breedName(cat, previous.getBreedId(), previous.getBreedName()));
+        } catch (RuntimeException e) {
+            log.warn("Could not map cat {} for the catalog cache, evicting it", cat.getId(), e);
+            return null;
+        }
+    }
+}
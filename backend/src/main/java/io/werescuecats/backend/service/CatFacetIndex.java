@@ -0,0 +1,295 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.CatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Bitset indexes over cat attributes and breed traits for faceted search.
+ * Each cat gets a slot; every facet value keeps a BitSet of the slots that have it.
+ * Values within a facet are OR-ed, facets are AND-ed, except traits where every selected trait must hold.
+ */
+@Component
+@Slf4j
+public class CatFacetIndex extends CatReadModel {
+
+    public static final String STATUS = "status";
+    public static final String GENDER = "gender";
+    public static final String AGE_GROUP = "ageGroup";
+    public static final String BREED = "breed";
+    public static final String TRAITS = "traits";
+
+    public static final List<String> FACETS = List.of(STATUS, GENDER, AGE_GROUP, BREED, TRAITS);
+
+    public record Result(List<Long> catIds, int total, Map<String, Map<String, Integer>> counts) {}
+
+    private record Entry(int slot, Map<String, Set<String>> values) {}
+
+    private final CatRepository catRepository;
+    private final BreedRepository breedRepository;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final List<Long> catIdBySlot = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, Map<String, BitSet>> bitsets = new HashMap<>();
+    private final Map<String, Set<String>> breedTraits = new HashMap<>();
+
+    public CatFacetIndex(CatRepository catRepository, BreedRepository breedRepository) {
+        this.catRepository = catRepository;
+        this.breedRepository = breedRepository;
+    }
+
+    public Result search(Map<String, Set<String>> filters, int page, int size) {
+        return search(filters, false, page, size);
+    }
+
+    /**
+     * Cats matching every filter, paged in catalog order, with counts per facet value.
+     * A facet's counts ignore that facet's own filter, so they show what selecting another value would give.
+     * With availableOnly nothing outside AVAILABLE is matched or counted, the status counts included.
+     */
+    public Result search(Map<String, Set<String>> filters, boolean availableOnly, int page, int size) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            BitSet visible = (BitSet) live.clone();
+            if (availableOnly) {
+                visible.and(match(STATUS, Set.of(CatStatus.AVAILABLE.name())));
+            }
+            Map<String, BitSet> facetMatches = new HashMap<>();
+            for (String facet : FACETS) {
+                Set<String> selected = filters.getOrDefault(facet, Set.of());
+                if (!selected.isEmpty()) {
+                    facetMatches.put(facet, match(facet, selected));
+                }
+            }
+
+            BitSet matches = (BitSet) visible.clone();
+            facetMatches.values().forEach(matches::and);
+
+            Map<String, Map<String, Integer>> counts = new TreeMap<>();
+            for (String facet : FACETS) {
+                BitSet base = matches;
+                if (facetMatches.containsKey(facet) && !TRAITS.equals(facet)) {
+                    base = (BitSet) visible.clone();
+                    for (Map.Entry<String, BitSet> other : facetMatches.entrySet()) {
+                        if (!other.getKey().equals(facet)) {
+                            base.and(other.getValue());
+                        }
+                    }
+                }
+                Map<String, Integer> valueCounts = new TreeMap<>();
+                for (Map.Entry<String, BitSet> value : bitsets.getOrDefault(facet, Map.of()).entrySet()) {
+                    BitSet hits = (BitSet) value.getValue().clone();
+                    hits.and(base);
+                    int count = hits.cardinality();
+                    if (count > 0) {
+                        valueCounts.put(value.getKey(), count);
+                    }
+                }
+                counts.put(facet, valueCounts);
+            }
+
+            int total = matches.cardinality();
+            // As a long, so a huge page number cannot overflow into a negative offset
+            long skip = (long) Math.max(0, page) * size;
+            List<Long> catIds = new ArrayList<>(skip >= total ? 0 : size);
+            for (int slot = skip >= total ? -1 : matches.nextSetBit(0); slot >= 0 && catIds.size() < size;
+                 slot = matches.nextSetBit(slot + 1)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    catIds.add(catIdBySlot.get(slot));
+                }
+            }
+            return new Result(catIds, total, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatChanged(CatChangedEvent event) {
+        applyIfLoaded(() -> {
+            Entry previous = entries.get(event.getCatId());
+            if (event.hasEntity()) {
+                Cat cat = event.getCat();
+                Breed breed = cat.getBreed();
+                put(cat.getId(), cat.getStatus(), cat.getGender(), cat.getAge(), breed == null ? null : breed.getId());
+            } else if (previous != null) {
+                Map<String, Set<String>> values = new HashMap<>(previous.values());
+                values.put(STATUS, Set.of(event.getStatus().name()));
+                put(event.getCatId(), values);
+            }
+        });
+    }
+
+    /**
+     * Re-derive trait bits for cats of breeds whose traits changed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBreedsChanged(BreedsChangedEvent event) {
+        applyIfLoaded(() -> {
+            Map<String, Set<String>> changedTraits = new HashMap<>();
+            for (Breed breed : event.getBreeds()) {
+                Set<String> traits = traitsOf(breed);
+                if (!traits.equals(breedTraits.put(breed.getId(), traits))) {
+                    changedTraits.put(breed.getId(), traits);
+                }
+            }
+            if (changedTraits.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<Long, Entry> entry : List.copyOf(entries.entrySet())) {
+                Set<String> breed = entry.getValue().values().getOrDefault(BREED, Set.of());
+                for (String breedId : breed) {
+                    Set<String> traits = changedTraits.get(breedId);
+                    if (traits != null) {
+                        Map<String, Set<String>> values = new HashMap<>(entry.getValue().values());
+                        values.put(TRAITS, traits);
+                        put(entry.getKey(), values);
+                    }
+                }
+            }
+        });
+    }
+
+    static String ageGroup(Integer age) {
+        if (age == null) {
+            return null;
+        }
+        if (age <= 1) {
+            return "KITTEN";
+        }
+        if (age <= 3) {
+            return "YOUNG";
+        }
+        return age <= 7 ? "ADULT" : "SENIOR";
+    }
+
+    static Set<String> traitsOf(Breed breed) {
+        Set<String> traits = new LinkedHashSet<>();
+        if (breed.isGoodWithKids()) {
+            traits.add("goodWithKids");
+        }
+        if (breed.isGoodWithDogs()) {
+            traits.add("goodWithDogs");
+        }
+        if (breed.isHighEnergy()) {
+            traits.add("highEnergy");
+        }
+        if (breed.isLowMaintenance()) {
+            traits.add("lowMaintenance");
+        }
+        return traits;
+    }
+
+    private BitSet match(String facet, Set<String> selected) {
+        Map<String, BitSet> values = bitsets.getOrDefault(facet, Map.of());
+        BitSet result = new BitSet();
+        boolean first = true;
+        for (String value : selected) {
+            BitSet slots = values.getOrDefault(normalize(facet, value), new BitSet());
+            if (TRAITS.equals(facet)) {
+                if (first) {
+                    result.or(slots);
+                } else {
+                    result.and(slots);
+                }
+            } else {
+                result.or(slots);
+            }
+            first = false;
+        }
+        return result;
+    }
+
+    @Override
+    protected void load() {
+        entries.clear();
+        catIdBySlot.clear();
+        live.clear();
+        bitsets.clear();
+        breedTraits.clear();
+        for (Breed breed : breedRepository.findAll()) {
+            breedTraits.put(breed.getId(), traitsOf(breed));
+        }
+        for (CatDto cat : catRepository.findAllDtos()) {
+            put(cat.getId(), cat.getStatus(), cat.getGender(), cat.getAge(), cat.getBreedId());
+        }
+        log.info("Facet index loaded with {} cats", entries.size());
+    }
+
+    // Must hold the write lock
+    private void put(Long catId, CatStatus status, String gender, Integer age, String breedId) {
+        Map<String, Set<String>> values = new HashMap<>();
+        if (status != null) {
+            values.put(STATUS, Set.of(status.name()));
+        }
+        if (gender != null && !gender.isBlank()) {
+            values.put(GENDER, Set.of(normalize(GENDER, gender)));
+        }
+        String ageGroup = ageGroup(age);
+        if (ageGroup != null) {
+            values.put(AGE_GROUP, Set.of(ageGroup));
+        }
+        if (breedId != null) {
+            values.put(BREED, Set.of(breedId));
+            values.put(TRAITS, traitsFor(breedId));
+        }
+        put(catId, values);
+    }
+
+    // Must hold the write lock
+    private void put(Long catId, Map<String, Set<String>> values) {
+        Entry previous = entries.get(catId);
+        int slot;
+        if (previous != null) {
+            slot = previous.slot();
+            previous.values().forEach((facet, facetValues) ->
+                facetValues.forEach(value -> bitsets.get(facet).get(value).clear(slot)));
+        } else {
+            slot = catIdBySlot.size();
+            catIdBySlot.add(catId);
+            live.set(slot);
+        }
+        values.forEach((facet, facetValues) -> facetValues.forEach(value ->
+            bitsets.computeIfAbsent(facet, key -> new HashMap<>())
+                .computeIfAbsent(value, key -> new BitSet())
+                .set(slot)));
+        entries.put(catId, new Entry(slot, values));
+    }
+
+    private Set<String> traitsFor(String breedId) {
+        Set<String> traits = breedTraits.get(breedId);
+        if (traits == null) {
+            traits = breedRepository.findById(breedId).map(CatFacetIndex::traitsOf).orElse(Set.of());
+            breedTraits.put(breedId, traits);
+        }
+        return traits;
+    }
+
+    private static String normalize(String facet, String value) {
+        return STATUS.equals(facet) || GENDER.equals(facet) || AGE_GROUP.equals(facet)
+            ? value.trim().toUpperCase(Locale.ROOT)
+            : value.trim();
+    }
+}
@@ -0,0 +1,261 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.CatLocationProjection;
+import io.werescuecats.backend.repository.CatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory grid index over the locations of available cats.
+ * The world is cut into square lat/lon cells; radius and nearest queries only
+ * visit the cells around the query point and filter by haversine distance.
+ */
+@Component
+@Slf4j
+public class CatGeoIndex extends CatReadModel {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    // One degree of latitude on the sphere distanceKm measures on, so degree bounds never cut inside a radius
+    static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+
+    public record Hit(Long catId, double distanceKm) {}
+
+    private record Entry(long catId, double latitude, double longitude, boolean available) {}
+
+    private final CatRepository catRepository;
+    private final double cellSize;
+    private final int latCells;
+    private final int lonCells;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Map<Long, Entry>> cells = new HashMap<>();
+    private int availableCount = 0;
+
+    public CatGeoIndex(CatRepository catRepository,
+                       @Value("${cats.geo-index.cell-size-degrees:0.05}") double cellSize) {
+        this.catRepository = catRepository;
+        this.cellSize = cellSize;
+        this.latCells = (int) Math.ceil(180.0 / cellSize);
+        this.lonCells = (int) Math.ceil(360.0 / cellSize);
+    }
+
+    /**
+     * Available cats within radiusKm of the point, nearest first
+     */
+    public List<Hit> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            double latDelta = radiusKm / KM_PER_DEGREE;
+            int minLat = latIndex(latitude - latDelta);
+            int maxLat = latIndex(latitude + latDelta);
+
+            double widestLat = Math.min(89.9, Math.max(Math.abs(latitude - latDelta), Math.abs(latitude + latDelta)));
+            double lonDelta = latDelta / Math.cos(Math.toRadians(widestLat));
+            int lonSpan = lonDelta >= 180.0 ? lonCells : Math.min(lonCells, 2 * (int) Math.ceil(lonDelta / cellSize) + 1);
+            int firstLon = lonSpan == lonCells ? 0 : lonIndex(longitude - lonDelta);
+
+            long cellCount = (long) (maxLat - minLat + 1) * lonSpan;
+            if (cellCount > availableCount) {
+                for (Entry entry : entries.values()) {
+                    collectIfWithin(entry, latitude, longitude, radiusKm, hits);
+                }
+            } else {
+                for (int i = minLat; i <= maxLat; i++) {
+                    for (int j = 0; j < lonSpan; j++) {
+                        Map<Long, Entry> cell = cells.get(cellKey(i, Math.floorMod(firstLon + j, lonCells)));
+                        if (cell != null) {
+                            for (Entry entry : cell.values()) {
+                                collectIfWithin(entry, latitude, longitude, radiusKm, hits);
+                            }
+                        }
+                    }
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The k available cats closest to the point, nearest first.
+     * Searches rings of cells outwards until no unvisited cell can beat the current k-th hit.
+     */
+    public List<Hit> findNearest(double latitude, double longitude, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceKm).reversed());
+            int centerLat = latIndex(latitude);
+            int centerLon = lonIndex(longitude);
+            long visited = 0;
+
+            for (int ring = 0; ; ring++) {
+                if (visited > availableCount || 2 * ring + 1 > Math.min(latCells, lonCells)) {
+                    best.clear();
+                    for (Entry entry : entries.values()) {
+                        if (entry.available()) {
+                            offer(best, k, new Hit(entry.catId(), distanceKm(latitude, longitude, entry.latitude(), entry.longitude())));
+                        }
+                    }
+                    break;
+                }
+                visited += visitRing(centerLat, centerLon, ring, latitude, longitude, k, best);
+                if (best.size() == k && ringLowerBoundKm(latitude, ring) >= best.peek().distanceKm()) {
+                    break;
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatChanged(CatChangedEvent event) {
+        applyIfLoaded(() -> {
+            if (event.hasEntity()) {
+                Cat cat = event.getCat();
+                put(cat.getId(), cat.getLatitude(), cat.getLongitude(), cat.getStatus());
+            } else {
+                Entry existing = entries.get(event.getCatId());
+                if (existing != null) {
+                    put(existing.catId(), existing.latitude(), existing.longitude(), event.getStatus());
+                }
+            }
+        });
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    @Override
+    protected void load() {
+        entries.clear();
+        cells.clear();
+        availableCount = 0;
+        List<CatLocationProjection> locations = catRepository.findAllLocations();
+        for (CatLocationProjection location : locations) {
+            put(location.getId(), location.getLatitude(), location.getLongitude(), location.getStatus());
+        }
+        log.info("Geo index loaded with {} cats ({} available)", entries.size(), availableCount);
+    }
+
+    // Must hold the write lock
+    private void put(Long catId, Double latitude, Double longitude, CatStatus status) {
+        Entry previous = entries.remove(catId);
+        if (previous != null && previous.available()) {
+            Map<Long, Entry> cell = cells.get(cellKey(previous.latitude(), previous.longitude()));
+            if (cell != null) {
+                cell.remove(catId);
+                if (cell.isEmpty()) {
+                    cells.remove(cellKey(previous.latitude(), previous.longitude()));
+                }
+            }
+            availableCount--;
+        }
+        if (latitude == null || longitude == null) {
+            return;
+        }
+
+        Entry entry = new Entry(catId, latitude, longitude, status == CatStatus.AVAILABLE);
+        entries.put(catId, entry);
+        if (entry.available()) {
+            cells.computeIfAbsent(cellKey(latitude, longitude), key -> new HashMap<>()).put(catId, entry);
+            availableCount++;
+        }
+    }
+
+    private long visitRing(int centerLat, int centerLon, int ring,
+                           double latitude, double longitude, int k, PriorityQueue<Hit> best) {
+        long visited = 0;
+        for (int di = -ring; di <= ring; di++) {
+            int i = centerLat + di;
+            if (i < 0 || i >= latCells) {
+                continue;
+            }
+            boolean edgeRow = Math.abs(di) == ring;
+            int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+            for (int dj = -ring; dj <= ring; dj += step) {
+                visited++;
+                Map<Long, Entry> cell = cells.get(cellKey(i, Math.floorMod(centerLon + dj, lonCells)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.values()) {
+                    offer(best, k, new Hit(entry.catId(), distanceKm(latitude, longitude, entry.latitude(), entry.longitude())));
+                }
+            }
+        }
+        return visited;
+    }
+
+    // Minimum distance from the query point to any cell outside the first ring+1 rings
+    private double ringLowerBoundKm(double latitude, int ring) {
+        double band = Math.min(89.9, Math.abs(latitude) + (ring + 1) * cellSize);
+        return ring * cellSize * KM_PER_DEGREE * Math.cos(Math.toRadians(band));
+    }
+
+    private static void offer(PriorityQueue<Hit> best, int k, Hit hit) {
+        if (best.size() < k) {
+            best.add(hit);
+        } else if (hit.distanceKm() < best.peek().distanceKm()) {
+            best.poll();
+            best.add(hit);
+        }
+    }
+
+    private static void collectIfWithin(Entry entry, double latitude, double longitude, double radiusKm, List<Hit> hits) {
+        if (!entry.available()) {
+            return;
+        }
+        double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+        if (distance <= radiusKm) {
+            hits.add(new Hit(entry.catId(), distance));
+        }
+    }
+
+    private int latIndex(double latitude) {
+        double clamped = Math.max(-90.0, Math.min(90.0, latitude));
+        return Math.min(latCells - 1, (int) Math.floor((clamped + 90.0) / cellSize));
+    }
+
+    private int lonIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellSize), lonCells);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(latIndex(latitude), lonIndex(longitude));
+    }
+
+    private long cellKey(int latIndex, int lonIndex) {
+        return (long) latIndex * lonCells + lonIndex;
+    }
+}
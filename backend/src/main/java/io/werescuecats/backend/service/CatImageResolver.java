@@ -0,0 +1,102 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.ImageResolutionTask;
+import io.werescuecats.backend.entity.ImageTaskStatus;
+import io.werescuecats.backend.repository.ImageResolutionTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Works through the image_resolution_tasks queue in the background.
+ * Each task fetches a breed image from TheCatAPI outside of any transaction;
+ * failures are retried with exponential backoff until maxAttempts is reached.
+ */
+@Component
+@Slf4j
+public class CatImageResolver {
+
+    private final ImageResolutionTaskRepository taskRepository;
+    private final CatService catService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public CatImageResolver(ImageResolutionTaskRepository taskRepository,
+                            CatService catService,
+                            @Value("${cats.image-resolver.batch-size:20}") int batchSize,
+                            @Value("${cats.image-resolver.max-attempts:8}") int maxAttempts,
+                            @Value("${cats.image-resolver.initial-backoff:10s}") Duration initialBackoff,
+                            @Value("${cats.image-resolver.max-backoff:1h}") Duration maxBackoff) {
+        this.taskRepository = taskRepository;
+        this.catService = catService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${cats.image-resolver.poll-interval-ms:5000}")
+    public void resolveDueTasks() {
+        List<ImageResolutionTask> due = taskRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                ImageTaskStatus.PENDING, LocalDateTime.now(), Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return;
+        }
+        log.debug("Resolving images for {} cats", due.size());
+        for (ImageResolutionTask task : due) {
+            resolve(task);
+        }
+    }
+
+    void resolve(ImageResolutionTask task) {
+        try {
+            String imageUrl = catService.fetchImageUrlForSpecificBreed(task.getBreedId());
+            if (imageUrl == null) {
+                log.warn("No image available for cat {} (breed {}), keeping the placeholder", task.getCatId(), task.getBreedId());
+            } else if (catService.applyResolvedImageUrl(task.getCatId(), imageUrl)) {
+                log.info("Resolved image for cat {}", task.getCatId());
+            }
+            taskRepository.delete(task);
+        } catch (RuntimeException e) {
+            scheduleRetry(task, e);
+        }
+    }
+
+    private void scheduleRetry(ImageResolutionTask task, RuntimeException e) {
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setLastError(truncate(e.getMessage()));
+        if (attempts >= maxAttempts) {
+            task.setStatus(ImageTaskStatus.FAILED);
+            log.error("Giving up on image for cat {} after {} attempts", task.getCatId(), attempts);
+        } else {
+            Duration delay = backoff(attempts);
+            task.setNextAttemptAt(LocalDateTime.now().plus(delay));
+            log.warn("Image lookup for cat {} failed (attempt {}), retrying in {}s",
+                    task.getCatId(), attempts, delay.toSeconds());
+        }
+        taskRepository.save(task);
+    }
+
+    // initialBackoff * 2^(attempts - 1), capped at maxBackoff
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -0,0 +1,83 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import org.hibernate.Hibernate;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Base for the in-memory read models over the cats table. The model is loaded on first read and from then on
+ * kept current by applying cat and breed events as deltas. Subclasses guard their structures with the shared
+ * lock: reads under the read lock, loads and updates under the write lock.
+ */
+public abstract class CatReadModel {
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded = false;
+
+    /**
+     * Drop the current contents and reload them from the database
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            load();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Clear the model and fill it from the database. Always called with the write lock held; holding it across
+     * the query keeps concurrent events from being lost.
+     */
+    protected abstract void load();
+
+    protected final void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                load();
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Run an event update under the write lock. Skipped until the first load, which will read the change from
+     * the database anyway.
+     */
+    protected final void applyIfLoaded(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                update.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The cat's breed name, reusing the one already held for the same breed instead of initialising a lazy
+     * breed proxy. May throw if the proxy has to be initialised outside a session.
+     */
+    protected static String breedName(Cat cat, String knownBreedId, String knownBreedName) {
+        Breed breed = cat.getBreed();
+        if (breed == null) {
+            return null;
+        }
+        if (!Hibernate.isInitialized(breed) && breed.getId().equals(knownBreedId)) {
+            return knownBreedName;
+        }
+        return breed.getName();
+    }
+}
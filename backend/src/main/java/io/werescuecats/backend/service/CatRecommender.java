@@ -0,0 +1,190 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks available cats against an adopter's preferences.
+ * Breed traits are turned into normalised vectors once per breed catalog snapshot and scored once per query,
+ * so the per-cat work is a breed lookup plus age, gender and distance checks feeding a top-K heap.
+ */
+@Component
+public class CatRecommender {
+
+    static final double TRAIT_WEIGHT = 0.5;
+    static final double AGE_WEIGHT = 0.2;
+    static final double GENDER_WEIGHT = 0.1;
+    static final double DISTANCE_WEIGHT = 0.2;
+
+    // Distance at which the distance score drops to one half
+    static final double DISTANCE_HALF_SCORE_KM = 25.0;
+
+    /**
+     * Desired breed trait levels (1-5, null = don't care), preferred age group and gender,
+     * and the adopter's location with an optional hard distance limit
+     */
+    public record Preferences(Integer childFriendly, Integer dogFriendly, Integer energyLevel,
+                              Integer grooming, Integer affectionLevel,
+                              String ageGroup, String gender,
+                              Double latitude, Double longitude, Double maxDistanceKm) {
+
+        Integer[] traits() {
+            return new Integer[] {childFriendly, dogFriendly, energyLevel, grooming, affectionLevel};
+        }
+
+        boolean hasLocation() {
+            return latitude != null && longitude != null;
+        }
+    }
+
+    private record Scored(CatDto cat, double score) {}
+
+    private record BreedVectors(List<Breed> source, Map<String, float[]> vectors) {}
+
+    private static final Comparator<Scored> WORST_FIRST =
+        Comparator.comparingDouble(Scored::score).thenComparing(scored -> scored.cat().getId());
+
+    private final CatCatalogCache catCatalogCache;
+    private final BreedCatalog breedCatalog;
+
+    private volatile BreedVectors breedVectors = new BreedVectors(null, Map.of());
+
+    public CatRecommender(CatCatalogCache catCatalogCache, BreedCatalog breedCatalog) {
+        this.catCatalogCache = catCatalogCache;
+        this.breedCatalog = breedCatalog;
+    }
+
+    /**
+     * The best matching available cats, best first; ties go to the most recently added cat
+     */
+    public List<CatDto> recommend(Preferences preferences, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Map<String, Double> traitScores = traitScores(preferences);
+        String ageGroup = preferences.ageGroup() == null ? null : preferences.ageGroup().trim().toUpperCase(Locale.ROOT);
+        String gender = preferences.gender() == null ? null : preferences.gender().trim();
+        boolean byDistance = preferences.hasLocation();
+        Double maxDistanceKm = byDistance ? preferences.maxDistanceKm() : null;
+        double maxLatitudeDelta = maxDistanceKm == null ? Double.MAX_VALUE : maxDistanceKm / CatGeoIndex.KM_PER_DEGREE;
+
+        double totalWeight = (traitScores == null ? 0 : TRAIT_WEIGHT) + (ageGroup == null ? 0 : AGE_WEIGHT)
+            + (gender == null ? 0 : GENDER_WEIGHT) + (byDistance ? DISTANCE_WEIGHT : 0);
+
+        PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        for (CatDto cat : catCatalogCache.getAvailable()) {
+            double score = 0;
+            if (traitScores != null) {
+                score += TRAIT_WEIGHT * traitScores.getOrDefault(cat.getBreedId(), 0.5);
+            }
+            if (ageGroup != null && ageGroup.equals(CatFacetIndex.ageGroup(cat.getAge()))) {
+                score += AGE_WEIGHT;
+            }
+            if (gender != null && gender.equalsIgnoreCase(cat.getGender())) {
+                score += GENDER_WEIGHT;
+            }
+            if (byDistance) {
+                if (cat.getLatitude() == null || cat.getLongitude() == null) {
+                    if (maxDistanceKm != null) {
+                        continue;
+                    }
+                } else {
+                    // Cheap latitude check before the haversine
+                    if (Math.abs(cat.getLatitude() - preferences.latitude()) > maxLatitudeDelta) {
+                        continue;
+                    }
+                    double distanceKm = CatGeoIndex.distanceKm(preferences.latitude(), preferences.longitude(),
+                        cat.getLatitude(), cat.getLongitude());
+                    if (maxDistanceKm != null && distanceKm > maxDistanceKm) {
+                        continue;
+                    }
+                    score += DISTANCE_WEIGHT / (1 + distanceKm / DISTANCE_HALF_SCORE_KM);
+                }
+            }
+            offer(best, limit, new Scored(cat, totalWeight == 0 ? 0 : score / totalWeight));
+        }
+
+        List<Scored> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked.stream().map(Scored::cat).toList();
+    }
+
+    // Trait match per breed for this query, null if no trait preference was given
+    private Map<String, Double> traitScores(Preferences preferences) {
+        Integer[] wanted = preferences.traits();
+        boolean any = false;
+        for (Integer level : wanted) {
+            any |= level != null;
+        }
+        if (!any) {
+            return null;
+        }
+        Map<String, Double> scores = new HashMap<>();
+        breedVectors().forEach((breedId, vector) -> scores.put(breedId, traitScore(vector, wanted)));
+        return scores;
+    }
+
+    // Mean similarity over the requested traits; a breed without a value counts as a half match
+    static double traitScore(float[] vector, Integer[] wanted) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < wanted.length; i++) {
+            if (wanted[i] == null) {
+                continue;
+            }
+            float target = normalize(wanted[i]);
+            sum += Float.isNaN(vector[i]) ? 0.5 : 1 - Math.abs(vector[i] - target);
+            count++;
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    static float[] vectorOf(Breed breed) {
+        return new float[] {
+            normalize(breed.getChildFriendly()),
+            normalize(breed.getDogFriendly()),
+            normalize(breed.getEnergyLevel()),
+            normalize(breed.getGrooming()),
+            normalize(breed.getAffectionLevel())
+        };
+    }
+
+    private Map<String, float[]> breedVectors() {
+        List<Breed> breeds = breedCatalog.getAll();
+        BreedVectors current = breedVectors;
+        // The catalog returns the same list for as long as its snapshot is unchanged
+        if (current.source() != breeds) {
+            Map<String, float[]> vectors = new HashMap<>();
+            breeds.forEach(breed -> vectors.put(breed.getId(), vectorOf(breed)));
+            current = new BreedVectors(breeds, vectors);
+            breedVectors = current;
+        }
+        return current.vectors();
+    }
+
+    // Trait levels 1-5 mapped onto 0-1, NaN when unknown
+    private static float normalize(Integer level) {
+        if (level == null) {
+            return Float.NaN;
+        }
+        return (Math.max(1, Math.min(5, level)) - 1) / 4f;
+    }
+
+    private static void offer(PriorityQueue<Scored> best, int k, Scored scored) {
+        if (best.size() < k) {
+            best.add(scored);
+        } else if (WORST_FIRST.compare(scored, best.peek()) > 0) {
+            best.poll();
+            best.add(scored);
+        }
+    }
+}
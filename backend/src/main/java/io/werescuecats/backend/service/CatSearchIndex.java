@@ -0,0 +1,309 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.CatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over cat name, breed name, address and description.
+ * Every query term must match (the last one as a prefix, for search-as-you-type);
+ * hits are ranked by field-weighted term frequency times inverse document frequency.
+ */
+@Component
+@Slf4j
+public class CatSearchIndex extends CatReadModel {
+
+    static final float NAME_WEIGHT = 4.0f;
+    static final float BREED_WEIGHT = 3.0f;
+    static final float ADDRESS_WEIGHT = 2.0f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    // Caps how many index terms a short last-term prefix can expand to; the most frequent ones are kept
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    static final int MAX_CACHED_PREFIXES = 1024;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "in", "is",
+        "it", "of", "on", "or", "so", "the", "to", "who", "with");
+
+    public record Hit(Long catId, float score) {}
+
+    /**
+     * Ranked hits; truncated when the last term's prefix matched more index terms than were expanded,
+     * so cats matching only the rarer completions may be missing
+     */
+    public record Result(List<Hit> hits, boolean truncated) {}
+
+    private record PrefixMatch(Map<Long, Float> postings, boolean truncated) {}
+
+    private record Doc(CatStatus status, String breedId, String breedName, Set<String> terms) {}
+
+    private final CatRepository catRepository;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    // Merged postings per typed prefix; filled under the read lock, cleared whenever postings change
+    private final Map<String, PrefixMatch> prefixCache = new ConcurrentHashMap<>();
+
+    public CatSearchIndex(CatRepository catRepository) {
+        this.catRepository = catRepository;
+    }
+
+    /**
+     * Best matching cats for the query, highest score first. A null status matches every status.
+     */
+    public Result search(String query, CatStatus status, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new Result(List.of(), false);
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            // One weighted posting map per query term; the last term also matches as a prefix
+            List<Map<Long, Float>> termPostings = new ArrayList<>(queryTerms.size());
+            List<Float> idfs = new ArrayList<>(queryTerms.size());
+            boolean truncated = false;
+            for (int i = 0; i < queryTerms.size(); i++) {
+                String term = queryTerms.get(i);
+                Map<Long, Float> matches;
+                if (i == queryTerms.size() - 1) {
+                    PrefixMatch prefix = prefixPostings(term);
+                    matches = prefix.postings();
+                    truncated = prefix.truncated();
+                } else {
+                    matches = postings.get(term);
+                }
+                if (matches == null || matches.isEmpty()) {
+                    return new Result(List.of(), truncated);
+                }
+                termPostings.add(matches);
+                idfs.add(idf(matches.size()));
+            }
+
+            // Drive the intersection from the rarest term
+            int driver = 0;
+            for (int i = 1; i < termPostings.size(); i++) {
+                if (termPostings.get(i).size() < termPostings.get(driver).size()) {
+                    driver = i;
+                }
+            }
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(
+                Comparator.comparingDouble(Hit::score).thenComparing(Hit::catId, Comparator.reverseOrder()));
+            candidates:
+            for (Map.Entry<Long, Float> candidate : termPostings.get(driver).entrySet()) {
+                Long catId = candidate.getKey();
+                if (status != null && docs.get(catId).status() != status) {
+                    continue;
+                }
+                float score = 0f;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Float weight = i == driver ? candidate.getValue() : termPostings.get(i).get(catId);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += weight * idfs.get(i);
+                }
+                best.add(new Hit(catId, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::catId));
+            return new Result(hits, truncated);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatChanged(CatChangedEvent event) {
+        applyIfLoaded(() -> {
+            Doc previous = docs.get(event.getCatId());
+            if (event.hasEntity()) {
+                Cat cat = event.getCat();
+                index(cat.getId(), cat.getStatus(), cat.getName(), cat.getDescription(), cat.getAddress(),
+                    breedId(cat), indexedBreedName(cat, previous));
+            } else if (previous != null) {
+                docs.put(event.getCatId(), new Doc(event.getStatus(), previous.breedId(), previous.breedName(), previous.terms()));
+            }
+        });
+    }
+
+    /**
+     * Re-index when a breed that indexed cats belong to was renamed; renames are rare enough that a full load is fine
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBreedsChanged(BreedsChangedEvent event) {
+        applyIfLoaded(() -> {
+            Map<String, String> names = new HashMap<>();
+            event.getBreeds().forEach(breed -> names.put(breed.getId(), breed.getName()));
+            boolean renamed = docs.values().stream()
+                .anyMatch(doc -> names.containsKey(doc.breedId()) && !Objects.equals(names.get(doc.breedId()), doc.breedName()));
+            if (renamed) {
+                load();
+            }
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(folded)) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    protected void load() {
+        docs.clear();
+        postings.clear();
+        prefixCache.clear();
+        for (CatDto cat : catRepository.findAllDtos()) {
+            index(cat.getId(), cat.getStatus(), cat.getName(), cat.getDescription(), cat.getAddress(),
+                cat.getBreedId(), cat.getBreedName());
+        }
+        log.info("Search index loaded with {} cats and {} terms", docs.size(), postings.size());
+    }
+
+    // Must hold the write lock
+    private void index(Long catId, CatStatus status, String name, String description, String address,
+                       String breedId, String breedName) {
+        unindex(catId);
+        prefixCache.clear();
+
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, name, NAME_WEIGHT);
+        addField(weights, breedName, BREED_WEIGHT);
+        addField(weights, address, ADDRESS_WEIGHT);
+        addField(weights, description, DESCRIPTION_WEIGHT);
+
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(catId, entry.getValue());
+        }
+        docs.put(catId, new Doc(status, breedId, breedName, weights.keySet()));
+    }
+
+    // Must hold the write lock
+    private void unindex(Long catId) {
+        Doc previous = docs.remove(catId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(catId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private PrefixMatch prefixPostings(String prefix) {
+        PrefixMatch cached = prefixCache.get(prefix);
+        if (cached != null) {
+            return cached;
+        }
+        PrefixMatch match = expandPrefix(prefix);
+        if (prefixCache.size() < MAX_CACHED_PREFIXES) {
+            prefixCache.put(prefix, match);
+        }
+        return match;
+    }
+
+    private PrefixMatch expandPrefix(String prefix) {
+        Map<Long, Float> exact = postings.getOrDefault(prefix, Map.of());
+        NavigableMap<String, Map<Long, Float>> range = postings.subMap(prefix, false, prefix + Character.MAX_VALUE, false);
+        if (range.isEmpty()) {
+            return new PrefixMatch(exact, false);
+        }
+        // Past the cap keep the completions found in the most cats, ties in term order
+        PriorityQueue<Map.Entry<String, Map<Long, Float>>> expansions = new PriorityQueue<>(
+            Comparator.<Map.Entry<String, Map<Long, Float>>>comparingInt(entry -> entry.getValue().size())
+                .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+        boolean truncated = false;
+        for (Map.Entry<String, Map<Long, Float>> entry : range.entrySet()) {
+            expansions.add(entry);
+            if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+                expansions.poll();
+                truncated = true;
+            }
+        }
+        // A prefix match counts as the best matching term's weight in each cat
+        Map<Long, Float> merged = new HashMap<>(exact);
+        for (Map.Entry<String, Map<Long, Float>> expansion : expansions) {
+            expansion.getValue().forEach((catId, weight) -> merged.merge(catId, weight, Math::max));
+        }
+        return new PrefixMatch(merged, truncated);
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1.0 + (double) docs.size() / documentFrequency);
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Float::sum);
+        }
+    }
+
+    private static String breedId(Cat cat) {
+        Breed breed = cat.getBreed();
+        return breed == null ? null : breed.getId();
+    }
+
+    private static String indexedBreedName(Cat cat, Doc previous) {
+        try {
+            return previous == null ? breedName(cat, null, null) : breedName(cat, previous.breedId(), previous.breedName());
+        } catch (RuntimeException e) {
+            log.warn("Could not load breed for cat {}, indexing it without the breed name", cat.getId(), e);
+            return null;
+        }
+    }
+}
@@ -1,87 +1,217 @@
 package io.werescuecats.backend.service;
 
-import io.werescuecats.backend.config.CatApiConfig;
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.CatalogCacheStatsDto;
+import io.werescuecats.backend.dto.FacetSearchResultDto;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.entity.ImageResolutionTask;
+import io.werescuecats.backend.event.CatChangedEvent;
 import io.werescuecats.backend.repository.CatRepository;
+import io.werescuecats.backend.repository.ImageResolutionTaskRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class CatService {
+
+    public record SearchResult(List<CatDto> cats, boolean truncated) {}
     
     private final CatRepository catRepository;
 
-    private final CatApiConfig config;
+    private final BreedImagePool breedImagePool;
+
+    private final CatGeoIndex catGeoIndex;
+
+    private final CatCatalogCache catCatalogCache;
+
+    private final CatSearchIndex catSearchIndex;
+
+    private final CatFacetIndex catFacetIndex;
+
+    private final CatRecommender catRecommender;
+
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final RestTemplate restTemplate;
+    private final ImageResolutionTaskRepository imageTaskRepository;
     
-    @Cacheable("availableCats")
     public List<Cat> getAvailableCats() {
         log.debug("Fetching available cats");
         return catRepository.findByStatus(CatStatus.AVAILABLE);
     }
 
-    public List<Cat> getPendingCats() {
-        log.debug("Fetching available cats");
-        return catRepository.findByStatus(CatStatus.PENDING);
+    public List<CatDto> getPendingCats() {
+        log.debug("Fetching pending cats");
+        return catRepository.findDtosByStatus(CatStatus.PENDING);
     }
 
-    public List<Cat> getAdoptedCats() {
-        log.debug("Fetching available cats");
-        return catRepository.findByStatus(CatStatus.ADOPTED);
+    public List<CatDto> getAdoptedCats() {
+        log.debug("Fetching adopted cats");
+        return catRepository.findDtosByStatus(CatStatus.ADOPTED);
     }
     
     public Optional<Cat> getCatById(Long id) {
         return catRepository.findById(id);
     }
+
+    public List<CatDto> getAvailableCatDtos() {
+        return catCatalogCache.getAvailable();
+    }
+
+    /**
+     * Uninitialised reference for use as a foreign key; no query until one of its fields is read
+     */
+    public Cat getCatReference(Long id) {
+        return catRepository.getReferenceById(id);
+    }
+
+    public Optional<CatDto> getCatDtoById(Long id) {
+        return catCatalogCache.getById(id);
+    }
+
+    public List<CatDto> getCatDtosByBreed(String breedId) {
+        return catCatalogCache.getByBreed(breedId);
+    }
+
+    public String getCatalogETag() {
+        return catCatalogCache.getETag();
+    }
+
+    public long getCatalogLastModified() {
+        return catCatalogCache.getLastModified();
+    }
+
+    public CatalogCacheStatsDto getCatalogCacheStats() {
+        return catCatalogCache.getStats();
+    }
     
     public List<Cat> getCatsByBreed(String breedId) {
         return catRepository.findByBreedId(breedId);
     }
     
-    public List<Cat> getCatsInArea(Double latitude, Double longitude, Double radiusKm) {
-        // Simple bounding box calculation (rough approximation)
-        double latDelta = radiusKm / 111.0; // ~111km per degree latitude
-        double lonDelta = radiusKm / (111.0 * Math.cos(Math.toRadians(latitude)));
-        
-        return catRepository.findCatsInArea(
-            latitude - latDelta,
-            latitude + latDelta,
-            longitude - lonDelta,
-            longitude + lonDelta,
-            CatStatus.AVAILABLE
-        );
+    public List<CatDto> getCatsInArea(Double latitude, Double longitude, Double radiusKm) {
+        return resolveInIndexOrder(catGeoIndex.findWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    public List<CatDto> getNearestCats(Double latitude, Double longitude, int k) {
+        return resolveInIndexOrder(catGeoIndex.findNearest(latitude, longitude, k));
+    }
+
+    /**
+     * Full-text search over name, breed, address and description, best match first;
+     * truncated when the last word was too short a prefix to expand in full
+     */
+    public SearchResult searchCats(String query, CatStatus status, int limit) {
+        CatSearchIndex.Result result = catSearchIndex.search(query, status, limit);
+        List<Long> ids = result.hits().stream()
+            .map(CatSearchIndex.Hit::catId)
+            .toList();
+        return new SearchResult(ids.isEmpty() ? List.of() : catCatalogCache.getByIds(ids), result.truncated());
+    }
+
+    /**
+     * One page of cats matching the facet filters, with per-value counts for every facet;
+     * availableOnly hides every other status from both the page and the counts
+     */
+    public FacetSearchResultDto facetSearch(Map<String, Set<String>> filters, boolean availableOnly, int page, int size) {
+        CatFacetIndex.Result result = catFacetIndex.search(filters, availableOnly, page, size);
+        return FacetSearchResultDto.builder()
+            .content(result.catIds().isEmpty() ? List.of() : catCatalogCache.getByIds(result.catIds()))
+            .total(result.total())
+            .page(page)
+            .size(size)
+            .facets(result.counts())
+            .build();
+    }
+
+    /**
+     * Available cats ranked against the adopter's preferences, best match first
+     */
+    public List<CatDto> getRecommendedCats(CatRecommender.Preferences preferences, int limit) {
+        return catRecommender.recommend(preferences, limit);
+    }
+
+    private List<CatDto> resolveInIndexOrder(List<CatGeoIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = hits.stream().map(CatGeoIndex.Hit::catId).toList();
+        return catCatalogCache.getByIds(ids).stream()
+            .filter(cat -> cat.getStatus() == CatStatus.AVAILABLE)
+            .toList();
     }
     
+    /**
+     * Saves the cat without waiting on TheCatAPI. Cats without an image keep the
+     * frontend placeholder until CatImageResolver fills in the breed image.
+     */
     @Transactional
     public Cat saveCat(Cat cat) {
         log.info("Saving cat: {}", cat.getName());
-        cat.setImageUrl(fetchImageUrlForSpecificBreed(cat.getBreed().getId()));
-        return catRepository.save(cat);
+        boolean needsImage = cat.getImageUrl() == null || cat.getImageUrl().isBlank();
+        if (needsImage) {
+            cat.setImageUrl(null);
+        }
+        Cat saved = catRepository.save(cat);
+        if (needsImage) {
+            imageTaskRepository.save(new ImageResolutionTask(saved.getId(), saved.getBreed().getId()));
+        }
+        eventPublisher.publishEvent(CatChangedEvent.saved(saved));
+        return saved;
+    }
+
+    /**
+     * Set a resolved image on a cat that still has none. Returns false if the cat is gone
+     * or got an image in the meantime.
+     */
+    @Transactional
+    public boolean applyResolvedImageUrl(Long catId, String imageUrl) {
+        Optional<Cat> catOpt = catRepository.findById(catId);
+        if (catOpt.isEmpty() || catOpt.get().getImageUrl() != null) {
+            return false;
+        }
+        Cat cat = catOpt.get();
+        cat.setImageUrl(imageUrl);
+        Cat saved = catRepository.save(cat);
+        eventPublisher.publishEvent(CatChangedEvent.saved(saved));
+        return true;
     }
     
+    /**
+     * Move the cat from the expected status to the new one in a single conditional UPDATE.
+     * Returns false if the cat is gone or no longer has the expected status, so two concurrent
+     * callers can never both win; the row stays locked only until the caller's transaction commits.
+     */
+    @Transactional
+    public boolean updateCatStatusIf(Long catId, CatStatus expected, CatStatus status) {
+        if (catRepository.updateStatusIfCurrent(catId, expected, status, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(CatChangedEvent.statusChanged(catId, status));
+        return true;
+    }
+
     @Transactional
     public Cat updateCatStatus(Long catId, CatStatus status) {
         Optional<Cat> catOpt = catRepository.findById(catId);
         if (catOpt.isPresent()) {
             Cat cat = catOpt.get();
             cat.setStatus(status);
-            return catRepository.save(cat);
+            Cat saved = catRepository.save(cat);
+            eventPublisher.publishEvent(CatChangedEvent.saved(saved));
+            return saved;
         }
         throw new RuntimeException("Cat not found with id: " + catId);
     }
@@ -90,38 +220,25 @@ public class CatService {
         return catRepository.findAll();
     }
 
-    @Transactional
-    public String fetchImageUrlForSpecificBreed(String breedId) {
-        log.info("Fetching image URL for breed: {}", breedId);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("x-api-key", config.getApiKey());
-        headers.set("User-Agent", "WeRescueCats/1.0");
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-
-        try {
-            String url = config.getBaseUrl() + "/images/search?limit=1&breed_ids=" + breedId;
-
-            ResponseEntity<Map[]> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    Map[].class);
-
-            Map[] images = response.getBody();
+    public List<CatDto> getAllCatDtos() {
+        return catRepository.findAllDtos();
+    }
 
-            if (images != null && images.length > 0) {
-                String imageUrl = (String) images[0].get("url");
-                log.info("Found image URL: {}", imageUrl);
-                return imageUrl;
-            }
+    /**
+     * Up to limit cats with id greater than afterId, ordered by id
+     */
+    public List<CatDto> getCatsAfter(long afterId, int limit) {
+        return catRepository.findDtosAfter(afterId, Limit.of(limit));
+    }
 
-            log.warn("No images found for breed: {}", breedId);
-            return null;
+    public List<CatDto> getAvailableCatsAfter(long afterId, int limit) {
+        return catRepository.findDtosByStatusAfter(CatStatus.AVAILABLE, afterId, Limit.of(limit));
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to fetch image URL for breed: {}", breedId, e);
-            throw new RuntimeException("API call failed", e);
-        }
+    /**
+     * Next pooled image for the breed; see BreedImagePool
+     */
+    public String fetchImageUrlForSpecificBreed(String breedId) {
+        return breedImagePool.take(breedId);
     }
 }
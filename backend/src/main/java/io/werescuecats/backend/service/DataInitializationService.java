@@ -1,24 +1,18 @@
 package io.werescuecats.backend.service;
 
-import io.werescuecats.backend.config.CatApiConfig;
 import io.werescuecats.backend.entity.*;
+import io.werescuecats.backend.event.CatChangedEvent;
 import io.werescuecats.backend.repository.*;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
@@ -37,12 +31,15 @@ public class DataInitializationService {
 
     private final PasswordEncoder passwordEncoder;
 
-    private final CatApiConfig config;
+    private final BreedImagePool breedImagePool;
 
-    private final RestTemplate restTemplate;
+    private final ImageResolutionTaskRepository imageTaskRepository;
 
-    @EventListener(ApplicationReadyEvent.class)
-    @Transactional
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Run by the startup pipeline once breeds are seeded; each kind of sample data commits on its own
     public void initializeData() {
         // userRepository.deleteAll();
         // // breedRepository.deleteAll();
@@ -59,7 +56,7 @@ public class DataInitializationService {
         }
 
         if (userRepository.count() == 0) {
-            createSampleUsers();
+            transactionTemplate.executeWithoutResult(status -> createSampleUsers());
         }
 
         if (catRepository.count() == 0) {
@@ -67,7 +64,7 @@ public class DataInitializationService {
         }
 
         if (adoptionRepository.count() == 0) {
-            createSampleAdoptions();
+            transactionTemplate.executeWithoutResult(status -> createSampleAdoptions());
         }
 
         log.info("Sample data initialization completed!");
@@ -114,41 +111,6 @@ public class DataInitializationService {
         log.info("Created {} users", userRepository.count());
     }
 
-    @Transactional
-    public String fetchImageUrlForSpecificBreed(String breedId) {
-        log.info("Fetching image URL for breed: {}", breedId);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("x-api-key", config.getApiKey());
-        headers.set("User-Agent", "WeRescueCats/1.0");
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-
-        try {
-            String url = config.getBaseUrl() + "/images/search?limit=1&breed_ids=" + breedId;
-
-            ResponseEntity<Map[]> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    Map[].class);
-
-            Map[] images = response.getBody();
-
-            if (images != null && images.length > 0) {
-                String imageUrl = (String) images[0].get("url");
-                log.info("Found image URL: {}", imageUrl);
-                return imageUrl;
-            }
-
-            log.warn("No images found for breed: {}", breedId);
-            return null;
-
-        } catch (Exception e) {
-            log.error("Failed to fetch image URL for breed: {}", breedId, e);
-            throw new RuntimeException("API call failed", e);
-        }
-    }
-
     private void createSampleCats() {
         log.info("Creating sample cats...");
 
@@ -160,10 +122,6 @@ public class DataInitializationService {
 
         Random random = new Random();
 
-        // Dresden, Germany area coordinates
-        double baseLat = 51.0504;
-        double baseLon = 13.7373;
-
         String[] catNames = {
                 "Whiskers", "Shadow", "Luna", "Oliver", "Mia", "Leo", "Bella", "Charlie",
                 "Lucy", "Max", "Lily", "Jack", "Sophie", "Tiger", "Coco", "Simba",
@@ -190,14 +148,33 @@ public class DataInitializationService {
 
         String[] gender = { "MALE", "FEMALE" };
 
+        // Pick breeds up front so their image pools can be filled concurrently, one call per breed
+        List<Breed> catBreeds = new ArrayList<>();
+        for (int i = 0; i < catNames.length; i++) {
+            catBreeds.add(availableBreeds.get(random.nextInt(availableBreeds.size())));
+        }
+        // Outside the transaction, so no connection is held while TheCatAPI answers
+        breedImagePool.prefetch(catBreeds.stream().map(Breed::getId).toList());
+
+        transactionTemplate.executeWithoutResult(status -> saveSampleCats(random, catNames, descriptions, addresses, gender, catBreeds));
+
+        log.info("Created {} cats", catRepository.count());
+    }
+
+    private void saveSampleCats(Random random, String[] catNames, String[] descriptions, String[] addresses,
+                                String[] gender, List<Breed> catBreeds) {
+        // Dresden, Germany area coordinates
+        double baseLat = 51.0504;
+        double baseLon = 13.7373;
+
         for (int i = 0; i < catNames.length; i++) {
             Cat cat = new Cat();
             cat.setName(catNames[i]);
             cat.setAge(random.nextInt(8) + 1); // 1-8 years old
             cat.setDescription(descriptions[random.nextInt(descriptions.length)]);
-            Breed breed = availableBreeds.get(random.nextInt(availableBreeds.size()));
+            Breed breed = catBreeds.get(i);
             cat.setBreed(breed);
-            cat.setImageUrl(fetchImageUrlForSpecificBreed(breed.getId()));
+            cat.setImageUrl(breedImagePool.poll(breed.getId()));
 
             // Random coordinates around Dresden
             cat.setGender(gender[random.nextInt(gender.length)]);
@@ -208,10 +185,13 @@ public class DataInitializationService {
             // Most cats available, some adopted
             cat.setStatus(random.nextInt(10) < 8 ? CatStatus.AVAILABLE : CatStatus.ADOPTED);
 
-            catRepository.save(cat);
+            Cat saved = catRepository.save(cat);
+            if (saved.getImageUrl() == null) {
+                // Prefetch failed or the pool ran dry; let CatImageResolver retry later
+                imageTaskRepository.save(new ImageResolutionTask(saved.getId(), breed.getId()));
+            }
+            eventPublisher.publishEvent(CatChangedEvent.saved(saved));
         }
-
-        log.info("Created {} cats", catRepository.count());
     }
 
     private void createSampleAdoptions() {
@@ -270,7 +250,7 @@ public class DataInitializationService {
             }
 
             adoptionRepository.save(adoption);
-            catRepository.save(cat);
+            eventPublisher.publishEvent(CatChangedEvent.saved(catRepository.save(cat)));
         }
 
         log.info("Created {} adoptions", adoptionRepository.count());
@@ -0,0 +1,471 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.exception.InvalidImageUrlException;
+import io.werescuecats.backend.exception.ResourceNotFoundException;
+import io.werescuecats.backend.exception.UpstreamUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache behind the image proxy. Each remote image is fetched once and stored under the SHA-256 of its bytes,
+ * so URLs serving the same picture share one file; a small index file per URL maps it to its blob.
+ * When the blobs outgrow the size limit, the least recently served URLs are evicted down to 90% of it; an evicted
+ * blob stays on disk for a short grace period so that responses already handed its path can still send it.
+ * Concurrent misses for the same URL wait on a single fetch. Only https URLs on the allowed hosts are fetched, and
+ * redirects are followed by hand so that every hop is checked against the same allowlist.
+ */
+@Component
+@Slf4j
+public class ImageProxyCache {
+
+    static final double LOW_WATERMARK = 0.9;
+    static final int MAX_REDIRECTS = 3;
+    static final Duration BLOB_DELETE_GRACE = Duration.ofMinutes(1);
+
+    public record CachedImage(Path file, String contentHash, String contentType, long size) {}
+
+    private record Download(String contentHash, String contentType, long size) {}
+
+    // Either the downloaded image or where the origin redirected to
+    private record Fetch(Download download, URI location) {}
+
+    private static final class Entry {
+        final String urlKey;
+        final String contentHash;
+        final String contentType;
+        final long size;
+        volatile long lastAccess;
+
+        Entry(String urlKey, String contentHash, String contentType, long size, long lastAccess) {
+            this.urlKey = urlKey;
+            this.contentHash = contentHash;
+            this.contentType = contentType;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final RestTemplate restTemplate;
+    private final Path blobDir;
+    private final Path indexDir;
+    private final Path tempDir;
+    private final long maxCacheBytes;
+    private final long maxImageBytes;
+    private final Set<String> allowedHosts;
+    private final Set<String> allowedSchemes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedImage>> inFlight = new ConcurrentHashMap<>();
+    // Guarded by this
+    private final Map<String, Integer> blobRefs = new HashMap<>();
+    // Guarded by this; unreferenced blobs and when they may be deleted
+    private final Map<String, Long> pendingDeletes = new HashMap<>();
+    private long totalBytes;
+    private volatile boolean loaded = false;
+
+    @Autowired
+    public ImageProxyCache(@Value("${cats.image-proxy.cache-dir:${java.io.tmpdir}/werescuecats-images}") String cacheDir,
+                           @Value("${cats.image-proxy.max-cache-size:1GB}") DataSize maxCacheSize,
+                           @Value("${cats.image-proxy.max-image-size:10MB}") DataSize maxImageSize,
+                           @Value("${cats.image-proxy.allowed-hosts:cdn2.thecatapi.com}") List<String> allowedHosts,
+                           @Value("${catapi.client.connect-timeout:2s}") Duration connectTimeout,
+                           @Value("${catapi.client.read-timeout:5s}") Duration readTimeout) {
+        this(imageClient(connectTimeout, readTimeout), Path.of(cacheDir), maxCacheSize.toBytes(), maxImageSize.toBytes(),
+            allowedHosts, Set.of("https"));
+    }
+
+    ImageProxyCache(RestTemplate restTemplate, Path cacheDir, long maxCacheBytes, long maxImageBytes,
+                    Collection<String> allowedHosts, Set<String> allowedSchemes) {
+        this.restTemplate = restTemplate;
+        this.blobDir = cacheDir.resolve("blobs");
+        this.indexDir = cacheDir.resolve("index");
+        this.tempDir = cacheDir.resolve("tmp");
+        this.maxCacheBytes = maxCacheBytes;
+        this.maxImageBytes = maxImageBytes;
+        this.allowedHosts = allowedHosts.stream()
+            .map(host -> host.trim().toLowerCase(Locale.ROOT))
+            .filter(host -> !host.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        this.allowedSchemes = Set.copyOf(allowedSchemes);
+    }
+
+    // Images come from the CDN, not the API, so they skip TheCatAPI's rate limit and per-path call metrics.
+    // Redirects are left to fetchAndStore, which validates each Location before following it.
+    static RestTemplate imageClient(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * The cached copy of the image, fetching it first if this URL was not seen before or was evicted
+     */
+    public CachedImage get(String url) {
+        URI uri = validate(url);
+        ensureLoaded();
+        String urlKey = sha256(uri.toString().getBytes(StandardCharsets.UTF_8));
+        CachedImage cached = lookup(urlKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<CachedImage> fetch = new CompletableFuture<>();
+        CompletableFuture<CachedImage> pending = inFlight.putIfAbsent(urlKey, fetch);
+        if (pending != null) {
+            return join(pending);
+        }
+        try {
+            // Another caller may have stored it between the lookup and claiming the fetch
+            cached = lookup(urlKey);
+            if (cached == null) {
+                cached = fetchAndStore(urlKey, uri);
+            }
+            fetch.complete(cached);
+            return cached;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(urlKey, fetch);
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private URI validate(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url == null ? "" : url.trim()).normalize();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImageUrlException("Invalid image URL: " + url);
+        }
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        if (!allowedSchemes.contains(scheme) || uri.getUserInfo() != null || !allowedHosts.contains(host)) {
+            throw new InvalidImageUrlException("Image URL is not on an allowed host: " + url);
+        }
+        return uri;
+    }
+
+    private CachedImage lookup(String urlKey) {
+        Entry entry = entries.get(urlKey);
+        if (entry == null) {
+            return null;
+        }
+        Path blob = blobPath(entry.contentHash);
+        if (!Files.exists(blob)) {
+            log.warn("Cached image blob {} disappeared, fetching it again", entry.contentHash);
+            synchronized (this) {
+                remove(entry);
+            }
+            return null;
+        }
+        entry.lastAccess = System.currentTimeMillis();
+        return new CachedImage(blob, entry.contentHash, entry.contentType, entry.size);
+    }
+
+    private CachedImage fetchAndStore(String urlKey, URI uri) {
+        Path temp = null;
+        try {
+            Files.createDirectories(tempDir);
+            Path download = Files.createTempFile(tempDir, "fetch-", ".part");
+            temp = download;
+            Download result = null;
+            URI target = uri;
+            for (int redirects = 0; result == null; redirects++) {
+                if (redirects > MAX_REDIRECTS) {
+                    throw new UpstreamUnavailableException("Too many redirects fetching image from " + uri.getHost());
+                }
+                URI current = target;
+                Fetch fetch = restTemplate.execute(current, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.parseMediaType("image/*"))),
+                    response -> response.getStatusCode().is3xxRedirection()
+                        ? new Fetch(null, response.getHeaders().getLocation())
+                        : new Fetch(download(response, download, current), null));
+                if (fetch.download() != null) {
+                    result = fetch.download();
+                } else if (fetch.location() == null) {
+                    throw new UpstreamUnavailableException("Image redirect without a location from " + current.getHost());
+                } else {
+                    target = validate(current.resolve(fetch.location()).toString());
+                }
+            }
+
+            Path blob = blobPath(result.contentHash());
+            Files.createDirectories(blob.getParent());
+            writeIndex(urlKey, result, uri);
+
+            Entry entry = new Entry(urlKey, result.contentHash(), result.contentType(), result.size(), System.currentTimeMillis());
+            synchronized (this) {
+                // Under the monitor so a pending delete of the same blob cannot run between the check and register
+                if (!Files.exists(blob)) {
+                    try {
+                        Files.move(download, blob, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (FileAlreadyExistsException e) {
+                        // Same bytes stored from another URL in the meantime; either copy will do
+                    }
+                }
+                register(entry);
+                deleteExpiredBlobs();
+                evictIfNeeded(urlKey);
+            }
+            log.info("Cached image {} ({} bytes) from {}", result.contentHash(), result.size(), uri);
+            return new CachedImage(blob, entry.contentHash, entry.contentType, entry.size);
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new ResourceNotFoundException("Image not found: " + uri);
+        } catch (RestClientException e) {
+            log.warn("Fetching image {} failed: {}", uri, e.getMessage());
+            throw new UpstreamUnavailableException("Could not fetch image from " + uri.getHost());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store image from " + uri, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("Could not delete temporary image file {}", temp, e);
+                }
+            }
+        }
+    }
+
+    // Streams the body to disk while hashing it, so an image is never held in memory
+    private Download download(ClientHttpResponse response, Path target, URI uri) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !"image".equals(contentType.getType())) {
+            throw new InvalidImageUrlException("Not an image: " + uri);
+        }
+        MessageDigest digest = sha256Digest();
+        long size = 0;
+        try (InputStream in = response.getBody(); OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[16 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxImageBytes) {
+                    throw new InvalidImageUrlException("Image is larger than " + maxImageBytes + " bytes: " + uri);
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        }
+        return new Download(HexFormat.of().formatHex(digest.digest()),
+            new MediaType(contentType.getType(), contentType.getSubtype()).toString(), size);
+    }
+
+    private void writeIndex(String urlKey, Download result, URI uri) throws IOException {
+        Files.createDirectories(indexDir);
+        Path temp = Files.createTempFile(tempDir, "index-", ".part");
+        Files.writeString(temp, result.contentHash() + "\n" + result.contentType() + "\n" + uri + "\n");
+        Files.move(temp, indexDir.resolve(urlKey), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                load();
+            }
+        }
+    }
+
+    // Must hold the monitor; rebuilds the index from disk so cached images survive a restart
+    private void load() {
+        try {
+            Files.createDirectories(blobDir);
+            Files.createDirectories(indexDir);
+            Files.createDirectories(tempDir);
+            try (Stream<Path> leftovers = Files.list(tempDir)) {
+                for (Path leftover : leftovers.toList()) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+            try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(indexDir)) {
+                for (Path indexFile : indexFiles) {
+                    List<String> lines = Files.readAllLines(indexFile);
+                    Path blob = lines.size() < 2 || !isContentHash(lines.get(0)) ? null : blobPath(lines.get(0));
+                    if (blob == null || !Files.exists(blob)) {
+                        Files.deleteIfExists(indexFile);
+                        continue;
+                    }
+                    // Last access is not persisted; the fetch time stands in for it after a restart
+                    register(new Entry(indexFile.getFileName().toString(), lines.get(0), lines.get(1), Files.size(blob),
+                        Files.getLastModifiedTime(indexFile).toMillis()));
+                }
+            }
+            deleteOrphanBlobs();
+            evictIfNeeded(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load the image cache from " + blobDir.getParent(), e);
+        }
+        loaded = true;
+        log.info("Image cache loaded with {} images ({} bytes)", entries.size(), totalBytes);
+    }
+
+    // Must hold the monitor
+    private void deleteOrphanBlobs() throws IOException {
+        try (Stream<Path> blobs = Files.walk(blobDir)) {
+            for (Path blob : blobs.filter(Files::isRegularFile).toList()) {
+                if (!blobRefs.containsKey(blob.getFileName().toString())) {
+                    Files.deleteIfExists(blob);
+                }
+            }
+        }
+    }
+
+    // Must hold the monitor
+    private void register(Entry entry) {
+        Entry previous = entries.put(entry.urlKey, entry);
+        if (previous != null) {
+            release(previous);
+        }
+        if (blobRefs.merge(entry.contentHash, 1, Integer::sum) == 1) {
+            totalBytes += entry.size;
+            pendingDeletes.remove(entry.contentHash);
+        }
+    }
+
+    // Must hold the monitor
+    private void evictIfNeeded(String keep) {
+        if (totalBytes <= maxCacheBytes) {
+            return;
+        }
+        long target = (long) (maxCacheBytes * LOW_WATERMARK);
+        List<Entry> byAge = new ArrayList<>(entries.values());
+        byAge.sort(Comparator.comparingLong(entry -> entry.lastAccess));
+        int evicted = 0;
+        for (Entry entry : byAge) {
+            if (totalBytes <= target) {
+                break;
+            }
+            if (!entry.urlKey.equals(keep)) {
+                remove(entry);
+                evicted++;
+            }
+        }
+        log.info("Evicted {} images from the image cache, {} bytes left", evicted, totalBytes);
+    }
+
+    // Must hold the monitor
+    private void remove(Entry entry) {
+        if (!entries.remove(entry.urlKey, entry)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(indexDir.resolve(entry.urlKey));
+        } catch (IOException e) {
+            log.warn("Could not delete image index file {}", entry.urlKey, e);
+        }
+        release(entry);
+    }
+
+    // Must hold the monitor; schedules the blob for deletion once no URL points to it
+    private void release(Entry entry) {
+        Integer refs = blobRefs.computeIfPresent(entry.contentHash, (hash, count) -> count == 1 ? null : count - 1);
+        if (refs != null) {
+            return;
+        }
+        totalBytes -= entry.size;
+        pendingDeletes.put(entry.contentHash, System.currentTimeMillis() + BLOB_DELETE_GRACE.toMillis());
+    }
+
+    // Must hold the monitor
+    private void deleteExpiredBlobs() {
+        long now = System.currentTimeMillis();
+        pendingDeletes.entrySet().removeIf(pending -> {
+            if (pending.getValue() > now) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(blobPath(pending.getKey()));
+            } catch (IOException e) {
+                log.warn("Could not delete image blob {}", pending.getKey(), e);
+            }
+            return true;
+        });
+    }
+
+    // Two-character fan-out keeps directories small
+    private Path blobPath(String contentHash) {
+        return blobDir.resolve(contentHash.substring(0, 2)).resolve(contentHash);
+    }
+
+    private static boolean isContentHash(String value) {
+        return value.length() == 64 && value.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+
+    private static CachedImage join(CompletableFuture<CachedImage> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(sha256Digest().digest(bytes));
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.config.CatApiConfig;
+import io.werescuecats.backend.dto.StartupReportDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the startup tasks as a dependency graph once the application is up.
+ * Stages whose dependencies are done run in parallel on virtual threads; a stage whose dependency failed is skipped.
+ * Readiness is withheld until every critical stage has succeeded, so no request sees a half-seeded database
+ * or cold read models.
+ */
+@Component
+@Slf4j
+public class StartupOrchestrator {
+
+    private final List<StartupStage> stages;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public StartupOrchestrator(ApiTokenService apiTokenService,
+                               BreedSyncService breedSyncService,
+                               DataInitializationService dataInitializationService,
+                               ObjectProvider<SyntheticDataGenerator> syntheticDataGenerator,
+                               AdoptionService adoptionService,
+                               AnonymousAdoptionService anonymousAdoptionService,
+                               BreedCatalog breedCatalog,
+                               CatCatalogCache catCatalogCache,
+                               CatGeoIndex catGeoIndex,
+                               CatSearchIndex catSearchIndex,
+                               CatFacetIndex catFacetIndex,
+                               CatApiConfig config,
+                               ApplicationEventPublisher eventPublisher) {
+        this(defaultStages(apiTokenService, breedSyncService, dataInitializationService,
+            syntheticDataGenerator.getIfAvailable(), adoptionService, anonymousAdoptionService, breedCatalog,
+            catCatalogCache, catGeoIndex, catSearchIndex, catFacetIndex, config), eventPublisher);
+    }
+
+    StartupOrchestrator(List<StartupStage> stages, ApplicationEventPublisher eventPublisher) {
+        this.stages = List.copyOf(stages);
+        this.eventPublisher = eventPublisher;
+    }
+
+    private static List<StartupStage> defaultStages(ApiTokenService apiTokenService,
+                                                    BreedSyncService breedSyncService,
+                                                    DataInitializationService dataInitializationService,
+                                                    SyntheticDataGenerator syntheticDataGenerator,
+                                                    AdoptionService adoptionService,
+                                                    AnonymousAdoptionService anonymousAdoptionService,
+                                                    BreedCatalog breedCatalog,
+                                                    CatCatalogCache catCatalogCache,
+                                                    CatGeoIndex catGeoIndex,
+                                                    CatSearchIndex catSearchIndex,
+                                                    CatFacetIndex catFacetIndex,
+                                                    CatApiConfig config) {
+        List<StartupStage> stages = new ArrayList<>(List.of(
+            new StartupStage("api-tokens", List.of(), true, apiTokenService::initializeDefaultTokens),
+            new StartupStage("breeds", List.of(), true, breedSyncService::seedIfEmpty),
+            new StartupStage("breed-catalog", List.of("breeds"), true, breedCatalog::rebuild),
+            new StartupStage("sample-data", List.of("breeds"), true, dataInitializationService::initializeData),
+            new StartupStage("review-queue", List.of(), true, adoptionService::initializeReviewQueue)));
+
+        // Under the loadtest profile the read models are built once, over the generated data set
+        String seeded = "sample-data";
+        if (syntheticDataGenerator != null) {
+            stages.add(new StartupStage("synthetic-data", List.of("sample-data"), true, syntheticDataGenerator::generate));
+            seeded = "synthetic-data";
+        }
+
+        stages.addAll(List.of(
+            new StartupStage("catalog-cache", List.of(seeded), true, catCatalogCache::rebuild),
+            new StartupStage("geo-index", List.of(seeded), true, catGeoIndex::rebuild),
+            new StartupStage("search-index", List.of(seeded), true, catSearchIndex::rebuild),
+            new StartupStage("facet-index", List.of(seeded), true, catFacetIndex::rebuild),
+            new StartupStage("anonymous-adoptions", List.of(seeded), true, anonymousAdoptionService::backfill),
+            // The bundled snapshot already covers breeds, so the live refresh never holds up readiness
+            new StartupStage("breed-refresh", List.of("breeds"), false, () -> {
+                if (config.isFetchOnStartup()) {
+                    breedSyncService.scheduledSync();
+                }
+            })));
+        return stages;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public StartupReportDto getReport() {
+        return StartupReportDto.builder()
+            .ready(ready)
+            .stages(stages.stream().map(StartupStage::toDto).toList())
+            .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    // Spring Boot reports ACCEPTING_TRAFFIC right after the ready event; hold it back until the critical stages are done
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && !ready) {
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    /**
+     * Schedule every stage and return a future that completes when all of them have finished or been skipped
+     */
+    CompletableFuture<Void> start() {
+        log.info("Starting {} startup stages", stages.size());
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        // Stages are declared in dependency order, so every dependency is scheduled before its dependents
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        List<CompletableFuture<Void>> critical = new ArrayList<>();
+        for (StartupStage stage : stages) {
+            CompletableFuture<?>[] dependencies = stage.getDependsOn().stream()
+                .map(name -> {
+                    CompletableFuture<Void> dependency = futures.get(name);
+                    if (dependency == null) {
+                        throw new IllegalStateException("Stage " + stage.getName() + " depends on unknown or later stage " + name);
+                    }
+                    return dependency;
+                })
+                .toArray(CompletableFuture[]::new);
+
+            CompletableFuture<Void> future = CompletableFuture.allOf(dependencies)
+                .thenRunAsync(stage::run, executor)
+                .whenComplete((result, error) -> {
+                    if (stage.getStatus() == StartupStage.Status.SUCCEEDED) {
+                        log.info("Startup stage {} finished in {} ms", stage.getName(), stage.toDto().getDurationMillis());
+                    } else if (stage.getStatus() == StartupStage.Status.FAILED) {
+                        log.error("Startup stage {} failed", stage.getName(), error);
+                    } else {
+                        stage.skip("A dependency did not succeed");
+                        log.warn("Startup stage {} skipped because a dependency did not succeed", stage.getName());
+                    }
+                });
+            futures.put(stage.getName(), future);
+            if (stage.isCritical()) {
+                critical.add(future);
+            }
+        }
+
+        CompletableFuture<Void> readiness = CompletableFuture.allOf(critical.toArray(CompletableFuture[]::new))
+            .handle((result, error) -> {
+                if (error == null) {
+                    ready = true;
+                    AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+                    log.info("Critical startup stages done in {} ms, accepting traffic", (System.nanoTime() - start) / 1_000_000);
+                } else {
+                    log.error("A critical startup stage did not succeed, the application stays not ready");
+                }
+                return null;
+            });
+
+        List<CompletableFuture<Void>> all = new ArrayList<>(futures.values());
+        all.add(readiness);
+        return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new))
+            .handle((result, error) -> null)
+            .thenRun(executor::shutdown);
+    }
+}
@@ -0,0 +1,78 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.StartupStageDto;
+
+import java.util.List;
+
+/**
+ * One node of the startup pipeline: a task, the stages it waits for, and whether readiness depends on it
+ */
+public class StartupStage {
+
+    public enum Status { PENDING, RUNNING, SUCCEEDED, FAILED, SKIPPED }
+
+    private final String name;
+    private final List<String> dependsOn;
+    private final boolean critical;
+    private final Runnable task;
+
+    private volatile Status status = Status.PENDING;
+    private volatile long durationMillis;
+    private volatile String error;
+
+    public StartupStage(String name, List<String> dependsOn, boolean critical, Runnable task) {
+        this.name = name;
+        this.dependsOn = List.copyOf(dependsOn);
+        this.critical = critical;
+        this.task = task;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    void run() {
+        status = Status.RUNNING;
+        long start = System.nanoTime();
+        try {
+            task.run();
+            status = Status.SUCCEEDED;
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            status = Status.FAILED;
+            throw e;
+        } finally {
+            durationMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    void skip(String reason) {
+        if (status == Status.PENDING) {
+            error = reason;
+            status = Status.SKIPPED;
+        }
+    }
+
+    public StartupStageDto toDto() {
+        return StartupStageDto.builder()
+            .name(name)
+            .dependsOn(dependsOn)
+            .critical(critical)
+            .status(status.name())
+            .durationMillis(durationMillis)
+            .error(error)
+            .build();
+    }
+}
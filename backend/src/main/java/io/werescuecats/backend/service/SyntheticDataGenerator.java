@@ -0,0 +1,383 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.*;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.CatBulkRepository;
+import io.werescuecats.backend.repository.SyntheticDataRepository;
+import io.werescuecats.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the database with a large, reproducible data set for load tests (profile "loadtest").
+ * Users, cats and adoptions are written through JDBC batches, one transaction per batch, with a single
+ * precomputed password hash shared by every user. Cats cluster around German cities weighted by size,
+ * breeds follow a long-tail popularity curve, and every adopted or reserved cat gets the matching adoption.
+ * Nothing is fetched from TheCatAPI; the startup pipeline rebuilds the read models afterwards.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class SyntheticDataGenerator {
+
+    static final String EMAIL_DOMAIN = "@loadtest.werescuecats.io";
+    static final String TENANT = "main";
+
+    // Share of cats per status; AVAILABLE takes the rest
+    static final double ADOPTED_SHARE = 0.35;
+    static final double PENDING_SHARE = 0.10;
+
+    // Chance that an available cat has an open, rejected or cancelled application
+    static final double OPEN_APPLICATION_SHARE = 0.15;
+    static final double REJECTED_APPLICATION_SHARE = 0.05;
+    static final double CANCELLED_APPLICATION_SHARE = 0.02;
+
+    private static final int HISTORY_DAYS = 730;
+
+    record City(String name, double latitude, double longitude, double spread, double weight,
+                String postalPrefix, String[] districts) {}
+
+    static final List<City> CITIES = List.of(
+        new City("Berlin", 52.5200, 13.4050, 0.10, 22, "10", new String[] { "Mitte", "Kreuzberg", "Pankow", "Neukölln", "Spandau" }),
+        new City("Hamburg", 53.5511, 9.9937, 0.08, 12, "20", new String[] { "Altona", "Eimsbüttel", "Wandsbek", "Harburg" }),
+        new City("München", 48.1351, 11.5820, 0.08, 11, "80", new String[] { "Schwabing", "Sendling", "Pasing", "Bogenhausen" }),
+        new City("Köln", 50.9375, 6.9603, 0.06, 8, "50", new String[] { "Ehrenfeld", "Nippes", "Deutz", "Porz" }),
+        new City("Dresden", 51.0504, 13.7373, 0.06, 8, "01", new String[] { "Neustadt", "Altstadt", "Blasewitz", "Pieschen", "Striesen" }),
+        new City("Frankfurt am Main", 50.1109, 8.6821, 0.05, 7, "60", new String[] { "Sachsenhausen", "Bornheim", "Bockenheim" }),
+        new City("Stuttgart", 48.7758, 9.1829, 0.05, 6, "70", new String[] { "Degerloch", "Vaihingen", "Bad Cannstatt" }),
+        new City("Leipzig", 51.3397, 12.3731, 0.05, 6, "04", new String[] { "Connewitz", "Plagwitz", "Gohlis", "Reudnitz" }),
+        new City("Düsseldorf", 51.2277, 6.7735, 0.04, 5, "40", new String[] { "Bilk", "Oberkassel", "Pempelfort" }),
+        new City("Hannover", 52.3759, 9.7320, 0.04, 5, "30", new String[] { "Linden", "List", "Südstadt" }),
+        new City("Nürnberg", 49.4521, 11.0767, 0.04, 4, "90", new String[] { "Gostenhof", "St. Johannis", "Langwasser" }),
+        new City("Bremen", 53.0793, 8.8017, 0.04, 3, "28", new String[] { "Findorff", "Schwachhausen", "Vegesack" }),
+        new City("Freiburg", 47.9990, 7.8421, 0.03, 3, "79", new String[] { "Wiehre", "Herdern", "Stühlinger" }));
+
+    // Cats spread over the rest of the country
+    static final double RURAL_SHARE = 0.05;
+    static final double MIN_LATITUDE = 47.3;
+    static final double MAX_LATITUDE = 55.0;
+    static final double MIN_LONGITUDE = 5.9;
+    static final double MAX_LONGITUDE = 15.0;
+
+    private static final String[] CAT_NAMES = {
+        "Whiskers", "Shadow", "Luna", "Oliver", "Mia", "Leo", "Bella", "Charlie", "Lucy", "Max", "Lily", "Jack",
+        "Sophie", "Tiger", "Coco", "Simba", "Nala", "Felix", "Molly", "Oscar", "Ruby", "Jasper", "Chloe", "Smokey",
+        "Mimi", "Pepper", "Ginger", "Milo", "Cleo", "Loki", "Minka", "Socke", "Karlo", "Lotte", "Paul", "Emma"
+    };
+
+    private static final String[] DESCRIPTIONS = {
+        "A friendly and playful cat looking for a loving home",
+        "Very affectionate and loves to cuddle",
+        "Independent but loyal, perfect for a quiet household",
+        "Energetic and loves to play with toys",
+        "Calm and gentle, great with children",
+        "Curious and intelligent, needs mental stimulation",
+        "Social butterfly who loves meeting new people",
+        "Peaceful lap cat who enjoys quiet afternoons"
+    };
+
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Ben", "Clara", "David", "Elena", "Felix", "Greta", "Hannah", "Jonas", "Julia", "Lena", "Lukas",
+        "Marie", "Noah", "Paula", "Paul", "Sarah", "Tim", "Laura", "Finn", "Mila", "Emil", "Sophia", "Jan"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Schulz", "Hoffmann",
+        "Koch", "Richter", "Klein", "Wolf", "Schröder", "Neumann", "Schwarz", "Braun", "Zimmermann", "Krüger"
+    };
+
+    private static final String[] STREETS = {
+        "Hauptstraße", "Schulstraße", "Gartenstraße", "Bahnhofstraße", "Dorfstraße", "Bergstraße", "Lindenstraße",
+        "Kirchstraße", "Waldstraße", "Ringstraße", "Schillerstraße", "Goethestraße"
+    };
+
+    private static final String[] ADOPTION_NOTES = {
+        "I have experience with cats and would love to provide a loving home.",
+        "My family is excited to welcome a new furry member.",
+        "I live in a quiet apartment perfect for a cat.",
+        "Looking for a companion cat to keep me company.",
+        "I have a large house with plenty of space for a cat to explore."
+    };
+
+    public record Result(int users, int cats, int adoptions, long durationMillis) {}
+
+    private final UserRepository userRepository;
+    private final BreedRepository breedRepository;
+    private final CatBulkRepository catBulkRepository;
+    private final SyntheticDataRepository syntheticDataRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final int userCount;
+    private final int catCount;
+    private final int batchSize;
+    private final long seed;
+    private final String password;
+
+    public SyntheticDataGenerator(UserRepository userRepository,
+                                  BreedRepository breedRepository,
+                                  CatBulkRepository catBulkRepository,
+                                  SyntheticDataRepository syntheticDataRepository,
+                                  PasswordEncoder passwordEncoder,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${cats.synthetic.users:100000}") int userCount,
+                                  @Value("${cats.synthetic.cats:1000000}") int catCount,
+                                  @Value("${cats.synthetic.batch-size:2000}") int batchSize,
+                                  @Value("${cats.synthetic.seed:42}") long seed,
+                                  @Value("${cats.synthetic.password:password123}") String password) {
+        this.userRepository = userRepository;
+        this.breedRepository = breedRepository;
+        this.catBulkRepository = catBulkRepository;
+        this.syntheticDataRepository = syntheticDataRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = transactionTemplate;
+        this.userCount = userCount;
+        this.catCount = catCount;
+        this.batchSize = batchSize;
+        this.seed = seed;
+        this.password = password;
+    }
+
+    /**
+     * Generate the configured data set unless an earlier run already did.
+     * The same seed always yields the same rows, so benchmark runs are comparable.
+     */
+    public Result generate() {
+        if (userRepository.existsByEmail(email(0))) {
+            log.info("Synthetic data already present, skipping generation");
+            return new Result(0, 0, 0, 0);
+        }
+        List<Breed> breeds = new ArrayList<>(breedRepository.findAll());
+        if (breeds.isEmpty()) {
+            throw new IllegalStateException("No breeds loaded, cannot generate cats");
+        }
+        if (userCount <= 0 && catCount > 0) {
+            throw new IllegalStateException("Cats need at least one synthetic user to adopt them");
+        }
+
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        log.info("Generating {} users and {} cats in batches of {}", userCount, catCount, batchSize);
+
+        long[] userIds = generateUsers(random, now);
+        User admin = userRepository.findByRole(UserRole.ADMIN).stream().findFirst().orElse(null);
+        int adoptions = generateCats(random, now, breeds, userIds, admin);
+
+        Result result = new Result(userIds.length, catCount, adoptions, (System.nanoTime() - start) / 1_000_000);
+        log.info("Generated {} users, {} cats and {} adoptions in {} ms",
+            result.users(), result.cats(), result.adoptions(), result.durationMillis());
+        return result;
+    }
+
+    private long[] generateUsers(SplittableRandom random, LocalDateTime now) {
+        // BCrypt is deliberately slow; one hash for everyone keeps generation bound by the database
+        String passwordHash = passwordEncoder.encode(password);
+        long[] userIds = new long[userCount];
+        int written = 0;
+        while (written < userCount) {
+            int size = Math.min(batchSize, userCount - written);
+            List<User> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(user(random, written + i, passwordHash, now));
+            }
+            List<Long> ids = transactionTemplate.execute(status -> syntheticDataRepository.insertUsers(batch));
+            for (int i = 0; i < size; i++) {
+                userIds[written + i] = ids.get(i);
+            }
+            written += size;
+            logProgress("users", written, userCount);
+        }
+        return userIds;
+    }
+
+    private int generateCats(SplittableRandom random, LocalDateTime now, List<Breed> breeds, long[] userIds, User admin) {
+        double[] breedWeights = breedWeights(random, breeds);
+        double[] cityWeights = cumulative(CITIES.stream().mapToDouble(City::weight).toArray());
+        int adoptions = 0;
+        int written = 0;
+        while (written < catCount) {
+            int size = Math.min(batchSize, catCount - written);
+            List<Cat> cats = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                cats.add(cat(random, now, breeds.get(pick(random, breedWeights)), cityWeights));
+            }
+            List<Adoption> batchAdoptions = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = catBulkRepository.insertCats(cats);
+                for (int i = 0; i < cats.size(); i++) {
+                    cats.get(i).setId(ids.get(i));
+                    adoptionFor(random, cats.get(i), userIds, admin, now, batchAdoptions);
+                }
+                if (!batchAdoptions.isEmpty()) {
+                    syntheticDataRepository.insertAdoptions(batchAdoptions);
+                }
+            });
+            adoptions += batchAdoptions.size();
+            written += size;
+            logProgress("cats", written, catCount);
+        }
+        return adoptions;
+    }
+
+    private User user(SplittableRandom random, int index, String passwordHash, LocalDateTime now) {
+        City city = CITIES.get(random.nextInt(CITIES.size()));
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(HISTORY_DAYS * 24L * 60));
+
+        User user = new User();
+        user.setEmail(email(index));
+        user.setPasswordHash(passwordHash);
+        user.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        user.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        user.setStreetAddress(STREETS[random.nextInt(STREETS.length)] + " " + (random.nextInt(150) + 1));
+        user.setPostalCode(city.postalPrefix() + String.format("%03d", random.nextInt(1000)));
+        user.setRole(UserRole.USER);
+        user.setEnabled(random.nextDouble() >= 0.01);
+        user.setTenantId(TENANT);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(createdAt);
+        if (random.nextDouble() < 0.7) {
+            user.setLastLogin(createdAt.plusMinutes(random.nextLong(Duration.between(createdAt, now).toMinutes() + 1)));
+        }
+        return user;
+    }
+
+    private Cat cat(SplittableRandom random, LocalDateTime now, Breed breed, double[] cityWeights) {
+        Cat cat = new Cat();
+        cat.setName(CAT_NAMES[random.nextInt(CAT_NAMES.length)]);
+        // Shelters see far more kittens and young cats than seniors
+        cat.setAge(Math.min(18, (int) (-Math.log(1 - random.nextDouble()) * 3.0)));
+        cat.setGender(random.nextBoolean() ? "MALE" : "FEMALE");
+        cat.setDescription(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        cat.setBreed(breed);
+
+        if (random.nextDouble() < RURAL_SHARE) {
+            cat.setLatitude(MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE));
+            cat.setLongitude(MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE));
+            cat.setAddress("Landkreis");
+        } else {
+            City city = CITIES.get(pick(random, cityWeights));
+            cat.setLatitude(clamp(city.latitude() + random.nextGaussian() * city.spread(), MIN_LATITUDE, MAX_LATITUDE));
+            cat.setLongitude(clamp(city.longitude() + random.nextGaussian() * city.spread() * 1.5, MIN_LONGITUDE, MAX_LONGITUDE));
+            cat.setAddress(city.districts()[random.nextInt(city.districts().length)] + ", " + city.name());
+        }
+
+        double roll = random.nextDouble();
+        cat.setStatus(roll < ADOPTED_SHARE ? CatStatus.ADOPTED
+            : roll < ADOPTED_SHARE + PENDING_SHARE ? CatStatus.PENDING
+            : CatStatus.AVAILABLE);
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(HISTORY_DAYS * 24L * 60));
+        cat.setCreatedAt(createdAt);
+        cat.setUpdatedAt(createdAt);
+        return cat;
+    }
+
+    // Adopted cats get a completed adoption, reserved cats an approved one, and some available cats an application
+    private void adoptionFor(SplittableRandom random, Cat cat, long[] userIds, User admin, LocalDateTime now,
+                             List<Adoption> adoptions) {
+        AdoptionStatus status;
+        if (cat.getStatus() == CatStatus.ADOPTED) {
+            status = AdoptionStatus.COMPLETED;
+        } else if (cat.getStatus() == CatStatus.PENDING) {
+            status = AdoptionStatus.APPROVED;
+        } else {
+            double roll = random.nextDouble();
+            if (roll < OPEN_APPLICATION_SHARE) {
+                status = AdoptionStatus.PENDING;
+            } else if (roll < OPEN_APPLICATION_SHARE + REJECTED_APPLICATION_SHARE) {
+                status = AdoptionStatus.REJECTED;
+            } else if (roll < OPEN_APPLICATION_SHARE + REJECTED_APPLICATION_SHARE + CANCELLED_APPLICATION_SHARE) {
+                status = AdoptionStatus.CANCELLED;
+            } else {
+                return;
+            }
+        }
+
+        long catAgeMinutes = Duration.between(cat.getCreatedAt(), now).toMinutes();
+        LocalDateTime appliedAt = cat.getCreatedAt().plusMinutes(random.nextLong(catAgeMinutes + 1));
+        User applicant = new User();
+        applicant.setId(userIds[random.nextInt(userIds.length)]);
+
+        Adoption adoption = new Adoption();
+        adoption.setUser(applicant);
+        adoption.setCat(cat);
+        adoption.setStatus(status);
+        adoption.setAdoptionDate(appliedAt);
+        adoption.setNotes(ADOPTION_NOTES[random.nextInt(ADOPTION_NOTES.length)]);
+        adoption.setTenantId(TENANT);
+        adoption.setCreatedAt(appliedAt);
+        LocalDateTime updatedAt = appliedAt;
+        if (status == AdoptionStatus.APPROVED || status == AdoptionStatus.COMPLETED || status == AdoptionStatus.REJECTED) {
+            updatedAt = min(appliedAt.plusHours(random.nextInt(12, 24 * 7)), now);
+            adoption.setProcessedByAdmin(admin);
+            if (status != AdoptionStatus.REJECTED) {
+                adoption.setApprovedDate(updatedAt);
+            }
+        }
+        if (status == AdoptionStatus.COMPLETED) {
+            updatedAt = min(updatedAt.plusHours(random.nextInt(24, 24 * 14)), now);
+            adoption.setCompletedDate(updatedAt);
+        }
+        if (status == AdoptionStatus.CANCELLED) {
+            updatedAt = min(appliedAt.plusHours(random.nextInt(1, 24 * 7)), now);
+        }
+        adoption.setUpdatedAt(updatedAt);
+        adoptions.add(adoption);
+    }
+
+    // Long-tail popularity: a shuffled Zipf curve, so a few breeds dominate without always being the same ones
+    private static double[] breedWeights(SplittableRandom random, List<Breed> breeds) {
+        breeds.sort(Comparator.comparing(Breed::getId));
+        for (int i = breeds.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            breeds.set(i, breeds.set(j, breeds.get(i)));
+        }
+        double[] weights = new double[breeds.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, 0.9);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = Arrays.copyOf(weights, weights.length);
+        for (int i = 1; i < cumulative.length; i++) {
+            cumulative[i] += cumulative[i - 1];
+        }
+        return cumulative;
+    }
+
+    private static int pick(SplittableRandom random, double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    static String email(int index) {
+        return "user" + index + EMAIL_DOMAIN;
+    }
+
+    private void logProgress(String kind, int written, int total) {
+        if (written == total || (written / batchSize) % 50 == 0) {
+            log.info("Synthetic {}: {}/{}", kind, written, total);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.werescuecats.backend.exception.UserNotFoundException;
 import io.werescuecats.backend.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -88,6 +89,10 @@ public class UserService {
         return userRepository.findAll();
     }
     
+    public List<User> getUsersAfter(long afterId, int limit) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+    
     public List<User> getAdminUsers() {
         return userRepository.findByRole(UserRole.ADMIN);
     }
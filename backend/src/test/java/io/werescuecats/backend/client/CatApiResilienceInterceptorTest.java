@@ -0,0 +1,161 @@
+package io.werescuecats.backend.client;
+
+import io.werescuecats.backend.dto.UpstreamCallStatsDto;
+import io.werescuecats.backend.exception.UpstreamUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatApiResilienceInterceptorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final Deque<Object> outcomes = new ArrayDeque<>();
+    private final HttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.thecatapi.com/v1/breeds"));
+
+    private CircuitBreaker circuitBreaker;
+    private CatApiResilienceInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock::get);
+        interceptor = interceptor(new RateLimiter(100, 100, clock::get));
+    }
+
+    @Test
+    void intercept_ShouldRetryServerErrorsAndTimeouts() throws IOException {
+        outcomes.add(HttpStatus.SERVICE_UNAVAILABLE);
+        outcomes.add(new SocketTimeoutException("Read timed out"));
+        outcomes.add(HttpStatus.OK);
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // Jitter picks the cap: 100ms, then 200ms
+        assertThat(sleeps).containsExactly(100_000_000L, 200_000_000L);
+        UpstreamCallStatsDto stats = interceptor.getStats().get(0);
+        assertThat(stats.getOperation()).isEqualTo("GET /v1/breeds");
+        assertThat(stats.getCalls()).isEqualTo(3);
+        assertThat(stats.getFailures()).isEqualTo(2);
+        assertThat(stats.getRetries()).isEqualTo(2);
+        assertThat(stats.getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void intercept_ShouldNotRetryClientErrorsOrNonIdempotentCalls() throws IOException {
+        outcomes.add(HttpStatus.NOT_FOUND);
+        assertThat(interceptor.intercept(request, new byte[0], execution()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        outcomes.add(HttpStatus.BAD_GATEWAY);
+        HttpRequest post = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://api.thecatapi.com/v1/votes"));
+        assertThat(interceptor.intercept(post, new byte[0], execution()).getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void intercept_ShouldHonourRetryAfterUpToMaxBackoff() throws IOException {
+        MockClientHttpResponse tooMany = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        tooMany.getHeaders().set("Retry-After", "60");
+        outcomes.add(tooMany);
+        outcomes.add(HttpStatus.OK);
+
+        interceptor.intercept(request, new byte[0], execution());
+
+        assertThat(sleeps).containsExactly(1_000_000_000L);
+    }
+
+    @Test
+    void intercept_ShouldOpenCircuitAndLetOneTrialThroughAfterOpenDuration() throws IOException {
+        outcomes.add(HttpStatus.INTERNAL_SERVER_ERROR);
+        outcomes.add(HttpStatus.INTERNAL_SERVER_ERROR);
+        outcomes.add(HttpStatus.INTERNAL_SERVER_ERROR);
+        interceptor.intercept(request, new byte[0], execution());
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution()))
+            .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(interceptor.getStats().get(0).getShortCircuited()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        outcomes.add(HttpStatus.OK);
+        assertThat(interceptor.intercept(request, new byte[0], execution()).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void intercept_ShouldReopenTheCircuit_WhenATrialFailsWithARuntimeException() throws IOException {
+        outcomes.add(HttpStatus.INTERNAL_SERVER_ERROR);
+        outcomes.add(HttpStatus.INTERNAL_SERVER_ERROR);
+        outcomes.add(HttpStatus.INTERNAL_SERVER_ERROR);
+        interceptor.intercept(request, new byte[0], execution());
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        outcomes.add(new IllegalStateException("interceptor chain failed"));
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // The failed trial was reported, so the next open period ends with a fresh trial
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        outcomes.add(HttpStatus.OK);
+        assertThat(interceptor.intercept(request, new byte[0], execution()).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void intercept_ShouldWaitForATokenOrRejectWhenTheWaitIsTooLong() throws IOException {
+        interceptor = interceptor(new RateLimiter(2, 1, clock::get));
+        outcomes.add(HttpStatus.OK);
+        outcomes.add(HttpStatus.OK);
+
+        interceptor.intercept(request, new byte[0], execution());
+        interceptor.intercept(request, new byte[0], execution());
+
+        // Second call waited half a second for its token; a third would need a full second more
+        assertThat(sleeps).containsExactly(500_000_000L);
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution()))
+            .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(interceptor.getStats().get(0).getThrottled()).isEqualTo(1);
+    }
+
+    private CatApiResilienceInterceptor interceptor(RateLimiter rateLimiter) {
+        return new CatApiResilienceInterceptor(3, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(600),
+            circuitBreaker, rateLimiter, clock::get, sleeps::add, cap -> cap);
+    }
+
+    private ClientHttpRequestExecution execution() {
+        return (req, body) -> {
+            Object outcome = outcomes.poll();
+            if (outcome instanceof IOException e) {
+                throw e;
+            }
+            if (outcome instanceof RuntimeException e) {
+                throw e;
+            }
+            if (outcome instanceof ClientHttpResponse response) {
+                return response;
+            }
+            return new MockClientHttpResponse(new byte[0], (HttpStatus) outcome);
+        };
+    }
+}
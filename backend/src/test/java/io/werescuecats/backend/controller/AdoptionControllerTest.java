@@ -2,7 +2,11 @@ package io.werescuecats.backend.controller;
 
 import io.werescuecats.backend.dto.*;
 import io.werescuecats.backend.entity.*;
+import io.werescuecats.backend.exception.InvalidAdoptionTransitionException;
+import io.werescuecats.backend.exception.InvalidCursorException;
+import io.werescuecats.backend.exception.ResourceNotFoundException;
 import io.werescuecats.backend.security.CustomUserDetails;
+import io.werescuecats.backend.service.AdoptionDecisionService;
 import io.werescuecats.backend.service.AdoptionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,9 @@ class AdoptionControllerTest {
     @Mock
     private AdoptionService adoptionService;
 
+    @Mock
+    private AdoptionDecisionService adoptionDecisionService;
+
     @InjectMocks
     private AdoptionController adoptionController;
 
@@ -122,6 +129,57 @@ class AdoptionControllerTest {
         verify(adoptionService).getAllAdoptions();
     }
 
+    @Test
+    void getAdoptionsPage_ShouldClampLimit() {
+        when(adoptionService.getAdoptionsAfter(0L, CursorPageDto.MAX_LIMIT + 1)).thenReturn(Arrays.asList(adoption));
+
+        ResponseEntity<CursorPageDto<AdoptionDto>> response = adoptionController.getAdoptionsPage(null, 10_000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getContent().size());
+        assertEquals(CursorPageDto.MAX_LIMIT, response.getBody().getLimit());
+        assertFalse(response.getBody().isHasMore());
+    }
+
+    @Test
+    void getReviewQueue_ShouldReturnScoredItemsAndAKeysetCursor() {
+        Adoption second = new Adoption(user, cat);
+        second.setId(2L);
+        second.setStatus(AdoptionStatus.PENDING);
+        adoption.setReviewPriorityDate(LocalDateTime.now().minusDays(3));
+        second.setReviewPriorityDate(LocalDateTime.now().minusDays(1));
+        when(adoptionService.getReviewQueue(null, 2)).thenReturn(Arrays.asList(adoption, second));
+
+        ResponseEntity<CursorPageDto<ReviewQueueItemDto>> response = adoptionController.getReviewQueue(null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getContent().size());
+        assertEquals(3.0, response.getBody().getContent().get(0).getPriorityScore(), 0.1);
+        assertTrue(response.getBody().isHasMore());
+        DateIdCursor next = DateIdCursor.decode(response.getBody().getNextCursor(), DateIdCursor.REVIEW_QUEUE);
+        assertEquals(adoption.getReviewPriorityDate(), next.date());
+        assertEquals(1L, next.id());
+    }
+
+    @Test
+    void getReviewQueue_ShouldContinueAfterTheCursor() {
+        DateIdCursor cursor = new DateIdCursor(LocalDateTime.of(2026, 5, 1, 10, 30), 7L);
+        adoption.setReviewPriorityDate(LocalDateTime.of(2026, 5, 2, 9, 0));
+        when(adoptionService.getReviewQueue(cursor, CursorPageDto.DEFAULT_LIMIT + 1)).thenReturn(List.of(adoption));
+
+        ResponseEntity<CursorPageDto<ReviewQueueItemDto>> response = adoptionController.getReviewQueue(cursor.encode(DateIdCursor.REVIEW_QUEUE), null);
+
+        assertEquals(1, response.getBody().getContent().size());
+        assertFalse(response.getBody().isHasMore());
+        assertNull(response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getReviewQueue_ShouldRejectAForeignCursor() {
+        assertThrows(InvalidCursorException.class,
+            () -> adoptionController.getReviewQueue(CursorPageDto.encodeCursor(5L), null));
+    }
+
     @Test
     void getAdoptionById_ShouldReturnAdoption() {
         when(adoptionService.getAdoptionById(1L)).thenReturn(Optional.of(adoption));
@@ -158,14 +216,21 @@ class AdoptionControllerTest {
     }
 
     @Test
-    void approveAdoption_ShouldReturnBadRequestOnException() {
+    void approveAdoption_ShouldLeaveAMissingAdoptionToTheNotFoundHandler() {
         CustomUserDetails userDetails = new CustomUserDetails(admin);
-        when(adoptionService.approveAdoption(eq(1L), any(User.class))).thenThrow(new RuntimeException("Error"));
+        when(adoptionService.approveAdoption(eq(9L), any(User.class)))
+            .thenThrow(new ResourceNotFoundException("Adoption not found with id: 9"));
 
-        ResponseEntity<AdoptionDto> response = adoptionController.approveAdoption(1L, userDetails);
+        assertThrows(ResourceNotFoundException.class, () -> adoptionController.approveAdoption(9L, userDetails));
+    }
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        verify(adoptionService).approveAdoption(eq(1L), any(User.class));
+    @Test
+    void approveAdoption_ShouldLeaveAWrongStatusToTheConflictHandler() {
+        CustomUserDetails userDetails = new CustomUserDetails(admin);
+        when(adoptionService.approveAdoption(eq(1L), any(User.class)))
+            .thenThrow(new InvalidAdoptionTransitionException("Adoption is COMPLETED and cannot be approved"));
+
+        assertThrows(InvalidAdoptionTransitionException.class, () -> adoptionController.approveAdoption(1L, userDetails));
     }
 
     @Test
@@ -182,14 +247,21 @@ class AdoptionControllerTest {
     }
 
     @Test
-    void completeAdoption_ShouldReturnBadRequestOnException() {
+    void completeAdoption_ShouldLeaveAMissingAdoptionToTheNotFoundHandler() {
         CustomUserDetails userDetails = new CustomUserDetails(admin);
-        when(adoptionService.completeAdoption(eq(1L), any(User.class))).thenThrow(new RuntimeException("Error"));
+        when(adoptionService.completeAdoption(eq(9L), any(User.class)))
+            .thenThrow(new ResourceNotFoundException("Adoption not found with id: 9"));
 
-        ResponseEntity<AdoptionDto> response = adoptionController.completeAdoption(1L, userDetails);
+        assertThrows(ResourceNotFoundException.class, () -> adoptionController.completeAdoption(9L, userDetails));
+    }
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        verify(adoptionService).completeAdoption(eq(1L), any(User.class));
+    @Test
+    void completeAdoption_ShouldLeaveAWrongCatStatusToTheConflictHandler() {
+        CustomUserDetails userDetails = new CustomUserDetails(admin);
+        when(adoptionService.completeAdoption(eq(1L), any(User.class)))
+            .thenThrow(new InvalidAdoptionTransitionException("Cat is AVAILABLE and cannot be adopted"));
+
+        assertThrows(InvalidAdoptionTransitionException.class, () -> adoptionController.completeAdoption(1L, userDetails));
     }
 
     @Test
@@ -208,16 +280,52 @@ class AdoptionControllerTest {
     }
 
     @Test
-    void rejectAdoption_ShouldReturnBadRequestOnException() {
+    void rejectAdoption_ShouldLeaveAMissingAdoptionToTheNotFoundHandler() {
         RejectAdoptionRequestDto request = new RejectAdoptionRequestDto();
         request.setReason("Not suitable");
         CustomUserDetails userDetails = new CustomUserDetails(admin);
-        when(adoptionService.rejectAdoption(eq(1L), any(User.class), anyString())).thenThrow(new RuntimeException("Error"));
+        when(adoptionService.rejectAdoption(eq(9L), any(User.class), anyString()))
+            .thenThrow(new ResourceNotFoundException("Adoption not found with id: 9"));
 
-        ResponseEntity<AdoptionDto> response = adoptionController.rejectAdoption(1L, userDetails, request);
+        assertThrows(ResourceNotFoundException.class, () -> adoptionController.rejectAdoption(9L, userDetails, request));
+    }
+
+    @Test
+    void rejectAdoption_ShouldLeaveAWrongStatusToTheConflictHandler() {
+        RejectAdoptionRequestDto request = new RejectAdoptionRequestDto();
+        request.setReason("Not suitable");
+        CustomUserDetails userDetails = new CustomUserDetails(admin);
+        when(adoptionService.rejectAdoption(eq(1L), any(User.class), anyString()))
+            .thenThrow(new InvalidAdoptionTransitionException("Adoption is APPROVED and cannot be rejected"));
 
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-        verify(adoptionService).rejectAdoption(eq(1L), any(User.class), anyString());
+        assertThrows(InvalidAdoptionTransitionException.class, () -> adoptionController.rejectAdoption(1L, userDetails, request));
+    }
+
+    @Test
+    void decideAdoptions_ShouldReturnTheResultPerRow() {
+        List<AdoptionDecisionDto> decisions = List.of(new AdoptionDecisionDto(1L, AdoptionDecisionDto.Action.APPROVE, null));
+        AdoptionDecisionResultDto result = new AdoptionDecisionResultDto();
+        result.add(new AdoptionDecisionRowDto(1, 1L, AdoptionDecisionRowDto.Outcome.UPDATED, "APPROVED", null));
+        CustomUserDetails userDetails = new CustomUserDetails(admin);
+        when(adoptionDecisionService.decide(decisions, admin)).thenReturn(result);
+
+        ResponseEntity<AdoptionDecisionResultDto> response = adoptionController.decideAdoptions(decisions, userDetails);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getSucceeded());
+    }
+
+    @Test
+    void cancelAdoption_ShouldReturnCancelledAdoption() {
+        adoption.setStatus(AdoptionStatus.CANCELLED);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        when(adoptionService.cancelAdoption(1L, user)).thenReturn(adoption);
+
+        ResponseEntity<AdoptionDto> response = adoptionController.cancelAdoption(1L, userDetails);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("CANCELLED", response.getBody().getStatus());
+        verify(adoptionService).cancelAdoption(1L, user);
     }
 
     @Test
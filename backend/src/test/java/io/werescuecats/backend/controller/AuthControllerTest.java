@@ -101,7 +101,7 @@ class AuthControllerTest {
         ResponseEntity<LoginResponseDto> response = authController.loginUser(loginRequest);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-        verify(adoptionService, never()).getAnonymousAdoptionData();
+        verify(adoptionService, never()).streamAnonymousAdoptionData(any(), any(), any());
     }
 
     @Test
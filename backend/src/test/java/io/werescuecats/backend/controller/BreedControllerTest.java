@@ -11,6 +11,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,6 +35,9 @@ class BreedControllerTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(breedService.getBreedsETag()).thenReturn("breeds-test-3");
+        lenient().when(breedService.getBreedsLastModified()).thenReturn(1_700_000_000_000L);
+
         breed = new Breed("persian", "Persian");
         breed.setDescription("A lovely long-haired breed");
         breed.setOrigin("Iran");
@@ -45,7 +51,7 @@ class BreedControllerTest {
         List<Breed> breeds = Arrays.asList(breed);
         when(breedService.getAllBreeds()).thenReturn(breeds);
 
-        ResponseEntity<List<BreedDto>> response = breedController.getAllBreeds();
+        ResponseEntity<List<BreedDto>> response = breedController.getAllBreeds(request());
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().size());
@@ -53,11 +59,23 @@ class BreedControllerTest {
         verify(breedService).getAllBreeds();
     }
 
+    @Test
+    void getAllBreeds_ShouldReturnNotModified_WithoutLoadingBreeds() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/breeds");
+        servletRequest.addHeader("If-None-Match", "\"breeds-test-3\"");
+
+        ResponseEntity<List<BreedDto>> response = breedController.getAllBreeds(
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(breedService, never()).getAllBreeds();
+    }
+
     @Test
     void getBreedById_ShouldReturnBreed_WhenExists() {
         when(breedService.getBreedById("persian")).thenReturn(Optional.of(breed));
 
-        ResponseEntity<BreedDto> response = breedController.getBreedById("persian");
+        ResponseEntity<BreedDto> response = breedController.getBreedById("persian", request());
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Persian", response.getBody().getName());
@@ -69,7 +87,7 @@ class BreedControllerTest {
         
         when(breedService.getBreedById("nonexistent")).thenReturn(Optional.empty());
 
-        ResponseEntity<BreedDto> response = breedController.getBreedById("nonexistent");
+        ResponseEntity<BreedDto> response = breedController.getBreedById("nonexistent", request());
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(breedService).getBreedById("nonexistent");
@@ -87,4 +105,8 @@ class BreedControllerTest {
         assertEquals("Persian", response.getBody().get(0).getName());
         verify(breedService).searchBreeds("Persian", 4, null, null, "Iran");
     }
-}
\ No newline at end of file
+
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/breeds"), new MockHttpServletResponse());
+    }
+}
@@ -1,11 +1,20 @@
 package io.werescuecats.backend.controller;
 
+import io.werescuecats.backend.dto.BulkResultDto;
+import io.werescuecats.backend.dto.BulkStatusChangeDto;
 import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.CursorPageDto;
+import io.werescuecats.backend.dto.FacetSearchResultDto;
 import io.werescuecats.backend.dto.StatusUpdateRequestDto;
 import io.werescuecats.backend.entity.Breed;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.entity.User;
+import io.werescuecats.backend.exception.InvalidCursorException;
+import io.werescuecats.backend.security.CustomUserDetails;
 import io.werescuecats.backend.service.BreedService;
+import io.werescuecats.backend.service.CatBulkService;
+import io.werescuecats.backend.service.CatFacetIndex;
 import io.werescuecats.backend.service.CatService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,10 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +49,9 @@ class CatControllerTest {
     @Mock
     private BreedService breedService;
 
+    @Mock
+    private CatBulkService catBulkService;
+
     @InjectMocks
     private CatController catController;
 
@@ -42,6 +61,9 @@ class CatControllerTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(catService.getCatalogETag()).thenReturn("cats-test-7");
+        lenient().when(catService.getCatalogLastModified()).thenReturn(1_700_000_000_000L);
+
         breed = new Breed("persian", "Persian");
 
         cat = new Cat();
@@ -65,36 +87,64 @@ class CatControllerTest {
                 .build();
     }
 
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/cats"), new MockHttpServletResponse());
+    }
+
     @Test
     void getAvailableCats_ShouldReturnAvailableCats() {
-        List<Cat> availableCats = Arrays.asList(cat);
-        when(catService.getAvailableCats()).thenReturn(availableCats);
+        when(catService.getAvailableCatDtos()).thenReturn(Arrays.asList(catDto));
 
-        ResponseEntity<List<CatDto>> response = catController.getAvailableCats();
+        ResponseEntity<List<CatDto>> response = catController.getAvailableCats(request());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().size());
         assertEquals("Fluffy", response.getBody().get(0).getName());
-        verify(catService).getAvailableCats();
+        assertEquals("\"cats-test-7\"", response.getHeaders().getETag());
+        verify(catService).getAvailableCatDtos();
+    }
+
+    @Test
+    void getAvailableCats_ShouldReturnNotModified_WhenETagMatches() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/cats/available");
+        servletRequest.addHeader("If-None-Match", "\"cats-test-7\"");
+
+        ResponseEntity<List<CatDto>> response = catController.getAvailableCats(
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"cats-test-7\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(catService, never()).getAvailableCatDtos();
+    }
+
+    @Test
+    void getCatById_ShouldReturnNotModified_WhenUnchangedSince() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/cats/1");
+        servletRequest.addHeader("If-Modified-Since", 1_700_000_000_000L);
+
+        ResponseEntity<CatDto> response = catController.getCatById(1L,
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(catService, never()).getCatDtoById(any());
     }
 
     @Test
     void getCatsByBreed_ShouldReturnCatsOfSpecificBreed() {
-        List<Cat> breedCats = Arrays.asList(cat);
-        when(catService.getCatsByBreed("persian")).thenReturn(breedCats);
+        when(catService.getCatDtosByBreed("persian")).thenReturn(Arrays.asList(catDto));
         
-        ResponseEntity<List<CatDto>> response = catController.getCatsByBreed("persian");
+        ResponseEntity<List<CatDto>> response = catController.getCatsByBreed("persian", request());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().size());
         assertEquals("persian", response.getBody().get(0).getBreedId());
-        verify(catService).getCatsByBreed("persian");
+        verify(catService).getCatDtosByBreed("persian");
     }
 
     @Test
     void getCatsInArea_ShouldReturnCatsInArea() {
-        List<Cat> areaCats = Arrays.asList(cat);
-        when(catService.getCatsInArea(40.7128, -74.0060, 10.0)).thenReturn(areaCats);
+        when(catService.getCatsInArea(40.7128, -74.0060, 10.0)).thenReturn(Arrays.asList(catDto));
 
         ResponseEntity<List<CatDto>> response = catController.getCatsInArea(40.7128, -74.0060, 10.0);
 
@@ -103,25 +153,162 @@ class CatControllerTest {
         verify(catService).getCatsInArea(40.7128, -74.0060, 10.0);
     }
 
+    @Test
+    void getCatsPage_ShouldReturnCursorWhenMoreRowsExist() {
+        CatDto second = catDto.toBuilder().id(2L).name("Shadow").build();
+        when(catService.getCatsAfter(0L, 2)).thenReturn(Arrays.asList(catDto, second));
+
+        ResponseEntity<CursorPageDto<CatDto>> response = catController.getCatsPage(null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getContent().size());
+        assertTrue(response.getBody().isHasMore());
+        assertEquals(1L, CursorPageDto.decodeCursor(response.getBody().getNextCursor()));
+    }
+
+    @Test
+    void getAvailableCatsPage_ShouldContinueAfterCursor() {
+        when(catService.getAvailableCatsAfter(1L, CursorPageDto.DEFAULT_LIMIT + 1)).thenReturn(List.of());
+
+        ResponseEntity<CursorPageDto<CatDto>> response =
+                catController.getAvailableCatsPage(CursorPageDto.encodeCursor(1L), null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().getContent().isEmpty());
+        assertFalse(response.getBody().isHasMore());
+        assertNull(response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getCatsPage_ShouldRejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> catController.getCatsPage("not-a-cursor", 10));
+        verifyNoInteractions(catService);
+    }
+
+    @Test
+    void getNearestCats_ShouldCapK() {
+        when(catService.getNearestCats(40.7128, -74.0060, 100)).thenReturn(Arrays.asList(catDto));
+
+        ResponseEntity<List<CatDto>> response = catController.getNearestCats(40.7128, -74.0060, 5000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(catService).getNearestCats(40.7128, -74.0060, 100);
+    }
+
+    @Test
+    void searchCats_ShouldCapLimit() {
+        when(catService.searchCats("fluffy", CatStatus.AVAILABLE, 100))
+                .thenReturn(new CatService.SearchResult(List.of(catDto), false));
+
+        ResponseEntity<List<CatDto>> response = catController.searchCats("fluffy", CatStatus.AVAILABLE, 1000,
+                new CustomUserDetails(new User()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertNull(response.getHeaders().getFirst(CatController.SEARCH_TRUNCATED_HEADER));
+        verify(catService).searchCats("fluffy", CatStatus.AVAILABLE, 100);
+    }
+
+    @Test
+    void searchCats_ShouldOnlySearchAvailableCats_WhenAnonymous() {
+        when(catService.searchCats("fluffy", CatStatus.AVAILABLE, 20))
+                .thenReturn(new CatService.SearchResult(List.of(catDto), false));
+
+        ResponseEntity<List<CatDto>> response = catController.searchCats("fluffy", CatStatus.ADOPTED, 20, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(catService).searchCats("fluffy", CatStatus.AVAILABLE, 20);
+    }
+
+    @Test
+    void searchCats_ShouldSearchEveryStatus_WhenSignedIn() {
+        when(catService.searchCats("fluffy", null, 20))
+                .thenReturn(new CatService.SearchResult(List.of(catDto), false));
+
+        catController.searchCats("fluffy", null, 20, new CustomUserDetails(new User()));
+
+        verify(catService).searchCats("fluffy", null, 20);
+    }
+
+    @Test
+    void searchCats_ShouldFlagTruncatedPrefixExpansion() {
+        when(catService.searchCats("f", null, 20)).thenReturn(new CatService.SearchResult(List.of(catDto), true));
+
+        ResponseEntity<List<CatDto>> response = catController.searchCats("f", null, 20, new CustomUserDetails(new User()));
+
+        assertEquals("true", response.getHeaders().getFirst(CatController.SEARCH_TRUNCATED_HEADER));
+    }
+
+    @Test
+    void facetSearch_ShouldPassOnlySelectedFacets() {
+        FacetSearchResultDto result = FacetSearchResultDto.builder().content(List.of(catDto)).total(1).build();
+        Map<String, Set<String>> filters = Map.of(
+                CatFacetIndex.STATUS, Set.of("AVAILABLE"),
+                CatFacetIndex.TRAITS, Set.of("goodWithKids", "lowMaintenance"));
+        when(catService.facetSearch(filters, false, 0, 100)).thenReturn(result);
+
+        ResponseEntity<FacetSearchResultDto> response = catController.facetSearch(
+                List.of("AVAILABLE"), null, null, List.of(), List.of("goodWithKids", "lowMaintenance"), -1, 500,
+                new CustomUserDetails(new User()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getTotal());
+        verify(catService).facetSearch(filters, false, 0, 100);
+    }
+
+    @Test
+    void facetSearch_ShouldOnlyShowAvailableCats_WhenAnonymous() {
+        FacetSearchResultDto result = FacetSearchResultDto.builder().content(List.of()).total(0).build();
+        Map<String, Set<String>> filters = Map.of(CatFacetIndex.STATUS, Set.of("ADOPTED"));
+        when(catService.facetSearch(filters, true, 0, 20)).thenReturn(result);
+
+        catController.facetSearch(List.of("ADOPTED"), null, null, null, null, 0, 20, null);
+
+        verify(catService).facetSearch(filters, true, 0, 20);
+    }
+
+    @Test
+    void importCatsCsv_ShouldReturnBadRequest_WhenHeaderIsInvalid() {
+        InputStream body = new ByteArrayInputStream("colour\n".getBytes());
+        when(catBulkService.importCsv(body)).thenThrow(new IllegalArgumentException("Unknown CSV column: colour"));
+
+        ResponseEntity<BulkResultDto> response = catController.importCatsCsv(body);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void updateCatStatuses_ShouldReturnReport() {
+        List<BulkStatusChangeDto> changes = List.of(new BulkStatusChangeDto(1L, CatStatus.ADOPTED));
+        BulkResultDto report = new BulkResultDto();
+        when(catBulkService.updateStatuses(changes)).thenReturn(report);
+
+        ResponseEntity<BulkResultDto> response = catController.updateCatStatuses(changes);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(report, response.getBody());
+    }
+
     @Test
     void getCatById_ShouldReturnCat_WhenExists() {
-        when(catService.getCatById(1L)).thenReturn(Optional.of(cat));
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.of(catDto));
         
-        ResponseEntity<CatDto> response = catController.getCatById(1L);
+        ResponseEntity<CatDto> response = catController.getCatById(1L, request());
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Fluffy", response.getBody().getName());
-        verify(catService).getCatById(1L);
+        verify(catService).getCatDtoById(1L);
     }
 
     @Test
     void getCatById_ShouldReturnNotFound_WhenDoesNotExist() {
-        when(catService.getCatById(1L)).thenReturn(Optional.empty());
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.empty());
 
-        ResponseEntity<CatDto> response = catController.getCatById(1L);
+        ResponseEntity<CatDto> response = catController.getCatById(1L, request());
         
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        verify(catService).getCatById(1L);
+        verify(catService).getCatDtoById(1L);
     }
 
     @Test
@@ -152,8 +339,8 @@ class CatControllerTest {
 
     @Test
     void getPendingCats_ShouldReturnPendingCats() {
-        cat.setStatus(CatStatus.PENDING);
-        when(catService.getPendingCats()).thenReturn(List.of(cat));
+        catDto.setStatus(CatStatus.PENDING);
+        when(catService.getPendingCats()).thenReturn(List.of(catDto));
         
         ResponseEntity<List<CatDto>> response = catController.getPendingCats();
         
@@ -165,8 +352,8 @@ class CatControllerTest {
 
     @Test
     void getAdoptedCats_ShouldReturnAdoptedCats() {
-        cat.setStatus(CatStatus.ADOPTED);
-        when(catService.getAdoptedCats()).thenReturn(List.of(cat));
+        catDto.setStatus(CatStatus.ADOPTED);
+        when(catService.getAdoptedCats()).thenReturn(List.of(catDto));
         
         ResponseEntity<List<CatDto>> response = catController.getAdoptedCats();
         
@@ -178,14 +365,14 @@ class CatControllerTest {
 
     @Test
     void getAllCats_ShouldReturnAllCats() {
-        when(catService.getAllCats()).thenReturn(List.of(cat));
+        when(catService.getAllCatDtos()).thenReturn(List.of(catDto));
         
         ResponseEntity<List<CatDto>> response = catController.getAllCats();
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().size());
         assertEquals("Fluffy", response.getBody().get(0).getName());
-        verify(catService).getAllCats();
+        verify(catService).getAllCatDtos();
     }
 
     @Test
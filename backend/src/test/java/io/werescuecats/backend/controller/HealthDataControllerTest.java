@@ -1,22 +1,31 @@
 package io.werescuecats.backend.controller;
 
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.werescuecats.backend.dto.AnonymousAdoptionData;
+import io.werescuecats.backend.dto.DateIdCursor;
+import io.werescuecats.backend.exception.InvalidCursorException;
 import io.werescuecats.backend.service.AdoptionService;
 import io.werescuecats.backend.service.ApiTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,38 +37,98 @@ class HealthDataControllerTest {
     @Mock
     private ApiTokenService apiTokenService;
 
-    @InjectMocks
-    private HealthDataController healthDataController;
+    private static final DateIdCursor END = new DateIdCursor(LocalDateTime.of(2024, 3, 1, 10, 15), 42L);
 
-    private AnonymousAdoptionData adoptionData;
+    private HealthDataController healthDataController;
 
     @BeforeEach
     void setUp() {
-        adoptionData = AnonymousAdoptionData.builder()
-                .adoptionDate(LocalDateTime.now())
-                .catBreed("Persian")
-                .catAge(2)
-                .locationRegion("NY")
-                .status("COMPLETED")
-                .tenantId("main")
-                .build();
+        healthDataController = new HealthDataController(adoptionService, apiTokenService,
+                JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
     }
 
     @Test
-    void getAnonymousData_ShouldReturnData_WhenValidToken() {
+    void getAnonymousData_ShouldStreamAJsonArray_WhenValidToken() throws IOException {
         String validToken = "valid-token";
-        List<AnonymousAdoptionData> data = Arrays.asList(adoptionData);
         when(apiTokenService.isValidToken(validToken)).thenReturn(true);
-        when(adoptionService.getAnonymousAdoptionData()).thenReturn(data);
+        streamRows(row("Persian", "NY"), row("Bengal", "Berlin"));
 
-        ResponseEntity<List<AnonymousAdoptionData>> response = 
-                healthDataController.getAnonymousData(validToken);
+        ResponseEntity<StreamingResponseBody> response = healthDataController.getAnonymousData(validToken, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
-        assertEquals("Persian", response.getBody().get(0).getCatBreed());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        String body = write(response);
+        assertTrue(body.startsWith("[{"));
+        assertTrue(body.endsWith("}]"));
+        assertTrue(body.contains("\"catBreed\":\"Persian\""));
+        assertTrue(body.contains("},{\"adoptionDate\":\"2024-03-01T10:15:00\""));
         verify(apiTokenService).isValidToken(validToken);
-        verify(adoptionService).getAnonymousAdoptionData();
+    }
+
+    @Test
+    void getAnonymousData_ShouldStreamOneObjectPerLine_ForNdjson() throws IOException {
+        when(apiTokenService.isValidToken("valid-token")).thenReturn(true);
+        streamRows(row("Persian", "NY"), row("Bengal", "Berlin"));
+
+        ResponseEntity<StreamingResponseBody> response =
+                healthDataController.getAnonymousData("valid-token", "application/x-ndjson", null, null);
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = write(response).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("Persian"));
+        assertTrue(lines[1].startsWith("{") && lines[1].contains("Berlin"));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void getAnonymousData_ShouldStreamAnEmptyArray_WhenNothingIsCompleted() throws IOException {
+        when(apiTokenService.isValidToken("valid-token")).thenReturn(true);
+        when(adoptionService.getAnonymousExportEnd()).thenReturn(Optional.empty());
+
+        ResponseEntity<StreamingResponseBody> response = healthDataController.getAnonymousData("valid-token", null, null, null);
+
+        assertEquals("[]", write(response));
+        assertNull(response.getHeaders().getFirst("X-Next-Cursor"));
+        verify(adoptionService, never()).streamAnonymousAdoptionData(any(), any(), any());
+    }
+
+    @Test
+    void getAnonymousData_ShouldReturnTheNextCursor_AndContinueFromIt() throws IOException {
+        when(apiTokenService.isValidToken("valid-token")).thenReturn(true);
+        streamRows(row("Persian", "NY"));
+
+        ResponseEntity<StreamingResponseBody> full = healthDataController.getAnonymousData("valid-token", null, null, null);
+        write(full);
+        String cursor = full.getHeaders().getFirst("X-Next-Cursor");
+        assertEquals(END, DateIdCursor.decode(cursor, DateIdCursor.COMPLETED_ADOPTIONS));
+        verify(adoptionService).streamAnonymousAdoptionData(isNull(), eq(END), any());
+
+        // Nothing was completed since: no rows, and the partner keeps its cursor
+        ResponseEntity<StreamingResponseBody> poll = healthDataController.getAnonymousData("valid-token", null, null, cursor);
+
+        assertEquals("[]", write(poll));
+        assertEquals(cursor, poll.getHeaders().getFirst("X-Next-Cursor"));
+        verify(adoptionService, times(1)).streamAnonymousAdoptionData(any(), any(), any());
+    }
+
+    @Test
+    void getAnonymousData_ShouldStartAfterTheSinceWatermark() throws IOException {
+        when(apiTokenService.isValidToken("valid-token")).thenReturn(true);
+        streamRows(row("Bengal", "Berlin"));
+        LocalDateTime since = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+        write(healthDataController.getAnonymousData("valid-token", null, since, null));
+
+        verify(adoptionService).streamAnonymousAdoptionData(eq(new DateIdCursor(since, Long.MAX_VALUE)), eq(END), any());
+    }
+
+    @Test
+    void getAnonymousData_ShouldRejectSinceTogetherWithACursor() {
+        when(apiTokenService.isValidToken("valid-token")).thenReturn(true);
+
+        assertThrows(InvalidCursorException.class, () -> healthDataController.getAnonymousData("valid-token", null,
+                LocalDateTime.now(), END.encode(DateIdCursor.COMPLETED_ADOPTIONS)));
     }
 
     @Test
@@ -67,9 +136,37 @@ class HealthDataControllerTest {
         String invalidToken = "invalid-token";
         when(apiTokenService.isValidToken(invalidToken)).thenReturn(false);
 
-        ResponseEntity<List<AnonymousAdoptionData>> response = 
-                healthDataController.getAnonymousData(invalidToken);
+        ResponseEntity<StreamingResponseBody> response = healthDataController.getAnonymousData(invalidToken, null, null, null);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verify(adoptionService, never()).streamAnonymousAdoptionData(any(), any(), any());
+    }
+
+    private void streamRows(AnonymousAdoptionData... rows) {
+        lenient().when(adoptionService.getAnonymousExportEnd()).thenReturn(Optional.of(END));
+        doAnswer(invocation -> {
+            Consumer<AnonymousAdoptionData> consumer = invocation.getArgument(2);
+            for (AnonymousAdoptionData row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(adoptionService).streamAnonymousAdoptionData(any(), eq(END), any());
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static AnonymousAdoptionData row(String breed, String region) {
+        return AnonymousAdoptionData.builder()
+                .adoptionDate(LocalDateTime.of(2024, 3, 1, 10, 15))
+                .catBreed(breed)
+                .catAge(2)
+                .locationRegion(region)
+                .status("COMPLETED")
+                .tenantId("main")
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package io.werescuecats.backend.controller;
+
+import io.werescuecats.backend.service.ImageProxyCache;
+import io.werescuecats.backend.service.ImageProxyCache.CachedImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageProxyControllerTest {
+
+    private static final String URL = "https://cdn2.thecatapi.com/images/luna.jpg";
+    private static final String HASH = "ab".repeat(32);
+
+    @Mock
+    private ImageProxyCache imageProxyCache;
+
+    @TempDir
+    Path tempDir;
+
+    private ImageProxyController controller;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        content = new byte[100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(tempDir.resolve(HASH), content);
+        when(imageProxyCache.get(URL)).thenReturn(new CachedImage(file, HASH, "image/jpeg", content.length));
+        controller = new ImageProxyController(imageProxyCache);
+    }
+
+    @Test
+    void getImage_ShouldServeTheWholeImageWithLongLivedCacheHeaders() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request(), response);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(content, response.getContentAsByteArray());
+        assertEquals("image/jpeg", response.getContentType());
+        assertEquals(100, response.getContentLengthLong());
+        assertEquals("\"" + HASH + "\"", response.getHeader("ETag"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertTrue(response.getHeader("Cache-Control").contains("max-age=31536000"));
+        assertTrue(response.getHeader("Cache-Control").contains("immutable"));
+    }
+
+    @Test
+    void getImage_ShouldReturnNotModified_WhenTheETagMatches() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", "W/\"other\", \"" + HASH + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request, response);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void getImage_ShouldServeASingleByteRange() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=10-19");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 10-19/100", response.getHeader("Content-Range"));
+        assertEquals(10, response.getContentLengthLong());
+        assertArrayEquals(Arrays.copyOfRange(content, 10, 20), response.getContentAsByteArray());
+    }
+
+    @Test
+    void getImage_ShouldServeASuffixRange() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 95-99/100", response.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 95, 100), response.getContentAsByteArray());
+    }
+
+    @Test
+    void getImage_ShouldReturn416_ForARangePastTheEnd() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=200-300");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request, response);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */100", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void getImage_ShouldIgnoreTheRange_WhenIfRangeIsStaleOrRangesAreMultiple() throws IOException {
+        MockHttpServletRequest stale = request();
+        stale.addHeader("Range", "bytes=0-9");
+        stale.addHeader("If-Range", "\"old\"");
+        MockHttpServletResponse staleResponse = new MockHttpServletResponse();
+        controller.getImage(URL, stale, staleResponse);
+
+        MockHttpServletRequest multiple = request();
+        multiple.addHeader("Range", "bytes=0-9,20-29");
+        MockHttpServletResponse multipleResponse = new MockHttpServletResponse();
+        controller.getImage(URL, multiple, multipleResponse);
+
+        assertEquals(200, staleResponse.getStatus());
+        assertEquals(100, staleResponse.getContentAsByteArray().length);
+        assertEquals(200, multipleResponse.getStatus());
+        assertEquals(100, multipleResponse.getContentAsByteArray().length);
+    }
+
+    @Test
+    void getImage_ShouldHandTheFileToTheContainer_WhenSendfileIsSupported() throws IOException {
+        MockHttpServletRequest request = request();
+        request.setAttribute(ImageProxyController.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader("Range", "bytes=50-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(tempDir.resolve(HASH).toAbsolutePath().toString(), request.getAttribute(ImageProxyController.SENDFILE_FILENAME));
+        assertEquals(50L, request.getAttribute(ImageProxyController.SENDFILE_START));
+        assertEquals(100L, request.getAttribute(ImageProxyController.SENDFILE_END));
+    }
+
+    @Test
+    void getImage_ShouldSendHeadersOnly_ForHead() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/api/images");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getImage(URL, request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(100, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/images");
+    }
+}
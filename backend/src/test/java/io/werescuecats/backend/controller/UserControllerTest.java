@@ -1,5 +1,6 @@
 package io.werescuecats.backend.controller;
 
+import io.werescuecats.backend.dto.CursorPageDto;
 import io.werescuecats.backend.dto.RegisterRequestDto;
 import io.werescuecats.backend.dto.UserDto;
 import io.werescuecats.backend.entity.User;
@@ -98,6 +99,17 @@ class UserControllerTest {
         verify(userService).createUser(any(User.class));
     }
 
+    @Test
+    void getUsersPage_ShouldReturnPage() {
+        when(userService.getUsersAfter(0L, 11)).thenReturn(Arrays.asList(user));
+
+        ResponseEntity<CursorPageDto<UserDto>> response = userController.getUsersPage(null, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getContent().size());
+        assertFalse(response.getBody().isHasMore());
+    }
+
     @Test
     void getAllUsers_ShouldReturnUserList() {
         List<User> users = Arrays.asList(user);
@@ -316,19 +316,19 @@ public class AdoptionIntegrationTest {
 
     @Test
     @WithMockCustomUser(role = "ADMIN")
-    void approveAdoption_AdoptionNotFound_BadRequest() throws Exception {
+    void approveAdoption_AdoptionNotFound_NotFound() throws Exception {
         mockMvc.perform(put("/api/adoptions/{id}/approve", 999L))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isNotFound());
     }
 
     @Test
     @WithMockCustomUser(role = "ADMIN")
-    void approveAdoption_WrongStatus_BadRequest() throws Exception {
+    void approveAdoption_WrongStatus_Conflict() throws Exception {
         // Create an already approved adoption
         Adoption adoption = createApprovedAdoption();
 
         mockMvc.perform(put("/api/adoptions/{id}/approve", adoption.getId()))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isConflict());
 
         // Verify status didn't change
         Adoption unchangedAdoption = adoptionRepository.findById(adoption.getId()).orElseThrow();
@@ -337,12 +337,12 @@ public class AdoptionIntegrationTest {
 
     @Test
     @WithMockCustomUser(role = "ADMIN")
-    void completeAdoption_WrongStatus_BadRequest() throws Exception {
+    void completeAdoption_WrongStatus_Conflict() throws Exception {
         // Try to complete a pending adoption (should be approved first)
         Adoption adoption = createPendingAdoption();
 
         mockMvc.perform(put("/api/adoptions/{id}/complete", adoption.getId()))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isConflict());
 
         // Verify status didn't change
         Adoption unchangedAdoption = adoptionRepository.findById(adoption.getId()).orElseThrow();
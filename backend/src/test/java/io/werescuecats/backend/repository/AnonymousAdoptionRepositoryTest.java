@@ -0,0 +1,36 @@
+package io.werescuecats.backend.repository;
+
+import io.werescuecats.backend.dto.AnonymousAdoptionData;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnonymousAdoptionRepositoryTest {
+
+    @Test
+    void toData_ShouldReadThePrecomputedColumns() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getTimestamp("adoption_date")).thenReturn(Timestamp.valueOf(LocalDateTime.of(2023, 1, 1, 12, 0)));
+        when(rs.getString("breed_name")).thenReturn("Unknown");
+        when(rs.getObject("cat_age", Integer.class)).thenReturn(3);
+        when(rs.getString("age_group")).thenReturn("YOUNG");
+        when(rs.getString("location_region")).thenReturn("Region");
+        when(rs.getString("tenant_id")).thenReturn("main");
+
+        AnonymousAdoptionData data = AnonymousAdoptionRepository.toData(rs);
+
+        assertEquals(LocalDateTime.of(2023, 1, 1, 12, 0), data.getAdoptionDate());
+        assertEquals("Unknown", data.getCatBreed());
+        assertEquals(3, data.getCatAge());
+        assertEquals("YOUNG", data.getAgeGroup());
+        assertEquals("Region", data.getLocationRegion());
+        assertEquals("COMPLETED", data.getStatus());
+        assertEquals("main", data.getTenantId());
+    }
+}
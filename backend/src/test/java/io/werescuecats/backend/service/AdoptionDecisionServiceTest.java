@@ -0,0 +1,158 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.AdoptionDecisionDto;
+import io.werescuecats.backend.dto.AdoptionDecisionDto.Action;
+import io.werescuecats.backend.dto.AdoptionDecisionResultDto;
+import io.werescuecats.backend.dto.AdoptionDecisionRowDto;
+import io.werescuecats.backend.dto.AdoptionDecisionRowDto.Outcome;
+import io.werescuecats.backend.entity.Adoption;
+import io.werescuecats.backend.entity.AdoptionStatus;
+import io.werescuecats.backend.entity.AdoptionTransition;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.entity.User;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.AdoptionRepository;
+import io.werescuecats.backend.repository.AdoptionTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdoptionDecisionServiceTest {
+
+    @Mock
+    private AdoptionTransitionRepository transitionRepository;
+
+    @Mock
+    private AdoptionRepository adoptionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AdoptionDecisionService service;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        service = new AdoptionDecisionService(transitionRepository, adoptionRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, 3);
+        admin = new User();
+        admin.setId(9L);
+        admin.setEmail("admin@test.com");
+    }
+
+    @Test
+    void decide_ShouldBatchEachActionAndReportAnOutcomePerRow() {
+        when(transitionRepository.applyAll(eq(AdoptionTransition.APPROVE), eq(List.of(1L, 3L)), eq(9L), isNull(), any()))
+                .thenReturn(new int[] { 1, 0 });
+        when(transitionRepository.applyAll(eq(AdoptionTransition.REJECT), eq(List.of(2L)), eq(9L), eq(List.of("No garden")), any()))
+                .thenReturn(new int[] { 1 });
+        when(adoptionRepository.findWithCatByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                adoption(1L, AdoptionStatus.APPROVED, CatStatus.PENDING),
+                adoption(2L, AdoptionStatus.REJECTED, CatStatus.AVAILABLE),
+                adoption(3L, AdoptionStatus.COMPLETED, CatStatus.ADOPTED)));
+
+        AdoptionDecisionResultDto result = service.decide(List.of(
+                new AdoptionDecisionDto(1L, Action.APPROVE, null),
+                new AdoptionDecisionDto(2L, Action.REJECT, "No garden"),
+                new AdoptionDecisionDto(3L, Action.APPROVE, null)), admin);
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getRows()).extracting(AdoptionDecisionRowDto::getOutcome)
+                .containsExactly(Outcome.UPDATED, Outcome.UPDATED, Outcome.INVALID_STATE);
+        assertThat(result.getRows().get(2).getStatus()).isEqualTo("COMPLETED");
+
+        // Only the rejection moved a cat
+        ArgumentCaptor<CatChangedEvent> event = ArgumentCaptor.forClass(CatChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCatId()).isEqualTo(102L);
+        assertThat(event.getValue().getStatus()).isEqualTo(CatStatus.AVAILABLE);
+    }
+
+    @Test
+    void decide_ShouldValidateRowsAndReportMissingAdoptions() {
+        when(transitionRepository.applyAll(eq(AdoptionTransition.APPROVE), eq(List.of(7L)), eq(9L), isNull(), any()))
+                .thenReturn(new int[] { 0 });
+        when(adoptionRepository.findWithCatByIdIn(List.of(7L))).thenReturn(List.of());
+
+        AdoptionDecisionResultDto result = service.decide(List.of(
+                new AdoptionDecisionDto(null, Action.APPROVE, null),
+                new AdoptionDecisionDto(5L, Action.REJECT, " "),
+                new AdoptionDecisionDto(7L, Action.APPROVE, null)), admin);
+
+        assertThat(result.getRows()).extracting(AdoptionDecisionRowDto::getOutcome)
+                .containsExactly(Outcome.INVALID, Outcome.INVALID, Outcome.NOT_FOUND);
+        assertThat(result.getRows().get(1).getError()).contains("reason");
+        verify(transitionRepository, never()).applyAll(eq(AdoptionTransition.REJECT), any(), any(), any(), any());
+    }
+
+    @Test
+    void decide_ShouldRejectEveryRowOfAnAdoptionNamedTwice() {
+        when(transitionRepository.applyAll(eq(AdoptionTransition.APPROVE), eq(List.of(6L)), eq(9L), isNull(), any()))
+                .thenReturn(new int[] { 1 });
+        when(adoptionRepository.findWithCatByIdIn(List.of(6L)))
+                .thenReturn(List.of(adoption(6L, AdoptionStatus.APPROVED, CatStatus.PENDING)));
+
+        // The second decision for adoption 5 falls into the next chunk
+        AdoptionDecisionResultDto result = service.decide(List.of(
+                new AdoptionDecisionDto(5L, Action.REJECT, "No garden"),
+                new AdoptionDecisionDto(6L, Action.APPROVE, null),
+                new AdoptionDecisionDto(8L, Action.REJECT, " "),
+                new AdoptionDecisionDto(5L, Action.APPROVE, null)), admin);
+
+        assertThat(result.getRows()).extracting(AdoptionDecisionRowDto::getRow).containsExactly(1, 3, 2, 4);
+        assertThat(result.getRows()).extracting(AdoptionDecisionRowDto::getOutcome)
+                .containsExactly(Outcome.INVALID, Outcome.INVALID, Outcome.UPDATED, Outcome.INVALID);
+        verify(transitionRepository, never()).applyAll(eq(AdoptionTransition.REJECT), any(), any(), any(), any());
+        verify(transitionRepository, never()).applyAll(any(), argThat(ids -> ids.contains(5L)), any(), any(), any());
+    }
+
+    @Test
+    void decide_ShouldWriteInChunksAndKeepGoingAfterAFailedChunk() {
+        when(transitionRepository.applyAll(eq(AdoptionTransition.APPROVE), anyList(), eq(9L), isNull(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(new int[] { Statement.SUCCESS_NO_INFO });
+        when(adoptionRepository.findWithCatByIdIn(List.of(4L)))
+                .thenReturn(List.of(adoption(4L, AdoptionStatus.APPROVED, CatStatus.PENDING)));
+
+        AdoptionDecisionResultDto result = service.decide(List.of(
+                new AdoptionDecisionDto(1L, Action.APPROVE, null),
+                new AdoptionDecisionDto(2L, Action.APPROVE, null),
+                new AdoptionDecisionDto(3L, Action.APPROVE, null),
+                new AdoptionDecisionDto(4L, Action.APPROVE, null)), admin);
+
+        assertThat(result.getRows()).extracting(AdoptionDecisionRowDto::getOutcome)
+                .containsExactly(Outcome.FAILED, Outcome.FAILED, Outcome.FAILED, Outcome.UPDATED);
+        assertThat(result.getRows()).extracting(AdoptionDecisionRowDto::getRow).containsExactly(1, 2, 3, 4);
+        verify(transitionRepository, times(2)).applyAll(any(), anyList(), any(), any(), any());
+    }
+
+    private static Adoption adoption(Long id, AdoptionStatus status, CatStatus catStatus) {
+        Cat cat = new Cat();
+        cat.setId(100L + id);
+        cat.setStatus(catStatus);
+        Adoption adoption = new Adoption(new User(), cat, null);
+        adoption.setId(id);
+        adoption.setStatus(status);
+        return adoption;
+    }
+}
@@ -5,26 +5,39 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import io.werescuecats.backend.dto.AnonymousAdoptionData;
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.DateIdCursor;
 import io.werescuecats.backend.entity.Adoption;
 import io.werescuecats.backend.entity.AdoptionStatus;
+import io.werescuecats.backend.entity.AdoptionTransition;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
 import io.werescuecats.backend.entity.User;
+import io.werescuecats.backend.entity.UserRole;
+import io.werescuecats.backend.event.CatChangedEvent;
 import io.werescuecats.backend.exception.CatNotAvailableException;
+import io.werescuecats.backend.exception.CatReservationConflictException;
+import io.werescuecats.backend.exception.InvalidAdoptionTransitionException;
 import io.werescuecats.backend.exception.ResourceNotFoundException;
 import io.werescuecats.backend.repository.AdoptionRepository;
+import io.werescuecats.backend.repository.AdoptionTransitionRepository;
+import io.werescuecats.backend.repository.AnonymousAdoptionRepository;
 
 @ExtendWith(MockitoExtension.class)
 class AdoptionServiceTest {
@@ -38,6 +51,18 @@ class AdoptionServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private AdoptionTransitionRepository transitionRepository;
+
+    @Mock
+    private AnonymousAdoptionRepository anonymousAdoptionRepository;
+
+    @Mock
+    private AnonymousAdoptionService anonymousAdoptionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdoptionService adoptionService;
 
@@ -76,7 +101,9 @@ class AdoptionServiceTest {
     @DisplayName("Create adoption success")
     void createAdoption_Success() {
         when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
-        when(catService.getCatById(1L)).thenReturn(Optional.of(testCat));
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.of(catDto(CatStatus.AVAILABLE)));
+        when(catService.getCatReference(1L)).thenReturn(testCat);
+        when(catService.updateCatStatusIf(1L, CatStatus.AVAILABLE, CatStatus.PENDING)).thenReturn(true);
         when(adoptionRepository.save(any(Adoption.class))).thenAnswer(i -> i.getArgument(0));
 
         Adoption result = adoptionService.createAdoption(1L, 1L, "Notes");
@@ -87,8 +114,25 @@ class AdoptionServiceTest {
         assertEquals("Notes", result.getNotes());
         assertEquals(AdoptionStatus.PENDING, result.getStatus());
 
-        verify(catService).updateCatStatus(1L, CatStatus.PENDING);
-        verify(adoptionRepository).save(any(Adoption.class));
+        var order = inOrder(adoptionRepository, catService);
+        order.verify(adoptionRepository).save(any(Adoption.class));
+        order.verify(catService).updateCatStatusIf(1L, CatStatus.AVAILABLE, CatStatus.PENDING);
+        verify(catService, never()).updateCatStatus(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Create adoption reports a conflict when another request reserved the cat first")
+    void createAdoption_LostReservationRace() {
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.of(catDto(CatStatus.AVAILABLE)));
+        when(catService.getCatReference(1L)).thenReturn(testCat);
+        when(catService.updateCatStatusIf(1L, CatStatus.AVAILABLE, CatStatus.PENDING)).thenReturn(false);
+        when(adoptionRepository.save(any(Adoption.class))).thenAnswer(i -> i.getArgument(0));
+
+        CatReservationConflictException ex = assertThrows(CatReservationConflictException.class,
+                () -> adoptionService.createAdoption(1L, 1L, "Notes"));
+
+        assertTrue(ex.getMessage().contains("Fluffy"));
     }
 
     @Test
@@ -107,7 +151,7 @@ class AdoptionServiceTest {
     @DisplayName("Create adoption throws when cat not found")
     void createAdoption_CatNotFound() {
         when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
-        when(catService.getCatById(1L)).thenReturn(Optional.empty());
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
                 () -> adoptionService.createAdoption(1L, 1L, "Notes"));
@@ -119,78 +163,194 @@ class AdoptionServiceTest {
     @Test
     @DisplayName("Create adoption throws when cat not available")
     void createAdoption_CatNotAvailable() {
-        testCat.setStatus(CatStatus.ADOPTED);
         when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
-        when(catService.getCatById(1L)).thenReturn(Optional.of(testCat));
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.of(catDto(CatStatus.ADOPTED)));
 
         CatNotAvailableException ex = assertThrows(CatNotAvailableException.class,
                 () -> adoptionService.createAdoption(1L, 1L, "Notes"));
 
         assertTrue(ex.getMessage().contains("Cat is not available for adoption: Fluffy"));
         verify(adoptionRepository, never()).save(any());
+        verify(catService, never()).updateCatStatusIf(anyLong(), any(), any());
     }
 
     @Test
-    @DisplayName("Approve adoption success")
-    void approveAdoption_Success() {
-        testAdoption.setStatus(AdoptionStatus.PENDING);
-        when(adoptionRepository.findById(1L)).thenReturn(Optional.of(testAdoption));
+    @DisplayName("Create adoption moves the review priority date earlier for adopter history and cat demand")
+    void createAdoption_SetsReviewPriorityDate() {
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+        when(catService.getCatDtoById(1L)).thenReturn(Optional.of(catDto(CatStatus.AVAILABLE)));
+        when(catService.getCatReference(1L)).thenReturn(testCat);
+        when(catService.updateCatStatusIf(1L, CatStatus.AVAILABLE, CatStatus.PENDING)).thenReturn(true);
+        when(adoptionRepository.countCompletedAdoptionsByUser(1L)).thenReturn(1L);
+        when(adoptionRepository.countByCatId(1L)).thenReturn(2L);
         when(adoptionRepository.save(any(Adoption.class))).thenAnswer(i -> i.getArgument(0));
 
+        Adoption result = adoptionService.createAdoption(1L, 1L, "Notes");
+
+        assertEquals(result.getAdoptionDate().minusDays(4), result.getReviewPriorityDate());
+    }
+
+    @Test
+    @DisplayName("Review priority boosts are capped")
+    void reviewPriorityDate_CapsTheBoost() {
+        LocalDateTime applied = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+        assertEquals(applied, AdoptionService.reviewPriorityDate(applied, 0, 0));
+        assertEquals(applied.minusDays(11), AdoptionService.reviewPriorityDate(applied, 50, 50));
+    }
+
+    @Test
+    @DisplayName("Review queue uses the first-page query without a cursor and the keyset query after one")
+    void getReviewQueue_PicksTheQuery() {
+        LocalDateTime after = LocalDateTime.of(2026, 6, 1, 12, 0);
+        when(adoptionRepository.findByStatusOrderByReviewPriorityDateAscIdAsc(eq(AdoptionStatus.PENDING), any()))
+                .thenReturn(List.of(testAdoption));
+        when(adoptionRepository.findReviewQueueAfter(eq(AdoptionStatus.PENDING), eq(after), eq(5L), any()))
+                .thenReturn(List.of());
+
+        assertEquals(1, adoptionService.getReviewQueue(null, 10).size());
+        assertEquals(0, adoptionService.getReviewQueue(new DateIdCursor(after, 5L), 10).size());
+    }
+
+    @Test
+    @DisplayName("Approve adoption applies one guarded update and reads the result back")
+    void approveAdoption_Success() {
+        testAdoption.setStatus(AdoptionStatus.APPROVED);
+        when(transitionRepository.apply(eq(AdoptionTransition.APPROVE), eq(1L), eq(2L), isNull(), isNull(), any()))
+                .thenReturn(true);
+        when(adoptionRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testAdoption));
+
         Adoption result = adoptionService.approveAdoption(1L, adminUser);
 
         assertEquals(AdoptionStatus.APPROVED, result.getStatus());
-        assertEquals(adminUser, result.getProcessedByAdmin());
-        assertNotNull(result.getApprovedDate());
-
-        verify(catService).updateCatStatus(testCat.getId(), CatStatus.PENDING);
-        verify(adoptionRepository).save(testAdoption);
+        verify(adoptionRepository, never()).save(any());
+        verify(adoptionRepository, never()).findById(anyLong());
+        verifyNoInteractions(catService, eventPublisher, anonymousAdoptionService);
     }
 
     @Test
-    @DisplayName("Approve adoption fails on wrong status")
+    @DisplayName("Approve adoption fails with a conflict on wrong status")
     void approveAdoption_WrongStatus() {
         testAdoption.setStatus(AdoptionStatus.COMPLETED);
+        when(transitionRepository.apply(eq(AdoptionTransition.APPROVE), eq(1L), eq(2L), isNull(), isNull(), any()))
+                .thenReturn(false);
         when(adoptionRepository.findById(1L)).thenReturn(Optional.of(testAdoption));
 
-        RuntimeException ex = assertThrows(RuntimeException.class,
+        InvalidAdoptionTransitionException ex = assertThrows(InvalidAdoptionTransitionException.class,
                 () -> adoptionService.approveAdoption(1L, adminUser));
 
-        assertTrue(ex.getMessage().contains("Adoption must be PENDING to be transitioned to APPROVED"));
+        assertTrue(ex.getMessage().contains("Adoption is COMPLETED"));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Complete adoption success")
-    void completeAdoption_Success() {
+    @DisplayName("Complete adoption fails with a conflict when the cat is no longer reserved")
+    void completeAdoption_CatNotReserved() {
         testAdoption.setStatus(AdoptionStatus.APPROVED);
+        testCat.setStatus(CatStatus.AVAILABLE);
+        when(transitionRepository.apply(eq(AdoptionTransition.COMPLETE), eq(1L), eq(2L), isNull(), isNull(), any()))
+                .thenReturn(false);
         when(adoptionRepository.findById(1L)).thenReturn(Optional.of(testAdoption));
-        when(adoptionRepository.save(any(Adoption.class))).thenAnswer(i -> i.getArgument(0));
+
+        InvalidAdoptionTransitionException ex = assertThrows(InvalidAdoptionTransitionException.class,
+                () -> adoptionService.completeAdoption(1L, adminUser));
+
+        assertTrue(ex.getMessage().contains("Cat is AVAILABLE"));
+        verifyNoInteractions(eventPublisher, anonymousAdoptionService);
+    }
+
+    @Test
+    @DisplayName("Approve adoption fails with not found for a missing adoption")
+    void approveAdoption_NotFound() {
+        when(transitionRepository.apply(any(), anyLong(), any(), any(), any(), any())).thenReturn(false);
+        when(adoptionRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> adoptionService.approveAdoption(9L, adminUser));
+    }
+
+    @Test
+    @DisplayName("Complete adoption publishes the cat status the update left")
+    void completeAdoption_Success() {
+        testAdoption.setStatus(AdoptionStatus.COMPLETED);
+        testCat.setStatus(CatStatus.ADOPTED);
+        when(transitionRepository.apply(eq(AdoptionTransition.COMPLETE), eq(1L), eq(2L), isNull(), isNull(), any()))
+                .thenReturn(true);
+        when(adoptionRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testAdoption));
 
         Adoption result = adoptionService.completeAdoption(1L, adminUser);
 
         assertEquals(AdoptionStatus.COMPLETED, result.getStatus());
-        assertEquals(adminUser, result.getProcessedByAdmin());
-        assertNotNull(result.getCompletedDate());
-
-        verify(catService).updateCatStatus(testCat.getId(), CatStatus.ADOPTED);
-        verify(adoptionRepository).save(testAdoption);
+        ArgumentCaptor<CatChangedEvent> event = ArgumentCaptor.forClass(CatChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getCatId());
+        assertEquals(CatStatus.ADOPTED, event.getValue().getStatus());
+        verify(anonymousAdoptionService).record(1L);
+        verifyNoInteractions(catService);
     }
 
     @Test
-    @DisplayName("Reject adoption success")
+    @DisplayName("Reject adoption passes the reason as admin notes")
     void rejectAdoption_Success() {
-        testAdoption.setStatus(AdoptionStatus.PENDING);
-        when(adoptionRepository.findById(1L)).thenReturn(Optional.of(testAdoption));
-        when(adoptionRepository.save(any(Adoption.class))).thenAnswer(i -> i.getArgument(0));
+        testAdoption.setStatus(AdoptionStatus.REJECTED);
+        when(transitionRepository.apply(eq(AdoptionTransition.REJECT), eq(1L), eq(2L), isNull(), eq("Reason"), any()))
+                .thenReturn(true);
+        when(adoptionRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testAdoption));
 
         Adoption result = adoptionService.rejectAdoption(1L, adminUser, "Reason");
 
         assertEquals(AdoptionStatus.REJECTED, result.getStatus());
-        assertEquals(adminUser, result.getProcessedByAdmin());
-        assertEquals("Reason", result.getAdminNotes());
+        verify(eventPublisher).publishEvent(any(CatChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Cancel adoption is restricted to the adopter's own applications")
+    void cancelAdoption_ByAdopter() {
+        testAdoption.setStatus(AdoptionStatus.CANCELLED);
+        when(transitionRepository.apply(eq(AdoptionTransition.CANCEL), eq(1L), isNull(), eq(1L), isNull(), any()))
+                .thenReturn(true);
+        when(adoptionRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testAdoption));
+
+        Adoption result = adoptionService.cancelAdoption(1L, testUser);
 
-        verify(catService).updateCatStatus(testCat.getId(), CatStatus.AVAILABLE);
-        verify(adoptionRepository).save(testAdoption);
+        assertEquals(AdoptionStatus.CANCELLED, result.getStatus());
+        verify(eventPublisher).publishEvent(any(CatChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Cancel adoption by an admin is not restricted to an owner")
+    void cancelAdoption_ByAdmin() {
+        adminUser.setRole(UserRole.ADMIN);
+        when(transitionRepository.apply(eq(AdoptionTransition.CANCEL), eq(1L), isNull(), isNull(), isNull(), any()))
+                .thenReturn(true);
+        when(adoptionRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testAdoption));
+
+        adoptionService.cancelAdoption(1L, adminUser);
+
+        verify(transitionRepository).apply(eq(AdoptionTransition.CANCEL), eq(1L), isNull(), isNull(), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("Cancel adoption of another user's application reports not found")
+    void cancelAdoption_OtherUsersAdoption() {
+        User otherUser = new User();
+        otherUser.setId(3L);
+        when(transitionRepository.apply(eq(AdoptionTransition.CANCEL), eq(1L), isNull(), eq(3L), isNull(), any()))
+                .thenReturn(false);
+        when(adoptionRepository.findById(1L)).thenReturn(Optional.of(testAdoption));
+
+        assertThrows(ResourceNotFoundException.class, () -> adoptionService.cancelAdoption(1L, otherUser));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Cancel adoption of a completed application is a conflict")
+    void cancelAdoption_AlreadyCompleted() {
+        testAdoption.setStatus(AdoptionStatus.COMPLETED);
+        when(transitionRepository.apply(eq(AdoptionTransition.CANCEL), eq(1L), isNull(), eq(1L), isNull(), any()))
+                .thenReturn(false);
+        when(adoptionRepository.findById(1L)).thenReturn(Optional.of(testAdoption));
+
+        assertThrows(InvalidAdoptionTransitionException.class, () -> adoptionService.cancelAdoption(1L, testUser));
     }
 
     @Test
@@ -251,21 +411,25 @@ class AdoptionServiceTest {
     }
 
     @Test
-    @DisplayName("Get anonymous adoption data maps correctly")
-    void getAnonymousAdoptionData_Success() {
-        testAdoption.setStatus(AdoptionStatus.COMPLETED);
-        testAdoption.setAdoptionDate(LocalDateTime.of(2023, 1, 1, 12, 0));
-        when(adoptionRepository.findAll()).thenReturn(List.of(testAdoption));
-
-        List<AnonymousAdoptionData> result = adoptionService.getAnonymousAdoptionData();
+    @DisplayName("Anonymous adoption data is streamed from the export query")
+    void streamAnonymousAdoptionData_Success() {
+        DateIdCursor after = new DateIdCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 4L);
+        DateIdCursor end = new DateIdCursor(LocalDateTime.of(2024, 2, 1, 0, 0), 9L);
+        AnonymousAdoptionData row = AnonymousAdoptionData.builder().catBreed("Persian").status("COMPLETED").build();
+        doAnswer(invocation -> {
+            Consumer<AnonymousAdoptionData> consumer = invocation.getArgument(2);
+            consumer.accept(row);
+            return null;
+        }).when(anonymousAdoptionRepository).forEachCompleted(eq(after), eq(end), any());
+
+        List<AnonymousAdoptionData> result = new ArrayList<>();
+        adoptionService.streamAnonymousAdoptionData(after, end, result::add);
+
+        assertEquals(List.of(row), result);
+        verify(adoptionRepository, never()).findAll();
+    }
 
-        assertEquals(1, result.size());
-        AnonymousAdoptionData data = result.get(0);
-        assertEquals(testAdoption.getAdoptionDate(), data.getAdoptionDate());
-        assertEquals("Unknown", data.getCatBreed());
-        assertEquals(testCat.getAge(), data.getCatAge());
-        assertEquals("Region", data.getLocationRegion());
-        assertEquals("COMPLETED", data.getStatus());
-        assertEquals(testAdoption.getTenantId(), data.getTenantId());
+    private CatDto catDto(CatStatus status) {
+        return CatDto.builder().id(1L).name("Fluffy").status(status).build();
     }
 }
@@ -0,0 +1,74 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.repository.AdoptionRepository;
+import io.werescuecats.backend.repository.AnonymousAdoptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnonymousAdoptionServiceTest {
+
+    @Mock
+    private AdoptionRepository adoptionRepository;
+
+    @Mock
+    private AnonymousAdoptionRepository anonymousAdoptionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnonymousAdoptionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AnonymousAdoptionService(adoptionRepository, anonymousAdoptionRepository,
+                new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Test
+    void record_ShouldCopyTheAdoption() {
+        service.record(3L);
+
+        verify(anonymousAdoptionRepository).copyCompleted(List.of(3L));
+        verifyNoInteractions(adoptionRepository);
+    }
+
+    @Test
+    void backfill_ShouldCopyMissingAdoptionsInKeysetBatches() {
+        when(adoptionRepository.findCompletedIdsWithoutAnonymousCopy(eq(0L), any(Limit.class))).thenReturn(List.of(1L, 4L));
+        when(adoptionRepository.findCompletedIdsWithoutAnonymousCopy(eq(4L), any(Limit.class))).thenReturn(List.of(6L));
+        when(adoptionRepository.findCompletedIdsWithoutAnonymousCopy(eq(6L), any(Limit.class))).thenReturn(List.of());
+
+        int copied = service.backfill();
+
+        assertThat(copied).isEqualTo(3);
+        InOrder inOrder = inOrder(anonymousAdoptionRepository);
+        inOrder.verify(anonymousAdoptionRepository).copyCompleted(List.of(1L, 4L));
+        inOrder.verify(anonymousAdoptionRepository).copyCompleted(List.of(6L));
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(adoptionRepository, times(3)).findCompletedIdsWithoutAnonymousCopy(anyLong(), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(2);
+    }
+
+    @Test
+    void backfill_ShouldDoNothingWhenEverythingIsCopied() {
+        when(adoptionRepository.findCompletedIdsWithoutAnonymousCopy(eq(0L), any(Limit.class))).thenReturn(List.of());
+
+        assertThat(service.backfill()).isZero();
+        verifyNoInteractions(anonymousAdoptionRepository);
+    }
+}
@@ -0,0 +1,96 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.repository.BreedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BreedCatalogTest {
+
+    @Mock
+    private BreedRepository breedRepository;
+
+    @InjectMocks
+    private BreedCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        when(breedRepository.findAll()).thenReturn(List.of(
+            breed("siam", "Siamese", "Thailand", 4, 5, 5),
+            breed("pers", "Persian", "Iran (Persia)", 5, 2, 1),
+            breed("beng", "Bengal", "United States", 4, 5, 5),
+            breed("mcoo", "Maine Coon", "United States", 4, null, 3)));
+    }
+
+    @Test
+    void filter_ShouldApplyMinimumsExactEnergyAndOriginSubstring() {
+        assertThat(catalog.filter(5, null, null, null)).extracting(Breed::getId).containsExactly("pers");
+        assertThat(catalog.filter(4, 4, 5, null)).extracting(Breed::getId).containsExactly("beng", "siam");
+        assertThat(catalog.filter(null, null, null, "united")).extracting(Breed::getId).containsExactly("beng", "mcoo");
+        // A breed without a value never satisfies a filter on it
+        assertThat(catalog.filter(null, 1, null, "states")).extracting(Breed::getId).containsExactly("beng");
+    }
+
+    @Test
+    void findByName_ShouldMatchIgnoringCase() {
+        assertThat(catalog.findByName("COON")).extracting(Breed::getId).containsExactly("mcoo");
+    }
+
+    @Test
+    void queries_ShouldLoadOnceAndServeFromMemory() {
+        catalog.getAll();
+        catalog.getById("siam");
+        catalog.filter(4, null, null, null);
+
+        verify(breedRepository, times(1)).findAll();
+        verifyNoMoreInteractions(breedRepository);
+    }
+
+    @Test
+    void onBreedsChanged_ShouldSwapInANewSnapshot() {
+        List<Breed> before = catalog.getAll();
+        Breed renamed = breed("pers", "Persian Longhair", "Iran (Persia)", 3, 2, 1);
+        Breed added = breed("sphy", "Sphynx", "Canada", 4, 5, 5);
+
+        catalog.onBreedsChanged(new BreedsChangedEvent(List.of(renamed, added)));
+
+        assertThat(catalog.getById("pers")).get().extracting(Breed::getName).isEqualTo("Persian Longhair");
+        assertThat(catalog.filter(5, null, null, null)).isEmpty();
+        assertThat(catalog.filter(null, null, null, "canada")).extracting(Breed::getId).containsExactly("sphy");
+        // Readers holding the old snapshot are unaffected
+        assertThat(before).extracting(Breed::getName).contains("Persian").doesNotContain("Sphynx");
+        assertThat(catalog.getById("pers").get()).isNotSameAs(renamed);
+    }
+
+    @Test
+    void onBreedsChanged_ShouldMoveTheETagOnlyWithTheSwap() {
+        catalog.getAll();
+        String etag = catalog.getETag();
+        assertThat(catalog.getETag()).isEqualTo(etag);
+
+        catalog.onBreedsChanged(new BreedsChangedEvent(List.of(breed("sphy", "Sphynx", "Canada", 4, 5, 5))));
+
+        assertThat(catalog.getETag()).isNotEqualTo(etag);
+        assertThat(catalog.getById("sphy")).isPresent();
+    }
+
+    private static Breed breed(String id, String name, String origin, Integer childFriendly, Integer dogFriendly, Integer energyLevel) {
+        Breed breed = new Breed(id, name);
+        breed.setOrigin(origin);
+        breed.setChildFriendly(childFriendly);
+        breed.setDogFriendly(dogFriendly);
+        breed.setEnergyLevel(energyLevel);
+        return breed;
+    }
+}
@@ -0,0 +1,95 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.config.CatApiConfig;
+import io.werescuecats.backend.dto.CatImageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BreedImagePoolTest {
+
+    @Mock
+    private CatApiConfig config;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private BreedImagePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new BreedImagePool(config, restTemplate, 3, 2);
+        when(config.getApiKey()).thenReturn("api-key");
+        when(config.getBaseUrl()).thenReturn("http://catapi.com");
+    }
+
+    @Test
+    void take_ShouldServeBatchFromOneCall() {
+        stubImages("http://catapi.com/images/search?limit=3&breed_ids=persian",
+                "http://img.com/1.jpg", "http://img.com/2.jpg", "http://img.com/3.jpg");
+
+        assertThat(pool.take("persian")).isEqualTo("http://img.com/1.jpg");
+        assertThat(pool.take("persian")).isEqualTo("http://img.com/2.jpg");
+        assertThat(pool.take("persian")).isEqualTo("http://img.com/3.jpg");
+        assertThat(pool.available("persian")).isZero();
+
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(CatImageDto[].class));
+    }
+
+    @Test
+    void take_ShouldReturnNull_WhenNoImagesFound() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(CatImageDto[].class)))
+                .thenReturn(ResponseEntity.ok(new CatImageDto[]{}));
+
+        assertThat(pool.take("persian")).isNull();
+    }
+
+    @Test
+    void take_ShouldThrowRuntimeException_WhenApiCallFails() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(CatImageDto[].class)))
+                .thenThrow(new RuntimeException("API failure"));
+
+        assertThatThrownBy(() -> pool.take("persian"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("API call failed");
+    }
+
+    @Test
+    void prefetch_ShouldCallOncePerDistinctBreedAndSurviveFailures() {
+        stubImages("http://catapi.com/images/search?limit=3&breed_ids=persian", "http://img.com/p.jpg");
+        stubImages("http://catapi.com/images/search?limit=3&breed_ids=siamese", "http://img.com/s.jpg");
+        when(restTemplate.exchange(eq("http://catapi.com/images/search?limit=3&breed_ids=bengal"),
+                eq(HttpMethod.GET), any(HttpEntity.class), eq(CatImageDto[].class)))
+                .thenThrow(new RuntimeException("API failure"));
+
+        pool.prefetch(List.of("persian", "siamese", "persian", "bengal", "siamese"));
+
+        assertThat(pool.poll("persian")).isEqualTo("http://img.com/p.jpg");
+        assertThat(pool.poll("siamese")).isEqualTo("http://img.com/s.jpg");
+        assertThat(pool.poll("bengal")).isNull();
+        verify(restTemplate, times(3)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(CatImageDto[].class));
+    }
+
+    private void stubImages(String url, String... imageUrls) {
+        CatImageDto[] images = new CatImageDto[imageUrls.length];
+        for (int i = 0; i < imageUrls.length; i++) {
+            images[i] = new CatImageDto("img" + i, imageUrls[i]);
+        }
+        when(restTemplate.exchange(eq(url), eq(HttpMethod.GET), any(HttpEntity.class), eq(CatImageDto[].class)))
+                .thenReturn(ResponseEntity.ok(images));
+    }
+}
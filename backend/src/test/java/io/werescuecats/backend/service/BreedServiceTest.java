@@ -3,6 +3,7 @@ package io.werescuecats.backend.service;
 import io.werescuecats.backend.config.CatApiConfig;
 import io.werescuecats.backend.dto.BreedDto;
 import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.event.BreedsChangedEvent;
 import io.werescuecats.backend.repository.BreedRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -37,6 +39,12 @@ class BreedServiceTest {
     @Mock
     private BreedRepository breedRepository;
 
+    @Mock
+    private BreedCatalog breedCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BreedService breedService;
 
@@ -75,6 +83,7 @@ class BreedServiceTest {
             eq(BreedDto[].class)
         );
         verify(breedRepository).saveAll(anyList());
+        verify(eventPublisher).publishEvent(any(BreedsChangedEvent.class));
     }
 
     @Test
@@ -122,17 +131,17 @@ class BreedServiceTest {
 
         List<Breed> breedList = Arrays.asList(breed1, breed2);
 
-        when(breedRepository.findAll()).thenReturn(breedList);
+        when(breedCatalog.getAll()).thenReturn(breedList);
 
         List<Breed> result = breedService.getAllBreeds();
 
         assertEquals(breedList, result);
-        verify(breedRepository).findAll();
+        verifyNoInteractions(breedRepository);
     }
 
     @Test
     void getBreedById_ExistingId_ReturnsBreed() {
-        when(breedRepository.findById("siam")).thenReturn(Optional.of(testBreed));
+        when(breedCatalog.getById("siam")).thenReturn(Optional.of(testBreed));
 
         Optional<Breed> result = breedService.getBreedById("siam");
 
@@ -142,7 +151,7 @@ class BreedServiceTest {
 
     @Test
     void getBreedById_NonExistingId_ReturnsEmpty() {
-        when(breedRepository.findById("nonexistent")).thenReturn(Optional.empty());
+        when(breedCatalog.getById("nonexistent")).thenReturn(Optional.empty());
 
         Optional<Breed> result = breedService.getBreedById("nonexistent");
 
@@ -150,77 +159,27 @@ class BreedServiceTest {
     }
 
     @Test
-    void searchBreeds_WithName_CallsCorrectRepository() {
+    void searchBreeds_WithName_SearchesNames() {
         List<Breed> expectedBreeds = Arrays.asList(testBreed);
-        when(breedRepository.findByNameContainingIgnoreCase("siamese"))
-            .thenReturn(expectedBreeds);
+        when(breedCatalog.findByName("siamese")).thenReturn(expectedBreeds);
 
-        List<Breed> result = breedService.searchBreeds("siamese", null, null, null, null);
+        List<Breed> result = breedService.searchBreeds(" siamese ", null, null, null, null);
 
         assertEquals(expectedBreeds, result);
-        verify(breedRepository).findByNameContainingIgnoreCase("siamese");
-        verify(breedRepository, never()).findBreedsWithFilters(any(), any(), any(), any());
+        verify(breedCatalog, never()).filter(any(), any(), any(), any());
+        verifyNoInteractions(breedRepository);
     }
 
     @Test
-    void searchBreeds_WithFilters_CallsCorrectRepository() {
+    void searchBreeds_WithFilters_FiltersCatalog() {
         List<Breed> expectedBreeds = Arrays.asList(testBreed);
-        when(breedRepository.findBreedsWithFilters(4, 3, null, null))
-            .thenReturn(expectedBreeds);
+        when(breedCatalog.filter(4, 3, null, null)).thenReturn(expectedBreeds);
 
         List<Breed> result = breedService.searchBreeds(null, 4, 3, null, null);
 
         assertEquals(expectedBreeds, result);
-        verify(breedRepository).findBreedsWithFilters(4, 3, null, null);
-        verify(breedRepository, never()).findByNameContainingIgnoreCase(any());
-    }
-
-    @Test
-    void onApplicationReady_EmptyDatabase_FetchesBreeds() {
-        when(config.getApiKey()).thenReturn("test-api-key");
-        when(config.getBaseUrl()).thenReturn("https://api.thecatapi.com/v1");
-        when(config.isFetchOnStartup()).thenReturn(true);
-
-        when(breedRepository.count()).thenReturn(0L);
-        BreedDto[] breedArray = {testBreedDto};
-        ResponseEntity<BreedDto[]> response = new ResponseEntity<>(breedArray, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(BreedDto[].class)))
-            .thenReturn(response);
-
-        breedService.onApplicationReady();
-
-        verify(breedRepository).count();
-        verify(restTemplate).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(BreedDto[].class));
-    }
-
-    @Test
-    void onApplicationReady_DatabaseHasBreeds_SkipsFetch() {
-        when(config.isFetchOnStartup()).thenReturn(true);
-
-        when(breedRepository.count()).thenReturn(67L);
-
-        breedService.onApplicationReady();
-
-        verify(breedRepository).count();
-        verify(restTemplate, never()).exchange(
-            anyString(),eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(BreedDto[].class)
-        );
-    }
-
-    @Test
-    void onApplicationReady_FetchDisabled_SkipsFetch() {
-        when(config.isFetchOnStartup()).thenReturn(false);
-
-        breedService.onApplicationReady();
-
-        verify(restTemplate, never()).exchange(
-            anyString(),eq(HttpMethod.GET),
-            any(HttpEntity.class),
-            eq(BreedDto[].class)
-        );
-        verify(breedRepository, never()).count();
+        verify(breedCatalog, never()).findByName(any());
+        verifyNoInteractions(breedRepository);
     }
 
     private BreedDto createTestBreedDto() {
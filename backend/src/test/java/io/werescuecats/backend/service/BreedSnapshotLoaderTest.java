@@ -0,0 +1,63 @@
+package io.werescuecats.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.repository.BreedBulkRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BreedSnapshotLoaderTest {
+
+    @Mock
+    private BreedBulkRepository breedBulkRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Real mapping and hashing; the catalog only carries the breed ETag here
+    private final BreedService breedService = new BreedService(null, null, null, new BreedCatalog(null), null);
+
+    @Test
+    void load_ShouldInsertTheBundledBreedsInOneBatch() {
+        BreedSnapshotLoader loader = new BreedSnapshotLoader(breedService, breedBulkRepository, new ObjectMapper(), eventPublisher);
+        String etagBefore = breedService.getBreedsETag();
+
+        int loaded = loader.load();
+
+        ArgumentCaptor<List<Breed>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(breedBulkRepository).insertBreeds(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(loaded).hasSizeGreaterThan(60);
+        assertThat(inserted.getValue()).extracting(Breed::getId).doesNotHaveDuplicates().contains("abys", "pers", "siam");
+        assertThat(inserted.getValue()).allSatisfy(breed -> {
+            assertThat(breed.getName()).isNotBlank();
+            assertThat(breed.getContentHash()).hasSize(64);
+        });
+        verify(eventPublisher).publishEvent(any(BreedsChangedEvent.class));
+        // Moves only once the catalog receives the event after commit
+        assertThat(breedService.getBreedsETag()).isEqualTo(etagBefore);
+    }
+
+    @Test
+    void load_ShouldFail_WhenSnapshotIsNotGzipped() {
+        BreedSnapshotLoader loader = new BreedSnapshotLoader(breedService, breedBulkRepository, new ObjectMapper(), eventPublisher,
+            new ByteArrayResource("[]".getBytes()));
+
+        assertThatThrownBy(loader::load).isInstanceOf(UncheckedIOException.class);
+        verifyNoInteractions(breedBulkRepository);
+    }
+}
@@ -0,0 +1,181 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.BreedDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.SyncWatermark;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.repository.BreedHashProjection;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.SyncWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BreedSyncServiceTest {
+
+    @Mock
+    private BreedService breedService;
+
+    @Mock
+    private BreedSnapshotLoader snapshotLoader;
+
+    @Mock
+    private BreedRepository breedRepository;
+
+    @Mock
+    private SyncWatermarkRepository watermarkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BreedSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new BreedSyncService(breedService, snapshotLoader, breedRepository, watermarkRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, true, 2);
+        lenient().when(watermarkRepository.findById(BreedSyncService.SOURCE)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void sync_ShouldWriteOnlyChangedAndNewBreedsInBatches() {
+        BreedDto persian = apiBreed("pers", "Persian");
+        BreedDto siamese = apiBreed("siam", "Siamese");
+        BreedDto bengal = apiBreed("beng", "Bengal");
+        BreedDto sphynx = apiBreed("sphy", "Sphynx");
+        when(breedService.fetchApiBreeds()).thenReturn(List.of(persian, siamese, bengal, sphynx));
+        when(breedRepository.findContentHashes()).thenReturn(List.of(
+            hash("pers", BreedService.contentHash(persian)),
+            hash("siam", "outdated"),
+            hash("beng", "outdated")));
+        Breed storedSiamese = new Breed("siam", "Siamese");
+        Breed storedBengal = new Breed("beng", "Bengal");
+        when(breedRepository.findAllById(List.of("siam", "beng"))).thenReturn(List.of(storedSiamese, storedBengal));
+        when(breedRepository.findAllById(List.of("sphy"))).thenReturn(List.of());
+
+        BreedSyncService.Result result = syncService.sync();
+
+        assertThat(result).isEqualTo(new BreedSyncService.Result(4, 1, 2));
+        verify(transactionManager, times(2)).commit(any());
+        verify(breedService).mapApiBreedToEntity(siamese, storedSiamese);
+        verify(breedService).mapApiBreedToEntity(bengal, storedBengal);
+        verify(breedService, never()).mapApiBreedToEntity(eq(persian), any());
+
+        ArgumentCaptor<List<Breed>> created = ArgumentCaptor.forClass(List.class);
+        verify(breedRepository, times(2)).saveAll(created.capture());
+        assertThat(created.getAllValues().get(1)).extracting(Breed::getId).containsExactly("sphy");
+
+        ArgumentCaptor<BreedsChangedEvent> events = ArgumentCaptor.forClass(BreedsChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).flatExtracting(BreedsChangedEvent::getBreeds)
+            .extracting(Breed::getId).containsExactly("siam", "beng", "sphy");
+    }
+
+    @Test
+    void sync_ShouldOnlyRecordWatermark_WhenNothingChanged() {
+        BreedDto persian = apiBreed("pers", "Persian");
+        when(breedService.fetchApiBreeds()).thenReturn(List.of(persian));
+        when(breedRepository.findContentHashes()).thenReturn(List.of(hash("pers", BreedService.contentHash(persian))));
+
+        BreedSyncService.Result result = syncService.sync();
+
+        assertThat(result.changed()).isZero();
+        verify(breedRepository, never()).findAllById(any());
+        verifyNoInteractions(eventPublisher);
+
+        ArgumentCaptor<SyncWatermark> watermark = ArgumentCaptor.forClass(SyncWatermark.class);
+        verify(watermarkRepository).save(watermark.capture());
+        assertThat(watermark.getValue().getItemCount()).isEqualTo(1);
+        assertThat(watermark.getValue().getLastSyncedAt()).isNotNull();
+        assertThat(watermark.getValue().getLastChangedAt()).isNull();
+    }
+
+    @Test
+    void scheduledSync_ShouldSwallowApiFailures() {
+        when(breedService.fetchApiBreeds()).thenThrow(new RuntimeException("API call failed"));
+
+        syncService.scheduledSync();
+
+        verifyNoInteractions(breedRepository, watermarkRepository);
+    }
+
+    @Test
+    void seedIfEmpty_EmptyDatabase_LoadsSnapshot() {
+        when(breedRepository.count()).thenReturn(0L);
+
+        syncService.seedIfEmpty();
+
+        verify(snapshotLoader).load();
+        verify(breedService, never()).fetchApiBreeds();
+    }
+
+    @Test
+    void seedIfEmpty_DatabaseHasBreeds_SkipsSnapshot() {
+        when(breedRepository.count()).thenReturn(67L);
+
+        syncService.seedIfEmpty();
+
+        verifyNoInteractions(snapshotLoader);
+        verify(breedService, never()).fetchApiBreeds();
+    }
+
+    @Test
+    void seedIfEmpty_ShouldFetchLive_WhenSnapshotCannotBeLoaded() {
+        when(breedRepository.count()).thenReturn(0L);
+        when(snapshotLoader.load()).thenThrow(new IllegalStateException("corrupt snapshot"));
+        when(breedService.fetchApiBreeds()).thenReturn(List.of());
+
+        syncService.seedIfEmpty();
+
+        verify(breedService).fetchApiBreeds();
+    }
+
+    @Test
+    void contentHash_ShouldChangeWithAnyCopiedField() {
+        BreedDto breed = apiBreed("pers", "Persian");
+        String before = BreedService.contentHash(breed);
+
+        breed.setGrooming(3);
+
+        assertThat(BreedService.contentHash(breed)).isNotEqualTo(before).hasSize(64);
+    }
+
+    private static BreedDto apiBreed(String id, String name) {
+        BreedDto dto = new BreedDto();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setChildFriendly(4);
+        return dto;
+    }
+
+    private static BreedHashProjection hash(String id, String contentHash) {
+        return new BreedHashProjection() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+        };
+    }
+}
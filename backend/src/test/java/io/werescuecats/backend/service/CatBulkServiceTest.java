@@ -0,0 +1,172 @@
+package io.werescuecats.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.werescuecats.backend.dto.BulkResultDto;
+import io.werescuecats.backend.dto.BulkRowResultDto;
+import io.werescuecats.backend.dto.BulkRowResultDto.Outcome;
+import io.werescuecats.backend.dto.BulkStatusChangeDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.CatBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatBulkServiceTest {
+
+    @Mock
+    private CatBulkRepository catBulkRepository;
+
+    @Mock
+    private BreedRepository breedRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CatBulkService(catBulkRepository, breedRepository, new TransactionTemplate(transactionManager),
+                eventPublisher, new ObjectMapper(), 2);
+    }
+
+    @Test
+    void parseCsvLine_ShouldHandleQuotedCommasAndEscapedQuotes() {
+        assertThat(CatBulkService.parseCsvLine("Luna,\"Calm, \"\"sweet\"\" cat\",,persian"))
+                .containsExactly("Luna", "Calm, \"sweet\" cat", "", "persian");
+        assertThatThrownBy(() -> CatBulkService.parseCsvLine("Luna,\"open"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void importCsv_ShouldRejectBadRowsAndWriteTheRestInBatches() {
+        givenBreeds();
+        givenGeneratedIds();
+        String csv = """
+                name,age,breedId,imageUrl,status
+                Luna,2,persian,,available
+                ,3,persian,,
+                Oliver,x,persian,,
+                Shadow,4,unknown,,
+                Mia,1,persian,http://img.com/mia.jpg,
+                Leo,5,persian,,ADOPTED
+                """;
+
+        BulkResultDto result = service.importCsv(stream(csv));
+
+        assertThat(result.getProcessed()).isEqualTo(6);
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getRows()).filteredOn(row -> row.getOutcome() == Outcome.REJECTED)
+                .extracting(BulkRowResultDto::getRow).containsExactly(3, 4, 5);
+        assertThat(result.getRows()).filteredOn(row -> row.getOutcome() == Outcome.CREATED)
+                .extracting(BulkRowResultDto::getCatId).containsExactly(100L, 101L, 102L);
+        // Batch size 2: Luna + Mia, then Leo
+        verify(catBulkRepository, times(2)).insertCats(anyList());
+
+        ArgumentCaptor<List<Cat>> withoutImage = ArgumentCaptor.forClass(List.class);
+        verify(catBulkRepository, times(2)).insertImageTasks(withoutImage.capture(), any());
+        assertThat(withoutImage.getAllValues()).flatExtracting(cats -> cats.stream().map(Cat::getName).toList())
+                .containsExactly("Luna", "Leo");
+        verify(eventPublisher, times(3)).publishEvent(any(CatChangedEvent.class));
+    }
+
+    @Test
+    void importCsv_ShouldRejectUnknownColumns() {
+        givenBreeds();
+
+        assertThatThrownBy(() -> service.importCsv(stream("name,breedId,colour\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("colour");
+        verifyNoInteractions(catBulkRepository);
+    }
+
+    @Test
+    void importNdjson_ShouldReportMalformedLines() {
+        givenBreeds();
+        givenGeneratedIds();
+        String ndjson = """
+                {"name":"Luna","breedId":"persian","latitude":51.05,"longitude":13.73}
+                {"name":"Broken",
+                {"name":"Far","breedId":"persian","latitude":91.0}
+                """;
+
+        BulkResultDto result = service.importNdjson(stream(ndjson));
+
+        assertThat(result.getRows()).extracting(BulkRowResultDto::getOutcome)
+                .containsExactly(Outcome.REJECTED, Outcome.REJECTED, Outcome.CREATED);
+        assertThat(result.getRows().get(1).getError()).contains("Latitude");
+    }
+
+    @Test
+    void importCsv_ShouldMarkRowsFailedWhenBatchWriteFails() {
+        givenBreeds();
+        when(catBulkRepository.insertCats(anyList())).thenThrow(new RuntimeException("Deadlock"));
+
+        BulkResultDto result = service.importCsv(stream("name,breedId\nLuna,persian\n"));
+
+        assertThat(result.getRows()).extracting(BulkRowResultDto::getOutcome).containsExactly(Outcome.FAILED);
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateStatuses_ShouldUpdateExistingAndReportMissing() {
+        when(catBulkRepository.findExistingIds(List.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(catBulkRepository.findExistingIds(List.of(3L))).thenReturn(Set.of(3L));
+
+        BulkResultDto result = service.updateStatuses(List.of(
+                new BulkStatusChangeDto(1L, CatStatus.ADOPTED),
+                new BulkStatusChangeDto(2L, CatStatus.ADOPTED),
+                new BulkStatusChangeDto(3L, CatStatus.PENDING),
+                new BulkStatusChangeDto(null, CatStatus.PENDING)));
+
+        assertThat(result.getRows()).extracting(BulkRowResultDto::getOutcome)
+                .containsExactly(Outcome.UPDATED, Outcome.NOT_FOUND, Outcome.REJECTED, Outcome.UPDATED);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        verify(catBulkRepository).updateStatuses(eq(List.of(1L)), eq(List.of(CatStatus.ADOPTED)), any());
+        verify(catBulkRepository).updateStatuses(eq(List.of(3L)), eq(List.of(CatStatus.PENDING)), any());
+        verify(eventPublisher, times(2)).publishEvent(any(CatChangedEvent.class));
+    }
+
+    private void givenBreeds() {
+        when(breedRepository.findAll()).thenReturn(List.of(new Breed("persian", "Persian")));
+    }
+
+    private void givenGeneratedIds() {
+        AtomicLong nextId = new AtomicLong(100);
+        when(catBulkRepository.insertCats(anyList())).thenAnswer(invocation -> {
+            List<Cat> cats = invocation.getArgument(0);
+            return cats.stream().map(cat -> nextId.getAndIncrement()).toList();
+        });
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.CatalogCacheStatsDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.CatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatCatalogCacheTest {
+
+    @Mock
+    private CatRepository catRepository;
+
+    @InjectMocks
+    private CatCatalogCache cache;
+
+    private Breed persian;
+
+    @BeforeEach
+    void setUp() {
+        persian = new Breed("persian", "Persian");
+    }
+
+    @Test
+    void getAvailable_ShouldLoadOnceAndServeFromMemory() {
+        when(catRepository.findAllDtos()).thenReturn(List.of(
+            dto(1L, CatStatus.AVAILABLE), dto(2L, CatStatus.ADOPTED), dto(3L, CatStatus.AVAILABLE)));
+
+        List<CatDto> first = cache.getAvailable();
+        List<CatDto> second = cache.getAvailable();
+
+        assertThat(first).extracting(CatDto::getId).containsExactly(1L, 3L);
+        assertThat(second).isSameAs(first);
+        verify(catRepository, times(1)).findAllDtos();
+    }
+
+    @Test
+    void onCatChanged_ShouldApplyStatusDeltaAndBumpVersion() {
+        when(catRepository.findAllDtos()).thenReturn(List.of(dto(1L, CatStatus.AVAILABLE)));
+        long before = cache.getVersion();
+        String etagBefore = cache.getETag();
+
+        cache.onCatChanged(CatChangedEvent.statusChanged(1L, CatStatus.PENDING));
+
+        assertThat(cache.getVersion()).isGreaterThan(before);
+        assertThat(cache.getETag()).isNotEqualTo(etagBefore);
+        assertThat(cache.getAvailable()).isEmpty();
+        assertThat(cache.getById(1L)).get().extracting(CatDto::getStatus).isEqualTo(CatStatus.PENDING);
+        assertThat(cache.getByBreed("persian")).hasSize(1);
+    }
+
+    @Test
+    void onCatChanged_ShouldInsertNewCats() {
+        when(catRepository.findAllDtos()).thenReturn(List.of());
+        assertThat(cache.getAvailable()).isEmpty();
+
+        cache.onCatChanged(CatChangedEvent.saved(cat(5L, CatStatus.AVAILABLE)));
+
+        assertThat(cache.getAvailable()).extracting(CatDto::getId).containsExactly(5L);
+        assertThat(cache.getByBreed("persian")).extracting(CatDto::getBreedName).containsExactly("Persian");
+    }
+
+    @Test
+    void getById_ShouldCountMissesAndReadThrough() {
+        when(catRepository.findAllDtos()).thenReturn(List.of());
+        when(catRepository.findDtoById(7L)).thenReturn(Optional.of(dto(7L, CatStatus.AVAILABLE)));
+        when(catRepository.findDtoById(8L)).thenReturn(Optional.empty());
+
+        assertThat(cache.getById(7L)).isPresent();
+        assertThat(cache.getById(7L)).isPresent();
+        assertThat(cache.getById(8L)).isEmpty();
+
+        CatalogCacheStatsDto stats = cache.getStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getSize()).isEqualTo(1);
+        verify(catRepository, times(1)).findDtoById(7L);
+    }
+
+    private Cat cat(Long id, CatStatus status) {
+        Cat cat = new Cat();
+        cat.setId(id);
+        cat.setName("Cat " + id);
+        cat.setBreed(persian);
+        cat.setStatus(status);
+        return cat;
+    }
+
+    private CatDto dto(Long id, CatStatus status) {
+        return CatDto.fromEntity(cat(id, status));
+    }
+}
@@ -0,0 +1,147 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.BreedsChangedEvent;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.CatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatFacetIndexTest {
+
+    @Mock
+    private CatRepository catRepository;
+
+    @Mock
+    private BreedRepository breedRepository;
+
+    @InjectMocks
+    private CatFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Breed persian = new Breed("persian", "Persian");
+        persian.setChildFriendly(5);
+        persian.setGrooming(5);
+        Breed siamese = new Breed("siamese", "Siamese");
+        siamese.setChildFriendly(4);
+        siamese.setDogFriendly(5);
+        siamese.setEnergyLevel(5);
+
+        when(breedRepository.findAll()).thenReturn(List.of(persian, siamese));
+        when(catRepository.findAllDtos()).thenReturn(List.of(
+            dto(1L, "persian", "FEMALE", 1, CatStatus.AVAILABLE),
+            dto(2L, "siamese", "MALE", 3, CatStatus.AVAILABLE),
+            dto(3L, "siamese", "FEMALE", 9, CatStatus.AVAILABLE),
+            dto(4L, "persian", "MALE", 5, CatStatus.ADOPTED)));
+    }
+
+    @Test
+    void search_ShouldAndFacetsAndOrValuesWithinAFacet() {
+        CatFacetIndex.Result result = index.search(Map.of(
+            CatFacetIndex.STATUS, Set.of("available"),
+            CatFacetIndex.AGE_GROUP, Set.of("KITTEN", "SENIOR")), 0, 10);
+
+        assertThat(result.catIds()).containsExactly(1L, 3L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void search_ShouldReturnAnEmptyPage_WhenThePageIsPastTheEnd() {
+        CatFacetIndex.Result beyond = index.search(Map.of(), 1, 10);
+        CatFacetIndex.Result overflowing = index.search(Map.of(), Integer.MAX_VALUE / 2, 10);
+
+        assertThat(beyond.catIds()).isEmpty();
+        assertThat(overflowing.catIds()).isEmpty();
+        assertThat(overflowing.total()).isEqualTo(4);
+    }
+
+    @Test
+    void search_ShouldRequireEverySelectedTrait() {
+        CatFacetIndex.Result result = index.search(Map.of(
+            CatFacetIndex.TRAITS, Set.of("goodWithKids", "goodWithDogs")), 0, 10);
+
+        assertThat(result.catIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void search_ShouldCountOtherValuesOfASelectedFacet() {
+        CatFacetIndex.Result result = index.search(Map.of(
+            CatFacetIndex.STATUS, Set.of("AVAILABLE"),
+            CatFacetIndex.BREED, Set.of("siamese")), 0, 10);
+
+        assertThat(result.catIds()).containsExactly(2L, 3L);
+        // Breed counts ignore the breed filter but respect the status filter
+        assertThat(result.counts().get(CatFacetIndex.BREED)).containsEntry("persian", 1).containsEntry("siamese", 2);
+        assertThat(result.counts().get(CatFacetIndex.STATUS)).containsEntry("AVAILABLE", 2).doesNotContainKey("ADOPTED");
+        assertThat(result.counts().get(CatFacetIndex.GENDER)).containsEntry("MALE", 1).containsEntry("FEMALE", 1);
+    }
+
+    @Test
+    void search_ShouldPageInCatalogOrder() {
+        CatFacetIndex.Result result = index.search(Map.of(), 1, 3);
+
+        assertThat(result.catIds()).containsExactly(4L);
+        assertThat(result.total()).isEqualTo(4);
+    }
+
+    @Test
+    void search_ShouldHideOtherStatusesFromResultsAndCounts_WhenAvailableOnly() {
+        CatFacetIndex.Result result = index.search(Map.of(CatFacetIndex.STATUS, Set.of("ADOPTED", "PENDING")), true, 0, 10);
+
+        assertThat(result.catIds()).isEmpty();
+        assertThat(result.counts().get(CatFacetIndex.STATUS)).containsOnlyKeys("AVAILABLE");
+        assertThat(index.search(Map.of(), true, 0, 10).total()).isEqualTo(3);
+    }
+
+    @Test
+    void onCatChanged_ShouldMoveCatBetweenStatusBitsets() {
+        Map<String, Set<String>> available = Map.of(CatFacetIndex.STATUS, Set.of("AVAILABLE"));
+        assertThat(index.search(available, 0, 10).total()).isEqualTo(3);
+
+        index.onCatChanged(CatChangedEvent.statusChanged(2L, CatStatus.PENDING));
+
+        CatFacetIndex.Result result = index.search(available, 0, 10);
+        assertThat(result.catIds()).containsExactly(1L, 3L);
+        assertThat(index.search(Map.of(CatFacetIndex.STATUS, Set.of("PENDING")), 0, 10).catIds()).containsExactly(2L);
+        verify(catRepository, times(1)).findAllDtos();
+    }
+
+    @Test
+    void onBreedsChanged_ShouldRederiveTraitsOfThatBreedsCats() {
+        index.search(Map.of(), 0, 10);
+        Breed persian = new Breed("persian", "Persian");
+        persian.setDogFriendly(5);
+
+        index.onBreedsChanged(new BreedsChangedEvent(List.of(persian)));
+
+        CatFacetIndex.Result result = index.search(Map.of(CatFacetIndex.TRAITS, Set.of("goodWithDogs")), 0, 10);
+        assertThat(result.catIds()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(result.counts().get(CatFacetIndex.TRAITS)).doesNotContainKey("lowMaintenance");
+    }
+
+    private static CatDto dto(Long id, String breedId, String gender, Integer age, CatStatus status) {
+        return CatDto.builder()
+            .id(id)
+            .breedId(breedId)
+            .gender(gender)
+            .age(age)
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,140 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.CatLocationProjection;
+import io.werescuecats.backend.repository.CatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatGeoIndexTest {
+
+    // Dresden city centre
+    private static final double LAT = 51.0504;
+    private static final double LON = 13.7373;
+
+    @Mock
+    private CatRepository catRepository;
+
+    private CatGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CatGeoIndex(catRepository, 0.05);
+    }
+
+    @Test
+    void distanceKm_ShouldMatchKnownDistance() {
+        // Dresden to Berlin is roughly 165 km
+        double distance = CatGeoIndex.distanceKm(LAT, LON, 52.5200, 13.4050);
+
+        assertThat(distance).isCloseTo(165.0, within(3.0));
+    }
+
+    @Test
+    void findWithinRadius_ShouldFilterByTrueDistanceAndSortNearestFirst() {
+        when(catRepository.findAllLocations()).thenReturn(List.of(
+            location(1L, LAT + 0.05, LON, CatStatus.AVAILABLE),          // ~5.6 km north
+            location(2L, LAT, LON, CatStatus.AVAILABLE),                 // at the centre
+            location(3L, LAT + 0.085, LON + 0.135, CatStatus.AVAILABLE), // inside the bounding box corner, ~13 km away
+            location(4L, LAT + 0.01, LON, CatStatus.ADOPTED)));
+
+        List<CatGeoIndex.Hit> hits = index.findWithinRadius(LAT, LON, 10.0);
+
+        assertThat(hits).extracting(CatGeoIndex.Hit::catId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).distanceKm()).isZero();
+    }
+
+    @Test
+    void findNearest_ShouldAgreeWithBruteForce() {
+        Random random = new Random(42);
+        List<CatLocationProjection> locations = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            locations.add(location(id, LAT + random.nextGaussian() * 0.2, LON + random.nextGaussian() * 0.2,
+                random.nextInt(10) < 8 ? CatStatus.AVAILABLE : CatStatus.ADOPTED));
+        }
+        when(catRepository.findAllLocations()).thenReturn(locations);
+
+        List<Long> expected = locations.stream()
+            .filter(l -> l.getStatus() == CatStatus.AVAILABLE)
+            .sorted(Comparator.comparingDouble(l -> CatGeoIndex.distanceKm(LAT, LON, l.getLatitude(), l.getLongitude())))
+            .limit(7)
+            .map(CatLocationProjection::getId)
+            .toList();
+
+        List<CatGeoIndex.Hit> hits = index.findNearest(LAT, LON, 7);
+
+        assertThat(hits).extracting(CatGeoIndex.Hit::catId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findNearest_ShouldReturnAllWhenFewerThanK() {
+        when(catRepository.findAllLocations()).thenReturn(List.of(
+            location(1L, LAT, LON, CatStatus.AVAILABLE),
+            location(2L, -33.86, 151.2, CatStatus.AVAILABLE)));
+
+        List<CatGeoIndex.Hit> hits = index.findNearest(LAT, LON, 5);
+
+        assertThat(hits).extracting(CatGeoIndex.Hit::catId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void onCatChanged_ShouldTrackStatusAndLocationChanges() {
+        when(catRepository.findAllLocations()).thenReturn(List.of(location(1L, LAT, LON, CatStatus.AVAILABLE)));
+        assertThat(index.findWithinRadius(LAT, LON, 1.0)).hasSize(1);
+
+        index.onCatChanged(CatChangedEvent.statusChanged(1L, CatStatus.PENDING));
+        assertThat(index.findWithinRadius(LAT, LON, 1.0)).isEmpty();
+
+        index.onCatChanged(CatChangedEvent.statusChanged(1L, CatStatus.AVAILABLE));
+        assertThat(index.findWithinRadius(LAT, LON, 1.0)).hasSize(1);
+
+        Cat moved = new Cat();
+        moved.setId(1L);
+        moved.setLatitude(LAT + 1.0);
+        moved.setLongitude(LON);
+        moved.setStatus(CatStatus.AVAILABLE);
+        index.onCatChanged(CatChangedEvent.saved(moved));
+        assertThat(index.findWithinRadius(LAT, LON, 1.0)).isEmpty();
+        assertThat(index.findWithinRadius(LAT + 1.0, LON, 1.0)).hasSize(1);
+
+        verify(catRepository, times(1)).findAllLocations();
+    }
+
+    @Test
+    void onCatChanged_ShouldBeIgnoredBeforeFirstLoad() {
+        Cat cat = new Cat();
+        cat.setId(9L);
+        cat.setLatitude(LAT);
+        cat.setLongitude(LON);
+        cat.setStatus(CatStatus.AVAILABLE);
+        index.onCatChanged(CatChangedEvent.saved(cat));
+
+        when(catRepository.findAllLocations()).thenReturn(List.of());
+
+        assertThat(index.findWithinRadius(LAT, LON, 1.0)).isEmpty();
+    }
+
+    private static CatLocationProjection location(Long id, double latitude, double longitude, CatStatus status) {
+        return new CatLocationProjection() {
+            public Long getId() { return id; }
+            public Double getLatitude() { return latitude; }
+            public Double getLongitude() { return longitude; }
+            public CatStatus getStatus() { return status; }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.ImageResolutionTask;
+import io.werescuecats.backend.entity.ImageTaskStatus;
+import io.werescuecats.backend.repository.ImageResolutionTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatImageResolverTest {
+
+    @Mock
+    private ImageResolutionTaskRepository taskRepository;
+
+    @Mock
+    private CatService catService;
+
+    private CatImageResolver resolver;
+
+    private ImageResolutionTask task;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new CatImageResolver(taskRepository, catService, 20, 3,
+                Duration.ofSeconds(10), Duration.ofSeconds(30));
+        task = new ImageResolutionTask(1L, "persian");
+    }
+
+    @Test
+    void resolveDueTasks_ShouldApplyImageAndDeleteTask() {
+        when(taskRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                eq(ImageTaskStatus.PENDING), any(LocalDateTime.class), any())).thenReturn(List.of(task));
+        when(catService.fetchImageUrlForSpecificBreed("persian")).thenReturn("http://img.com/cat.jpg");
+        when(catService.applyResolvedImageUrl(1L, "http://img.com/cat.jpg")).thenReturn(true);
+
+        resolver.resolveDueTasks();
+
+        verify(catService).applyResolvedImageUrl(1L, "http://img.com/cat.jpg");
+        verify(taskRepository).delete(task);
+    }
+
+    @Test
+    void resolve_ShouldDeleteTaskWhenBreedHasNoImages() {
+        when(catService.fetchImageUrlForSpecificBreed("persian")).thenReturn(null);
+
+        resolver.resolve(task);
+
+        verify(catService, never()).applyResolvedImageUrl(anyLong(), anyString());
+        verify(taskRepository).delete(task);
+    }
+
+    @Test
+    void resolve_ShouldBackOffWhenApiFails() {
+        when(catService.fetchImageUrlForSpecificBreed("persian")).thenThrow(new RuntimeException("API call failed"));
+        LocalDateTime before = LocalDateTime.now();
+
+        resolver.resolve(task);
+
+        assertThat(task.getAttempts()).isEqualTo(1);
+        assertThat(task.getStatus()).isEqualTo(ImageTaskStatus.PENDING);
+        assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(10));
+        assertThat(task.getLastError()).isEqualTo("API call failed");
+        verify(taskRepository).save(task);
+        verify(taskRepository, never()).delete(any());
+    }
+
+    @Test
+    void resolve_ShouldGiveUpAfterMaxAttempts() {
+        task.setAttempts(2);
+        when(catService.fetchImageUrlForSpecificBreed("persian")).thenThrow(new RuntimeException("API call failed"));
+
+        resolver.resolve(task);
+
+        assertThat(task.getStatus()).isEqualTo(ImageTaskStatus.FAILED);
+        verify(taskRepository).save(task);
+    }
+
+    @Test
+    void backoff_ShouldDoubleUpToCap() {
+        assertThat(resolver.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(resolver.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(resolver.backoff(3)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(resolver.backoff(40)).isEqualTo(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,125 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.CatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatRecommenderTest {
+
+    @Mock
+    private CatCatalogCache catCatalogCache;
+
+    @Mock
+    private BreedCatalog breedCatalog;
+
+    @InjectMocks
+    private CatRecommender recommender;
+
+    private List<Breed> breeds;
+
+    @BeforeEach
+    void setUp() {
+        Breed persian = new Breed("persian", "Persian");
+        persian.setChildFriendly(5);
+        persian.setEnergyLevel(1);
+        Breed bengal = new Breed("bengal", "Bengal");
+        bengal.setChildFriendly(3);
+        bengal.setEnergyLevel(5);
+        breeds = List.of(persian, bengal);
+        lenient().when(breedCatalog.getAll()).thenReturn(breeds);
+    }
+
+    @Test
+    void recommend_ShouldRankByTraitsThenAgeAndGender() {
+        when(catCatalogCache.getAvailable()).thenReturn(List.of(
+            cat(1L, "bengal", 1, "Female", null, null),
+            cat(2L, "persian", 9, "Male", null, null),
+            cat(3L, "persian", 1, "Female", null, null)));
+
+        List<CatDto> result = recommender.recommend(preferences(5, 1, "kitten", "female", null, null, null), 10);
+
+        assertThat(result).extracting(CatDto::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void recommend_ShouldDropCatsBeyondMaxDistanceAndPreferCloserOnes() {
+        when(catCatalogCache.getAvailable()).thenReturn(List.of(
+            cat(1L, "persian", 2, "Male", 51.05, 13.74),
+            cat(2L, "persian", 2, "Male", 51.30, 13.74),
+            cat(3L, "persian", 2, "Male", 52.52, 13.40),
+            cat(4L, "persian", 2, "Male", null, null)));
+
+        List<CatDto> result = recommender.recommend(preferences(null, null, null, null, 51.05, 13.74, 50.0), 10);
+
+        assertThat(result).extracting(CatDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void recommend_ShouldKeepCatsJustInsideMaxDistanceDueNorth() {
+        // 0.4495 degrees of latitude is about 49.98 km on the haversine sphere
+        when(catCatalogCache.getAvailable()).thenReturn(List.of(cat(1L, "persian", 2, "Male", 51.05 + 0.4495, 13.74)));
+
+        List<CatDto> result = recommender.recommend(preferences(null, null, null, null, 51.05, 13.74, 50.0), 10);
+
+        assertThat(result).extracting(CatDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    void recommend_ShouldKeepOnlyTopKWithNewestFirstOnTies() {
+        List<CatDto> cats = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            cats.add(cat(id, id % 2 == 0 ? "persian" : "bengal", 2, "Male", null, null));
+        }
+        when(catCatalogCache.getAvailable()).thenReturn(cats);
+
+        List<CatDto> result = recommender.recommend(preferences(5, null, null, null, null, null, null), 3);
+
+        assertThat(result).extracting(CatDto::getId).containsExactly(1000L, 998L, 996L);
+    }
+
+    @Test
+    void breedVectors_ShouldBeComputedOncePerCatalogSnapshot() {
+        when(catCatalogCache.getAvailable()).thenReturn(List.of(cat(1L, "persian", 2, "Male", null, null)));
+        CatRecommender.Preferences preferences = preferences(5, null, null, null, null, null, null);
+
+        recommender.recommend(preferences, 5);
+        recommender.recommend(preferences, 5);
+
+        verify(breedCatalog, times(2)).getAll();
+        assertThat(CatRecommender.traitScore(CatRecommender.vectorOf(breeds.get(1)), new Integer[] {5, null, 5, null, null}))
+            .isCloseTo(0.75, within(1e-6));
+    }
+
+    private static CatRecommender.Preferences preferences(Integer childFriendly, Integer energyLevel, String ageGroup,
+                                                          String gender, Double latitude, Double longitude, Double maxDistanceKm) {
+        return new CatRecommender.Preferences(childFriendly, null, energyLevel, null, null, ageGroup, gender,
+            latitude, longitude, maxDistanceKm);
+    }
+
+    private static CatDto cat(Long id, String breedId, Integer age, String gender, Double latitude, Double longitude) {
+        return CatDto.builder()
+            .id(id)
+            .name("Cat " + id)
+            .breedId(breedId)
+            .age(age)
+            .gender(gender)
+            .latitude(latitude)
+            .longitude(longitude)
+            .status(CatStatus.AVAILABLE)
+            .build();
+    }
+}
@@ -0,0 +1,117 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.entity.Breed;
+import io.werescuecats.backend.entity.Cat;
+import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
+import io.werescuecats.backend.repository.CatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatSearchIndexTest {
+
+    @Mock
+    private CatRepository catRepository;
+
+    @InjectMocks
+    private CatSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(catRepository.findAllDtos()).thenReturn(List.of(
+            dto(1L, "Luna", "Persian", "Neustadt, Dresden", "Calm lap cat who loves the sofa", CatStatus.AVAILABLE),
+            dto(2L, "Oliver", "Siamese", "Altstadt, Dresden", "Talkative and curious, gets along with Luna", CatStatus.AVAILABLE),
+            dto(3L, "Shadow", "Persian", "Pieschen, Dresden", "Shy but very affectionate", CatStatus.ADOPTED)));
+    }
+
+    @Test
+    void tokenize_ShouldFoldCaseAndDiacriticsAndDropStopWords() {
+        assertThat(CatSearchIndex.tokenize("The Café in Löbtau, Dresden!"))
+            .containsExactly("cafe", "lobtau", "dresden");
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        List<CatSearchIndex.Hit> hits = index.search("luna", null, 10).hits();
+
+        assertThat(hits).extracting(CatSearchIndex.Hit::catId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldRequireEveryTermAndMatchLastTermAsPrefix() {
+        assertThat(index.search("persian dres", null, 10).hits())
+            .extracting(CatSearchIndex.Hit::catId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("persian siamese", null, 10).hits()).isEmpty();
+        assertThat(index.search("the", null, 10).hits()).isEmpty();
+    }
+
+    @Test
+    void search_ShouldFilterByStatusAndLimit() {
+        assertThat(index.search("persian", CatStatus.AVAILABLE, 10).hits())
+            .extracting(CatSearchIndex.Hit::catId).containsExactly(1L);
+        assertThat(index.search("dresden", null, 2).hits()).hasSize(2);
+    }
+
+    @Test
+    void search_ShouldKeepMostFrequentPrefixExpansionsAndReportTruncation() {
+        List<CatDto> cats = new ArrayList<>();
+        for (long id = 1; id <= CatSearchIndex.MAX_PREFIX_EXPANSIONS + 1; id++) {
+            cats.add(dto(id, "Pa" + id, "Persian", "Dresden", null, CatStatus.AVAILABLE));
+        }
+        cats.add(dto(100L, "Pazz", "Persian", "Dresden", null, CatStatus.AVAILABLE));
+        cats.add(dto(101L, "Pazz", "Persian", "Dresden", null, CatStatus.AVAILABLE));
+        when(catRepository.findAllDtos()).thenReturn(cats);
+
+        CatSearchIndex.Result result = index.search("pa", null, 100);
+
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.hits()).extracting(CatSearchIndex.Hit::catId).contains(100L, 101L);
+        assertThat(result.hits()).hasSize(CatSearchIndex.MAX_PREFIX_EXPANSIONS + 1);
+        assertThat(index.search("pazz", null, 100).truncated()).isFalse();
+    }
+
+    @Test
+    void onCatChanged_ShouldReindexIncrementally() {
+        assertThat(index.search("shadow", CatStatus.AVAILABLE, 10).hits()).isEmpty();
+
+        index.onCatChanged(CatChangedEvent.statusChanged(3L, CatStatus.AVAILABLE));
+        assertThat(index.search("shadow", CatStatus.AVAILABLE, 10).hits()).hasSize(1);
+
+        Cat renamed = new Cat();
+        renamed.setId(3L);
+        renamed.setName("Smokey");
+        renamed.setBreed(new Breed("persian", "Persian"));
+        renamed.setStatus(CatStatus.AVAILABLE);
+        index.onCatChanged(CatChangedEvent.saved(renamed));
+
+        assertThat(index.search("shadow", null, 10).hits()).isEmpty();
+        assertThat(index.search("smokey persian", null, 10).hits())
+            .extracting(CatSearchIndex.Hit::catId).containsExactly(3L);
+        verify(catRepository, times(1)).findAllDtos();
+    }
+
+    private static CatDto dto(Long id, String name, String breedName, String address, String description, CatStatus status) {
+        return CatDto.builder()
+            .id(id)
+            .name(name)
+            .breedId(breedName.toLowerCase())
+            .breedName(breedName)
+            .address(address)
+            .description(description)
+            .status(status)
+            .build();
+    }
+}
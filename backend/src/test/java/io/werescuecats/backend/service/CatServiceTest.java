@@ -5,24 +5,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 
-import io.werescuecats.backend.config.CatApiConfig;
+import io.werescuecats.backend.dto.CatDto;
+import io.werescuecats.backend.dto.FacetSearchResultDto;
 import io.werescuecats.backend.entity.Breed;
 import io.werescuecats.backend.entity.Cat;
 import io.werescuecats.backend.entity.CatStatus;
+import io.werescuecats.backend.event.CatChangedEvent;
 import io.werescuecats.backend.repository.CatRepository;
+import io.werescuecats.backend.repository.ImageResolutionTaskRepository;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,10 +36,28 @@ class CatServiceTest {
     private CatRepository catRepository;
 
     @Mock
-    private CatApiConfig config;
+    private BreedImagePool breedImagePool;
 
     @Mock
-    private RestTemplate restTemplate;
+    private CatGeoIndex catGeoIndex;
+
+    @Mock
+    private CatCatalogCache catCatalogCache;
+
+    @Mock
+    private CatSearchIndex catSearchIndex;
+
+    @Mock
+    private CatFacetIndex catFacetIndex;
+
+    @Mock
+    private CatRecommender catRecommender;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ImageResolutionTaskRepository imageTaskRepository;
 
     @InjectMocks
     private CatService catService;
@@ -84,27 +102,26 @@ class CatServiceTest {
     @Test
     void getPendingCats_ShouldReturnPendingCats() {
         testCat.setStatus(CatStatus.PENDING);
-        List<Cat> expectedCats = Arrays.asList(testCat);
-        when(catRepository.findByStatus(CatStatus.PENDING)).thenReturn(expectedCats);
+        when(catRepository.findDtosByStatus(CatStatus.PENDING)).thenReturn(List.of(CatDto.fromEntity(testCat)));
 
-        List<Cat> result = catService.getPendingCats();
+        List<CatDto> result = catService.getPendingCats();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStatus()).isEqualTo(CatStatus.PENDING);
-        verify(catRepository).findByStatus(CatStatus.PENDING);
+        verify(catRepository).findDtosByStatus(CatStatus.PENDING);
+        verify(catRepository, never()).findByStatus(any());
     }
 
     @Test
     void getAdoptedCats_ShouldReturnAdoptedCats() {
         testCat.setStatus(CatStatus.ADOPTED);
-        List<Cat> expectedCats = Arrays.asList(testCat);
-        when(catRepository.findByStatus(CatStatus.ADOPTED)).thenReturn(expectedCats);
+        when(catRepository.findDtosByStatus(CatStatus.ADOPTED)).thenReturn(List.of(CatDto.fromEntity(testCat)));
 
-        List<Cat> result = catService.getAdoptedCats();
+        List<CatDto> result = catService.getAdoptedCats();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStatus()).isEqualTo(CatStatus.ADOPTED);
-        verify(catRepository).findByStatus(CatStatus.ADOPTED);
+        verify(catRepository).findDtosByStatus(CatStatus.ADOPTED);
     }
 
     @Test
@@ -141,28 +158,75 @@ class CatServiceTest {
     }
 
     @Test
-    void getCatsInArea_ShouldCalculateBoundingBoxAndReturnCats() {
-        Double latitude = 51.0504;
-        Double longitude = 13.7373;
-        Double radiusKm = 10.0;
-        List<Cat> expectedCats = Arrays.asList(testCat);
-        
-        when(catRepository.findCatsInArea(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(CatStatus.AVAILABLE)))
-            .thenReturn(expectedCats);
+    void getCatsInArea_ShouldReturnCatsInIndexOrder() {
+        CatDto nearCat = CatDto.fromEntity(testCat);
+        CatDto farCat = nearCat.toBuilder().id(2L).name("Shadow").build();
 
-        List<Cat> result = catService.getCatsInArea(latitude, longitude, radiusKm);
+        when(catGeoIndex.findWithinRadius(51.0504, 13.7373, 10.0)).thenReturn(List.of(
+            new CatGeoIndex.Hit(1L, 0.0),
+            new CatGeoIndex.Hit(2L, 4.2)));
+        when(catCatalogCache.getByIds(List.of(1L, 2L))).thenReturn(List.of(nearCat, farCat));
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getLatitude()).isEqualTo(latitude);
-        assertThat(result.get(0).getLongitude()).isEqualTo(longitude);
-        
-        verify(catRepository).findCatsInArea(
-            doubleThat(minLat -> minLat < latitude),
-            doubleThat(maxLat -> maxLat > latitude),
-            doubleThat(minLon -> minLon < longitude),
-            doubleThat(maxLon -> maxLon > longitude),
-            eq(CatStatus.AVAILABLE)
-        );
+        List<CatDto> result = catService.getCatsInArea(51.0504, 13.7373, 10.0);
+
+        assertThat(result).extracting(CatDto::getId).containsExactly(1L, 2L);
+        verifyNoInteractions(catRepository);
+    }
+
+    @Test
+    void getCatsInArea_ShouldSkipQueryWhenIndexHasNoHits() {
+        when(catGeoIndex.findWithinRadius(51.0504, 13.7373, 1.0)).thenReturn(List.of());
+
+        List<CatDto> result = catService.getCatsInArea(51.0504, 13.7373, 1.0);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(catCatalogCache);
+    }
+
+    @Test
+    void getNearestCats_ShouldDropCatsNoLongerAvailable() {
+        CatDto availableCat = CatDto.fromEntity(testCat);
+        CatDto pendingCat = availableCat.toBuilder().id(2L).status(CatStatus.PENDING).build();
+
+        when(catGeoIndex.findNearest(51.0504, 13.7373, 2)).thenReturn(List.of(
+            new CatGeoIndex.Hit(2L, 0.5),
+            new CatGeoIndex.Hit(1L, 1.0)));
+        when(catCatalogCache.getByIds(List.of(2L, 1L))).thenReturn(List.of(pendingCat, availableCat));
+
+        List<CatDto> result = catService.getNearestCats(51.0504, 13.7373, 2);
+
+        assertThat(result).extracting(CatDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    void searchCats_ShouldResolveHitsFromCatalogInRankOrder() {
+        CatDto first = CatDto.fromEntity(testCat);
+        CatDto second = first.toBuilder().id(2L).build();
+        when(catSearchIndex.search("fluffy", CatStatus.AVAILABLE, 5)).thenReturn(new CatSearchIndex.Result(List.of(
+            new CatSearchIndex.Hit(2L, 3.0f),
+            new CatSearchIndex.Hit(1L, 1.0f)), true));
+        when(catCatalogCache.getByIds(List.of(2L, 1L))).thenReturn(List.of(second, first));
+
+        CatService.SearchResult result = catService.searchCats("fluffy", CatStatus.AVAILABLE, 5);
+
+        assertThat(result.cats()).extracting(CatDto::getId).containsExactly(2L, 1L);
+        assertThat(result.truncated()).isTrue();
+        verifyNoInteractions(catRepository);
+    }
+
+    @Test
+    void facetSearch_ShouldResolvePageAndPassCountsThrough() {
+        Map<String, Set<String>> filters = Map.of(CatFacetIndex.STATUS, Set.of("AVAILABLE"));
+        Map<String, Map<String, Integer>> counts = Map.of(CatFacetIndex.STATUS, Map.of("AVAILABLE", 7));
+        CatDto dto = CatDto.fromEntity(testCat);
+        when(catFacetIndex.search(filters, false, 0, 1)).thenReturn(new CatFacetIndex.Result(List.of(1L), 7, counts));
+        when(catCatalogCache.getByIds(List.of(1L))).thenReturn(List.of(dto));
+
+        FacetSearchResultDto result = catService.facetSearch(filters, false, 0, 1);
+
+        assertThat(result.getContent()).containsExactly(dto);
+        assertThat(result.getTotal()).isEqualTo(7);
+        assertThat(result.getFacets()).isEqualTo(counts);
     }
 
     @Test
@@ -175,6 +239,7 @@ class CatServiceTest {
         assertThat(result.getStatus()).isEqualTo(CatStatus.ADOPTED);
         verify(catRepository).findById(1L);
         verify(catRepository).save(testCat);
+        verify(eventPublisher).publishEvent(any(CatChangedEvent.class));
     }
 
     @Test
@@ -189,6 +254,28 @@ class CatServiceTest {
         verify(catRepository, never()).save(any());
     }
 
+    @Test
+    void updateCatStatusIf_ShouldPublishTheChange_WhenTheConditionalUpdateWins() {
+        when(catRepository.updateStatusIfCurrent(eq(1L), eq(CatStatus.AVAILABLE), eq(CatStatus.PENDING), any()))
+            .thenReturn(1);
+
+        assertThat(catService.updateCatStatusIf(1L, CatStatus.AVAILABLE, CatStatus.PENDING)).isTrue();
+
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof CatChangedEvent changed && changed.getStatus() == CatStatus.PENDING && !changed.hasEntity()));
+        verify(catRepository, never()).save(any());
+    }
+
+    @Test
+    void updateCatStatusIf_ShouldReturnFalse_WhenTheCatNoLongerHasTheExpectedStatus() {
+        when(catRepository.updateStatusIfCurrent(eq(1L), eq(CatStatus.AVAILABLE), eq(CatStatus.PENDING), any()))
+            .thenReturn(0);
+
+        assertThat(catService.updateCatStatusIf(1L, CatStatus.AVAILABLE, CatStatus.PENDING)).isFalse();
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void getAllCats_ShouldReturnAllCats() {
         List<Cat> expectedCats = Arrays.asList(testCat);
@@ -202,72 +289,61 @@ class CatServiceTest {
     }
 
     @Test
-    void saveCat_ShouldFetchImageUrlAndSaveCat() {
-        String expectedImageUrl = "http://example.com/image.jpg";
-        // Mock fetchImageUrlForSpecificBreed so it doesn't actually call the API
-        CatService spyService = Mockito.spy(catService);
-        Mockito.doReturn(expectedImageUrl)
-               .when(spyService)
-               .fetchImageUrlForSpecificBreed("persian");
-
+    void saveCat_ShouldSaveWithoutImageAndQueueLookup() {
         when(catRepository.save(testCat)).thenReturn(testCat);
 
-        Cat result = spyService.saveCat(testCat);
+        Cat result = catService.saveCat(testCat);
 
         assertThat(result).isEqualTo(testCat);
-        assertThat(result.getImageUrl()).isEqualTo("http://example.com/image.jpg");
+        assertThat(result.getImageUrl()).isNull();
         verify(catRepository).save(testCat);
+        verify(imageTaskRepository).save(argThat(task ->
+                task.getCatId().equals(1L) && task.getBreedId().equals("persian")));
+        verifyNoInteractions(breedImagePool);
     }
 
     @Test
-    void fetchImageUrlForSpecificBreed_ShouldReturnImageUrl_WhenImagesFound() {
-        when(config.getApiKey()).thenReturn("api-key");
-        when(config.getBaseUrl()).thenReturn("http://catapi.com");
+    void saveCat_ShouldKeepProvidedImageUrl() {
+        testCat.setImageUrl("http://example.com/own.jpg");
+        when(catRepository.save(testCat)).thenReturn(testCat);
 
-        Map<String, Object> imageData = Map.of("url", "http://img.com/cat.jpg");
-        Map[] images = new Map[]{imageData};
+        Cat result = catService.saveCat(testCat);
 
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                eq(Map[].class)
-        )).thenReturn(ResponseEntity.ok(images));
+        assertThat(result.getImageUrl()).isEqualTo("http://example.com/own.jpg");
+        verifyNoInteractions(imageTaskRepository);
+    }
 
-        String url = catService.fetchImageUrlForSpecificBreed("persian");
+    @Test
+    void applyResolvedImageUrl_ShouldNotOverwriteExistingImage() {
+        testCat.setImageUrl("http://example.com/own.jpg");
+        when(catRepository.findById(1L)).thenReturn(Optional.of(testCat));
 
-        assertThat(url).isEqualTo("http://img.com/cat.jpg");
+        boolean applied = catService.applyResolvedImageUrl(1L, "http://example.com/breed.jpg");
+
+        assertThat(applied).isFalse();
+        assertThat(testCat.getImageUrl()).isEqualTo("http://example.com/own.jpg");
+        verify(catRepository, never()).save(any());
     }
 
     @Test
-    void fetchImageUrlForSpecificBreed_ShouldReturnNull_WhenNoImagesFound() {
-        when(config.getApiKey()).thenReturn("api-key");
-        when(config.getBaseUrl()).thenReturn("http://catapi.com");
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                eq(Map[].class)
-        )).thenReturn(ResponseEntity.ok(new Map[]{}));
+    void applyResolvedImageUrl_ShouldSetImageAndPublishChange() {
+        when(catRepository.findById(1L)).thenReturn(Optional.of(testCat));
+        when(catRepository.save(testCat)).thenReturn(testCat);
 
-        String url = catService.fetchImageUrlForSpecificBreed("persian");
+        boolean applied = catService.applyResolvedImageUrl(1L, "http://example.com/breed.jpg");
 
-        assertThat(url).isNull();
+        assertThat(applied).isTrue();
+        assertThat(testCat.getImageUrl()).isEqualTo("http://example.com/breed.jpg");
+        verify(eventPublisher).publishEvent(any(CatChangedEvent.class));
     }
 
     @Test
-    void fetchImageUrlForSpecificBreed_ShouldThrowRuntimeException_WhenApiCallFails() {
-        when(config.getApiKey()).thenReturn("api-key");
-        when(config.getBaseUrl()).thenReturn("http://catapi.com");
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                eq(Map[].class)
-        )).thenThrow(new RuntimeException("API failure"));
-
-        assertThatThrownBy(() -> catService.fetchImageUrlForSpecificBreed("persian"))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("API call failed");
+    void fetchImageUrlForSpecificBreed_ShouldDrawFromBreedImagePool() {
+        when(breedImagePool.take("persian")).thenReturn("http://img.com/cat.jpg");
+
+        String url = catService.fetchImageUrlForSpecificBreed("persian");
+
+        assertThat(url).isEqualTo("http://img.com/cat.jpg");
+        verify(breedImagePool).take("persian");
     }
 }
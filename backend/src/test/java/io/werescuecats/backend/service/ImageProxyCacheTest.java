@@ -0,0 +1,244 @@
+package io.werescuecats.backend.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.werescuecats.backend.exception.InvalidImageUrlException;
+import io.werescuecats.backend.exception.ResourceNotFoundException;
+import io.werescuecats.backend.exception.UpstreamUnavailableException;
+import io.werescuecats.backend.service.ImageProxyCache.CachedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProxyCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer origin;
+    private final Map<String, byte[]> images = new ConcurrentHashMap<>();
+    private final Map<String, String> redirects = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private volatile CountDownLatch slowResponses = new CountDownLatch(0);
+
+    @BeforeEach
+    void startOrigin() throws IOException {
+        origin = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        origin.setExecutor(Executors.newCachedThreadPool());
+        origin.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requests.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+            try {
+                slowResponses.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String location = redirects.get(path);
+            if (location != null) {
+                exchange.getResponseHeaders().set("Location", location);
+                exchange.sendResponseHeaders(302, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = images.get(path);
+            if (body == null) {
+                exchange.sendResponseHeaders(path.startsWith("/broken") ? 500 : 404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", path.endsWith(".html") ? "text/html" : "image/jpeg");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        origin.start();
+    }
+
+    @AfterEach
+    void stopOrigin() {
+        origin.stop(0);
+    }
+
+    @Test
+    void get_ShouldFetchEachImageOnceAndServeItFromDisk() throws IOException {
+        images.put("/images/luna.jpg", bytes(1000, 1));
+        ImageProxyCache cache = cache(10_000);
+
+        CachedImage first = cache.get(url("/images/luna.jpg"));
+        CachedImage second = cache.get(url("/images/luna.jpg"));
+
+        assertThat(requests.get("/images/luna.jpg").get()).isEqualTo(1);
+        assertThat(second.file()).isEqualTo(first.file());
+        assertThat(Files.readAllBytes(first.file())).isEqualTo(images.get("/images/luna.jpg"));
+        assertThat(first.contentType()).isEqualTo("image/jpeg");
+        assertThat(first.size()).isEqualTo(1000);
+        assertThat(first.contentHash()).hasSize(64);
+    }
+
+    @Test
+    void get_ShouldStoreIdenticalImagesFromDifferentUrlsOnce() {
+        images.put("/images/a.jpg", bytes(1000, 7));
+        images.put("/images/b.jpg", bytes(1000, 7));
+        ImageProxyCache cache = cache(10_000);
+
+        CachedImage a = cache.get(url("/images/a.jpg"));
+        CachedImage b = cache.get(url("/images/b.jpg"));
+
+        assertThat(b.file()).isEqualTo(a.file());
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getTotalBytes()).isEqualTo(1000);
+    }
+
+    @Test
+    void get_ShouldShareOneFetchBetweenConcurrentMisses() throws Exception {
+        images.put("/images/mia.jpg", bytes(500, 3));
+        ImageProxyCache cache = cache(10_000);
+        slowResponses = new CountDownLatch(1);
+
+        List<Future<CachedImage>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get(url("/images/mia.jpg"))));
+            }
+            Thread.sleep(200);
+            slowResponses.countDown();
+            for (Future<CachedImage> result : results) {
+                assertThat(result.get().size()).isEqualTo(500);
+            }
+        }
+        assertThat(requests.get("/images/mia.jpg").get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyServedImagesWhenOverTheLimit() throws InterruptedException {
+        for (String name : List.of("a", "b", "c")) {
+            images.put("/images/" + name + ".jpg", bytes(400, name.charAt(0)));
+        }
+        ImageProxyCache cache = cache(1000);
+
+        CachedImage a = cache.get(url("/images/a.jpg"));
+        Thread.sleep(5);
+        CachedImage b = cache.get(url("/images/b.jpg"));
+        Thread.sleep(5);
+        cache.get(url("/images/a.jpg"));
+        Thread.sleep(5);
+        cache.get(url("/images/c.jpg"));
+
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(900);
+        assertThat(Files.exists(a.file())).isTrue();
+        // Evicted, but a response that already holds its path can still send it
+        assertThat(Files.exists(b.file())).isTrue();
+        cache.get(url("/images/a.jpg"));
+        cache.get(url("/images/b.jpg"));
+        assertThat(requests.get("/images/a.jpg").get()).isEqualTo(1);
+        assertThat(requests.get("/images/b.jpg").get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldReuseImagesCachedBeforeARestart() {
+        images.put("/images/leo.jpg", bytes(800, 5));
+        cache(10_000).get(url("/images/leo.jpg"));
+
+        ImageProxyCache restarted = cache(10_000);
+        CachedImage image = restarted.get(url("/images/leo.jpg"));
+
+        assertThat(requests.get("/images/leo.jpg").get()).isEqualTo(1);
+        assertThat(image.size()).isEqualTo(800);
+        assertThat(restarted.getTotalBytes()).isEqualTo(800);
+    }
+
+    @Test
+    void get_ShouldRejectUrlsOutsideTheAllowedHosts() {
+        ImageProxyCache cache = cache(10_000);
+
+        assertThatThrownBy(() -> cache.get("http://169.254.169.254/latest/meta-data"))
+                .isInstanceOf(InvalidImageUrlException.class);
+        assertThatThrownBy(() -> cache.get("file:///etc/passwd"))
+                .isInstanceOf(InvalidImageUrlException.class);
+        assertThatThrownBy(() -> cache.get("not a url"))
+                .isInstanceOf(InvalidImageUrlException.class);
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void get_ShouldOnlyAcceptHttpsByDefault() {
+        ImageProxyCache cache = new ImageProxyCache(ImageProxyCache.imageClient(Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                cacheDir, 10_000, 2000, List.of("127.0.0.1"), Set.of("https"));
+
+        assertThatThrownBy(() -> cache.get(url("/images/luna.jpg"))).isInstanceOf(InvalidImageUrlException.class);
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void get_ShouldFollowRedirectsOnlyToAllowedHosts() {
+        images.put("/images/moved.jpg", bytes(300, 2));
+        redirects.put("/images/old.jpg", "/images/moved.jpg");
+        redirects.put("/images/escape.jpg", "http://169.254.169.254/latest/meta-data");
+        redirects.put("/images/loop.jpg", "/images/loop.jpg");
+        ImageProxyCache cache = cache(10_000);
+
+        assertThat(cache.get(url("/images/old.jpg")).size()).isEqualTo(300);
+        assertThatThrownBy(() -> cache.get(url("/images/escape.jpg"))).isInstanceOf(InvalidImageUrlException.class);
+        assertThatThrownBy(() -> cache.get(url("/images/loop.jpg"))).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(requests.get("/images/loop.jpg").get()).isEqualTo(ImageProxyCache.MAX_REDIRECTS + 1);
+    }
+
+    @Test
+    void get_ShouldRejectResponsesThatAreNotImagesOrTooLarge() {
+        images.put("/page.html", bytes(10, 1));
+        images.put("/images/huge.jpg", bytes(5000, 1));
+        ImageProxyCache cache = cache(10_000);
+
+        assertThatThrownBy(() -> cache.get(url("/page.html"))).isInstanceOf(InvalidImageUrlException.class);
+        assertThatThrownBy(() -> cache.get(url("/images/huge.jpg"))).isInstanceOf(InvalidImageUrlException.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cacheDir.resolve("tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    void get_ShouldMapOriginErrors() {
+        ImageProxyCache cache = cache(10_000);
+
+        assertThatThrownBy(() -> cache.get(url("/images/missing.jpg"))).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> cache.get(url("/broken.jpg"))).isInstanceOf(UpstreamUnavailableException.class);
+    }
+
+    private ImageProxyCache cache(long maxCacheBytes) {
+        // The test origin speaks plain http
+        return new ImageProxyCache(ImageProxyCache.imageClient(Duration.ofSeconds(1), Duration.ofSeconds(5)), cacheDir,
+                maxCacheBytes, 2000, List.of("127.0.0.1"), Set.of("http"));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + origin.getAddress().getPort() + path;
+    }
+
+    private static byte[] bytes(int size, int seed) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (seed * 31 + i);
+        }
+        return bytes;
+    }
+}
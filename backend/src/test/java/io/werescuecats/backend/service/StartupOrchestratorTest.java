@@ -0,0 +1,112 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.dto.StartupStageDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupOrchestratorTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void start_ShouldRunIndependentStagesInParallelAndBecomeReady() throws Exception {
+        // Both stages wait for each other, which only works if they run at the same time
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable meet = () -> {
+            bothStarted.countDown();
+            try {
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        StringBuilder order = new StringBuilder();
+        StartupOrchestrator orchestrator = new StartupOrchestrator(List.of(
+            new StartupStage("a", List.of(), true, meet),
+            new StartupStage("b", List.of(), true, meet),
+            new StartupStage("c", List.of("a", "b"), true, () -> order.append("c"))), eventPublisher);
+
+        orchestrator.start().get(5, TimeUnit.SECONDS);
+
+        assertThat(order).hasToString("c");
+        assertThat(orchestrator.isReady()).isTrue();
+        assertThat(orchestrator.getReport().getStages()).extracting(StartupStageDto::getStatus)
+            .containsOnly("SUCCEEDED");
+        ArgumentCaptor<AvailabilityChangeEvent> event = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    void start_ShouldSkipDependentsOfAFailedStageAndStayNotReady() throws Exception {
+        StartupOrchestrator orchestrator = new StartupOrchestrator(List.of(
+            new StartupStage("breeds", List.of(), true, () -> {
+                throw new IllegalStateException("Database down");
+            }),
+            new StartupStage("sample-data", List.of("breeds"), true, () -> {}),
+            new StartupStage("api-tokens", List.of(), true, () -> {})), eventPublisher);
+
+        orchestrator.start().get(5, TimeUnit.SECONDS);
+
+        Map<String, StartupStageDto> stages = orchestrator.getReport().getStages().stream()
+            .collect(Collectors.toMap(StartupStageDto::getName, Function.identity()));
+        assertThat(stages.get("breeds").getStatus()).isEqualTo("FAILED");
+        assertThat(stages.get("breeds").getError()).isEqualTo("Database down");
+        assertThat(stages.get("sample-data").getStatus()).isEqualTo("SKIPPED");
+        assertThat(stages.get("api-tokens").getStatus()).isEqualTo("SUCCEEDED");
+        assertThat(orchestrator.isReady()).isFalse();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void start_ShouldNotWaitForNonCriticalStages() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StartupOrchestrator orchestrator = new StartupOrchestrator(List.of(
+            new StartupStage("breeds", List.of(), true, () -> {}),
+            new StartupStage("breed-refresh", List.of("breeds"), false, () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            })), eventPublisher);
+
+        var done = orchestrator.start();
+
+        verify(eventPublisher, timeout(2000)).publishEvent(any(AvailabilityChangeEvent.class));
+        assertThat(orchestrator.isReady()).isTrue();
+        assertThat(done).isNotDone();
+        release.countDown();
+        done.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void onReadinessChanged_ShouldRefuseTrafficUntilReady() {
+        StartupOrchestrator orchestrator = new StartupOrchestrator(List.of(), eventPublisher);
+
+        orchestrator.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        ArgumentCaptor<AvailabilityChangeEvent> event = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+    }
+}
@@ -0,0 +1,180 @@
+package io.werescuecats.backend.service;
+
+import io.werescuecats.backend.entity.*;
+import io.werescuecats.backend.repository.BreedRepository;
+import io.werescuecats.backend.repository.CatBulkRepository;
+import io.werescuecats.backend.repository.SyntheticDataRepository;
+import io.werescuecats.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyntheticDataGeneratorTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BreedRepository breedRepository;
+
+    @Mock
+    private CatBulkRepository catBulkRepository;
+
+    @Mock
+    private SyntheticDataRepository syntheticDataRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Cat> cats = new ArrayList<>();
+    private final List<Adoption> adoptions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(breedRepository.findAll()).thenReturn(List.of(breed("abys"), breed("beng"), breed("pers")));
+        lenient().when(passwordEncoder.encode("password123")).thenReturn("$2a$hash");
+
+        AtomicLong userIds = new AtomicLong(100);
+        lenient().when(syntheticDataRepository.insertUsers(anyList())).thenAnswer(invocation -> {
+            List<User> batch = invocation.getArgument(0);
+            users.addAll(batch);
+            return LongStream.range(0, batch.size()).mapToObj(i -> userIds.getAndIncrement()).toList();
+        });
+        AtomicLong catIds = new AtomicLong(1);
+        lenient().when(catBulkRepository.insertCats(anyList())).thenAnswer(invocation -> {
+            List<Cat> batch = invocation.getArgument(0);
+            cats.addAll(batch);
+            return LongStream.range(0, batch.size()).mapToObj(i -> catIds.getAndIncrement()).toList();
+        });
+        lenient().doAnswer(invocation -> adoptions.addAll(invocation.getArgument(0)))
+                .when(syntheticDataRepository).insertAdoptions(anyList());
+    }
+
+    @Test
+    void generate_ShouldWriteUsersAndCatsInBatchesWithOneSharedPasswordHash() {
+        SyntheticDataGenerator.Result result = generator(25, 500, 64, 7).generate();
+
+        assertThat(result.users()).isEqualTo(25);
+        assertThat(result.cats()).isEqualTo(500);
+        assertThat(result.adoptions()).isEqualTo(adoptions.size());
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(syntheticDataRepository, times(1)).insertUsers(anyList());
+        verify(catBulkRepository, times(8)).insertCats(anyList());
+
+        assertThat(users).extracting(User::getPasswordHash).containsOnly("$2a$hash");
+        assertThat(users).extracting(User::getEmail).doesNotHaveDuplicates()
+                .contains(SyntheticDataGenerator.email(0), SyntheticDataGenerator.email(24));
+        assertThat(users).allSatisfy(user -> assertThat(user.getPostalCode()).hasSize(5));
+    }
+
+    @Test
+    void generate_ShouldGiveEveryAdoptedOrReservedCatTheMatchingAdoption() {
+        generator(10, 1000, 100, 7).generate();
+
+        Map<Long, List<Adoption>> byCat = new HashMap<>();
+        adoptions.forEach(adoption -> byCat.computeIfAbsent(adoption.getCat().getId(), id -> new ArrayList<>()).add(adoption));
+        for (Cat cat : cats) {
+            List<Adoption> catAdoptions = byCat.getOrDefault(cat.getId(), List.of());
+            switch (cat.getStatus()) {
+                case ADOPTED -> assertThat(catAdoptions).singleElement()
+                        .satisfies(adoption -> {
+                            assertThat(adoption.getStatus()).isEqualTo(AdoptionStatus.COMPLETED);
+                            assertThat(adoption.getCompletedDate()).isAfterOrEqualTo(adoption.getApprovedDate());
+                        });
+                case PENDING -> assertThat(catAdoptions).singleElement()
+                        .extracting(Adoption::getStatus).isEqualTo(AdoptionStatus.APPROVED);
+                default -> assertThat(catAdoptions).hasSizeLessThanOrEqualTo(1)
+                        .allSatisfy(adoption -> assertThat(adoption.getStatus())
+                                .isIn(AdoptionStatus.PENDING, AdoptionStatus.REJECTED, AdoptionStatus.CANCELLED));
+            }
+        }
+        assertThat(adoptions).allSatisfy(adoption -> {
+            assertThat(adoption.getUser().getId()).isBetween(100L, 109L);
+            assertThat(adoption.getAdoptionDate()).isAfterOrEqualTo(adoption.getCat().getCreatedAt());
+        });
+    }
+
+    @Test
+    void generate_ShouldSpreadStatusesAndKeepCatsInsideGermany() {
+        generator(10, 4000, 1000, 7).generate();
+
+        long adopted = cats.stream().filter(cat -> cat.getStatus() == CatStatus.ADOPTED).count();
+        long available = cats.stream().filter(cat -> cat.getStatus() == CatStatus.AVAILABLE).count();
+        assertThat(adopted / 4000.0).isCloseTo(SyntheticDataGenerator.ADOPTED_SHARE, within(0.04));
+        assertThat(available / 4000.0).isCloseTo(0.55, within(0.04));
+        assertThat(cats).allSatisfy(cat -> {
+            assertThat(cat.getLatitude()).isBetween(SyntheticDataGenerator.MIN_LATITUDE, SyntheticDataGenerator.MAX_LATITUDE);
+            assertThat(cat.getLongitude()).isBetween(SyntheticDataGenerator.MIN_LONGITUDE, SyntheticDataGenerator.MAX_LONGITUDE);
+            assertThat(cat.getAge()).isBetween(0, 18);
+        });
+        long berlin = cats.stream().filter(cat -> cat.getAddress().endsWith(", Berlin")).count();
+        long freiburg = cats.stream().filter(cat -> cat.getAddress().endsWith(", Freiburg")).count();
+        assertThat(berlin).isGreaterThan(freiburg * 3);
+    }
+
+    @Test
+    void generate_ShouldBeReproducibleForTheSameSeed() {
+        generator(5, 200, 50, 11).generate();
+        List<String> first = cats.stream().map(cat -> cat.getName() + cat.getAddress() + cat.getStatus()).toList();
+        cats.clear();
+
+        generator(5, 200, 50, 11).generate();
+
+        assertThat(cats).extracting(cat -> cat.getName() + cat.getAddress() + cat.getStatus()).isEqualTo(first);
+    }
+
+    @Test
+    void generate_ShouldSkipWhenAnEarlierRunAlreadyGenerated() {
+        when(userRepository.existsByEmail(SyntheticDataGenerator.email(0))).thenReturn(true);
+
+        SyntheticDataGenerator.Result result = generator(10, 100, 50, 7).generate();
+
+        assertThat(result.cats()).isZero();
+        verifyNoInteractions(syntheticDataRepository, catBulkRepository, passwordEncoder);
+    }
+
+    @Test
+    void generate_ShouldFailWithoutBreeds() {
+        when(breedRepository.findAll()).thenReturn(List.of());
+
+        assertThatThrownBy(() -> generator(10, 100, 50, 7).generate())
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(syntheticDataRepository, catBulkRepository);
+    }
+
+    private SyntheticDataGenerator generator(int userCount, int catCount, int batchSize, long seed) {
+        return new SyntheticDataGenerator(userRepository, breedRepository, catBulkRepository, syntheticDataRepository,
+                passwordEncoder, new TransactionTemplate(transactionManager), userCount, catCount, batchSize, seed,
+                "password123");
+    }
+
+    private static Breed breed(String id) {
+        Breed breed = new Breed();
+        breed.setId(id);
+        breed.setName(id);
+        return breed;
+    }
+}